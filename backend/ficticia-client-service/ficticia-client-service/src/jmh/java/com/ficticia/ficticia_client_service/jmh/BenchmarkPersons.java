@@ -0,0 +1,85 @@
+package com.ficticia.ficticia_client_service.jmh;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ficticia.ficticia_client_service.api.dtos.AdditionalAttributeDto;
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+
+/**
+ * Builds the persons used as benchmark input, with a given number of additional attributes.
+ */
+final class BenchmarkPersons {
+
+    private BenchmarkPersons() {
+    }
+
+    /**
+     * Builds a request that passes validation.
+     *
+     * @param attributes number of additional attributes
+     * @param age        age of the person, so callers can build requests that differ in one field
+     * @return populated request
+     */
+    static PersonRequest request(final int attributes, final int age) {
+        PersonRequest request = new PersonRequest();
+        request.setFullName("Benchmark Person");
+        request.setIdentification("BENCH-1");
+        request.setAge(age);
+        request.setGender("FEMALE");
+        request.setActive(Boolean.TRUE);
+        request.setDrives(Boolean.FALSE);
+        request.setWearsGlasses(Boolean.TRUE);
+        request.setDiabetic(Boolean.TRUE);
+        request.setOtherDisease("none");
+        List<AdditionalAttributeDto> dtos = new ArrayList<>(attributes);
+        for (int index = 0; index < attributes; index++) {
+            AdditionalAttributeDto dto = new AdditionalAttributeDto();
+            dto.setKey("key-" + index);
+            dto.setValue("value-" + index);
+            dtos.add(dto);
+        }
+        request.setAdditionalAttributes(dtos);
+        return request;
+    }
+
+    /**
+     * Builds a managed-looking entity matching {@link #request(int, int)}, with identifiers and audit columns set.
+     *
+     * @param id         person identifier
+     * @param attributes number of additional attributes
+     * @param age        age of the person
+     * @return populated entity
+     */
+    static PersonEntity entity(final long id, final int attributes, final int age) {
+        PersonEntity person = PersonEntity.builder()
+                .id(id)
+                .fullName("Benchmark Person")
+                .identification("BENCH-" + id)
+                .age(age)
+                .gender("FEMALE")
+                .active(Boolean.TRUE)
+                .drives(Boolean.FALSE)
+                .wearsGlasses(Boolean.TRUE)
+                .diabetic(Boolean.TRUE)
+                .otherDisease("none")
+                .createdAt(Instant.EPOCH)
+                .updatedAt(Instant.EPOCH)
+                .version(1L)
+                .build();
+        List<PersonAdditionalAttributeEntity> rows = new ArrayList<>(attributes);
+        for (int index = 0; index < attributes; index++) {
+            rows.add(PersonAdditionalAttributeEntity.builder()
+                    .id(id * 1_000 + index)
+                    .person(person)
+                    .attrKey("key-" + index)
+                    .attrValue("value-" + index)
+                    .build());
+        }
+        person.setAdditionalAttributes(rows);
+        return person;
+    }
+}
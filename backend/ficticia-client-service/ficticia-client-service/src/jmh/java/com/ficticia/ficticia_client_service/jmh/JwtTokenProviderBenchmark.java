@@ -0,0 +1,84 @@
+package com.ficticia.ficticia_client_service.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.ficticia.ficticia_client_service.infrastructure.configs.JwtTokenProvider;
+
+/**
+ * Throughput of issuing tokens at login and of validating them on every authenticated request, with and
+ * without the verified-token cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-benchmark-secret-0123456789".getBytes(StandardCharsets.UTF_8));
+    private static final long ONE_HOUR_MILLIS = 3_600_000L;
+
+    private final List<GrantedAuthority> authorities =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider verifyingProvider;
+    private String token;
+
+    /**
+     * Creates one provider with the default cache and one that verifies the signature on every call.
+     */
+    @Setup
+    public void setUp() {
+        cachingProvider = new JwtTokenProvider(SECRET, ONE_HOUR_MILLIS, 10_000);
+        verifyingProvider = new JwtTokenProvider(SECRET, ONE_HOUR_MILLIS, 0);
+        token = cachingProvider.generateToken("benchmark", authorities);
+    }
+
+    /**
+     * Signs a new token.
+     *
+     * @return compact token
+     */
+    @Benchmark
+    public String generateToken() {
+        return cachingProvider.generateToken("benchmark", authorities);
+    }
+
+    /**
+     * Validates a token already verified once, served from the cache.
+     *
+     * @return whether the token is valid
+     */
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachingProvider.validateToken(token);
+    }
+
+    /**
+     * Validates a token by parsing it and checking its signature.
+     *
+     * @return whether the token is valid
+     */
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return verifyingProvider.validateToken(token);
+    }
+}
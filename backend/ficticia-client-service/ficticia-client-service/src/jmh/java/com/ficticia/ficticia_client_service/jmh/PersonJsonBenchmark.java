@@ -0,0 +1,73 @@
+package com.ficticia.ficticia_client_service.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Throughput of serializing a page of person responses, by number of additional attributes per person.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersonJsonBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"0", "10", "100"})
+    private int attributes;
+
+    private ObjectWriter writer;
+    private List<PersonResponse> page;
+
+    /**
+     * Builds a page of responses and a writer configured like the application's object mapper.
+     */
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, PersonResponse.class));
+        PersonMapper mapper = new PersonMapper();
+        page = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            page.add(mapper.toResponse(BenchmarkPersons.entity(id, attributes, 30)));
+        }
+    }
+
+    /**
+     * Serializes the page to UTF-8 bytes, as the message converter does.
+     *
+     * @return serialized page
+     * @throws JsonProcessingException when serialization fails
+     */
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ficticia.ficticia_client_service.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+
+/**
+ * Throughput of the conversions every person read and write goes through, by number of additional attributes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonMapperBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int attributes;
+
+    private final PersonMapper mapper = new PersonMapper();
+    private PersonEntity stored;
+    private PersonEntity updated;
+    private PersonRequest request;
+    private PersonRequest[] alternatingRequests;
+    private int nextRequest;
+
+    /**
+     * Builds the inputs for the configured number of attributes.
+     */
+    @Setup
+    public void setUp() {
+        stored = BenchmarkPersons.entity(1L, attributes, 30);
+        updated = BenchmarkPersons.entity(2L, attributes, 30);
+        request = BenchmarkPersons.request(attributes, 30);
+        alternatingRequests = new PersonRequest[] {
+            BenchmarkPersons.request(attributes, 31),
+            BenchmarkPersons.request(attributes, 30)
+        };
+    }
+
+    /**
+     * Maps a stored person into its API response.
+     *
+     * @return mapped response
+     */
+    @Benchmark
+    public PersonResponse toResponse() {
+        return mapper.toResponse(stored);
+    }
+
+    /**
+     * Maps a create request into a new entity.
+     *
+     * @return mapped entity
+     */
+    @Benchmark
+    public PersonEntity toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    /**
+     * Applies a request identical to the stored state, the no-op update path.
+     *
+     * @return whether the entity changed
+     */
+    @Benchmark
+    public boolean updateEntityUnchanged() {
+        return mapper.updateEntity(stored, request);
+    }
+
+    /**
+     * Applies a request that changes one column, alternating so every call is a real change.
+     *
+     * @return whether the entity changed
+     */
+    @Benchmark
+    public boolean updateEntityChanged() {
+        nextRequest ^= 1;
+        return mapper.updateEntity(updated, alternatingRequests[nextRequest]);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ficticia.ficticia_client_service.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.ficticia.ficticia_client_service.application.validators.DefaultPersonValidator;
+
+/**
+ * Throughput of the business rules checked on every person create, by number of additional attributes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonValidatorBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int attributes;
+
+    private final DefaultPersonValidator validator = new DefaultPersonValidator();
+    private PersonRequest request;
+
+    /**
+     * Builds a valid request for the configured number of attributes.
+     */
+    @Setup
+    public void setUp() {
+        request = BenchmarkPersons.request(attributes, 30);
+    }
+
+    /**
+     * Validates a request that passes every rule.
+     *
+     * @return the validated request
+     */
+    @Benchmark
+    public PersonRequest validateForCreate() {
+        validator.validateForCreate(request);
+        return request;
+    }
+}
@@ -1,6 +1,6 @@
 package com.ficticia.ficticia_client_service.api.controllers;
 
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,34 +9,100 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.CompositeHealth;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ficticia.ficticia_client_service.infrastructure.health.MailOutboxHealthIndicator;
+
 /**
- * Provides a lightweight endpoint to check service availability.
+ * Exposes the liveness and readiness health groups on the public port for load balancers that cannot reach
+ * the management port. Only statuses are returned; details stay on the actuator endpoint.
  */
 @RestController
 @RequestMapping("/api/health")
+@RequiredArgsConstructor
 @Tag(name = "Health", description = "Service availability endpoints")
 public class HealthController {
 
+    private static final String READINESS = "readiness";
+    private static final String LIVENESS = "liveness";
+
+    private final HealthEndpoint healthEndpoint;
+
     /**
-     * Reports the health status of the service.
+     * Reports whether the service can take traffic. Kept for clients of the original endpoint.
      *
-     * @return HTTP 200 response with a static UP indicator
+     * @return readiness status; HTTP 503 when a dependency is down or out of service
      */
-    @Operation(summary = "Health status", description = "Verifies whether the service is available")
+    @Operation(summary = "Health status", description = "Verifies whether the service can take traffic")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Service is up",
                     content = @Content(schema = @Schema(implementation = HealthResponse.class))),
-            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+            @ApiResponse(responseCode = "503", description = "Service cannot take traffic",
                     content = @Content(schema = @Schema(implementation = HealthResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<Map<String, String>> health() {
-        return ResponseEntity.ok(Collections.singletonMap("status", "UP"));
+    public ResponseEntity<Map<String, Object>> health() {
+        return readiness();
+    }
+
+    /**
+     * Reports whether the service can take traffic: the database answers within its budget, the connection
+     * pool is not saturated, the mail outbox is draining and the heap is not exhausted.
+     *
+     * @return readiness status with the status of each check; HTTP 503 when the service should not take traffic
+     */
+    @Operation(summary = "Readiness", description = "Checks the dependencies needed to serve requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Service can take traffic",
+                    content = @Content(schema = @Schema(implementation = HealthResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Service cannot take traffic",
+                    content = @Content(schema = @Schema(implementation = HealthResponse.class)))
+    })
+    @GetMapping("/readiness")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        return toResponse(healthEndpoint.healthForPath(READINESS), true);
+    }
+
+    /**
+     * Reports whether the process is alive. Dependencies are not checked, so an outage of the database does not
+     * get every instance restarted.
+     *
+     * @return liveness status; HTTP 503 when the instance should be restarted
+     */
+    @Operation(summary = "Liveness", description = "Checks whether the process is alive")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Process is alive",
+                    content = @Content(schema = @Schema(implementation = HealthResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Process should be restarted",
+                    content = @Content(schema = @Schema(implementation = HealthResponse.class)))
+    })
+    @GetMapping("/liveness")
+    public ResponseEntity<Map<String, Object>> liveness() {
+        return toResponse(healthEndpoint.healthForPath(LIVENESS), false);
+    }
+
+    private ResponseEntity<Map<String, Object>> toResponse(final HealthComponent health,
+                                                           final boolean includeComponents) {
+        Status status = health == null ? Status.UNKNOWN : health.getStatus();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status.getCode());
+        if (includeComponents && health instanceof CompositeHealth composite && composite.getComponents() != null) {
+            Map<String, String> components = new LinkedHashMap<>();
+            composite.getComponents().forEach((name, component) ->
+                    components.put(name, component.getStatus().getCode()));
+            body.put("components", components);
+        }
+        boolean available = Status.UP.equals(status) || MailOutboxHealthIndicator.DEGRADED.equals(status);
+        return ResponseEntity.status(available ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(body);
     }
 
     /**
@@ -46,5 +112,8 @@ public class HealthController {
     private static class HealthResponse {
         @Schema(description = "Current service status", example = "UP")
         private String status;
+
+        @Schema(description = "Status of each readiness check", example = "{\"database\":\"UP\"}")
+        private Map<String, String> components;
     }
 }
@@ -0,0 +1,174 @@
+package com.ficticia.ficticia_client_service.api.controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+import com.ficticia.ficticia_client_service.api.dtos.ErrorResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+import com.ficticia.ficticia_client_service.api.dtos.PersonJobResponse;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobType;
+import com.ficticia.ficticia_client_service.application.services.PersonJobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Exposes REST endpoints to submit and track asynchronous bulk jobs over persons.
+ */
+@RestController
+@CrossOrigin(origins = "http://localhost:4200")
+@RequestMapping("/api/jobs")
+@Tag(name = "Jobs", description = "Asynchronous bulk imports and updates of persons")
+public class JobController {
+
+    private final PersonJobService personJobService;
+
+    /**
+     * Creates a new {@link JobController} with the required dependencies.
+     *
+     * @param personJobService service managing bulk jobs
+     */
+    public JobController(final PersonJobService personJobService) {
+        this.personJobService = personJobService;
+    }
+
+    /**
+     * Submits a bulk job whose records are taken from the request body.
+     *
+     * @param type        what the job does with each record
+     * @param format      format of the request body
+     * @param inputStream raw request body
+     * @return HTTP 202 response with the queued job and its location
+     * @throws IOException when the request body cannot be stored
+     */
+    @Operation(summary = "Submit job",
+            description = "Stores the uploaded NDJSON or CSV file and processes it in the background")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued",
+                    content = @Content(schema = @Schema(implementation = PersonJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid job type or format",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Job queue is full",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping
+    public ResponseEntity<PersonJobResponse> submitJob(
+            @Parameter(in = ParameterIn.QUERY, description = "What the job does with each record")
+            @RequestParam(name = "type", defaultValue = "IMPORT") final PersonJobType type,
+            @Parameter(in = ParameterIn.QUERY, description = "Format of the request body")
+            @RequestParam(name = "format", defaultValue = "NDJSON") final PersonExportFormat format,
+            final InputStream inputStream) throws IOException {
+        PersonJobResponse job = personJobService.submitJob(type, format, inputStream);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    /**
+     * Retrieves the state and progress of a job.
+     *
+     * @param id job identifier
+     * @return HTTP 200 response with the job state
+     */
+    @Operation(summary = "Get job", description = "Retrieves rows done, rows failed, throughput and ETA of a job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PersonJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<PersonJobResponse> getJob(
+            @Parameter(in = ParameterIn.PATH, description = "Unique identifier of the job", required = true)
+            @PathVariable("id") final Long id) {
+        return ResponseEntity.ok(personJobService.getJob(id));
+    }
+
+    /**
+     * Lists the records rejected by a job.
+     *
+     * @param id job identifier
+     * @return HTTP 200 response with the rejected records
+     */
+    @Operation(summary = "List job errors", description = "Lists the records rejected by a job in input order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Errors retrieved successfully",
+                    content = @Content(array = @ArraySchema(
+                            schema = @Schema(implementation = PersonImportError.class)))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<List<PersonImportError>> getJobErrors(
+            @Parameter(in = ParameterIn.PATH, description = "Unique identifier of the job", required = true)
+            @PathVariable("id") final Long id) {
+        return ResponseEntity.ok(personJobService.getJobErrors(id));
+    }
+
+    /**
+     * Cancels a queued job or stops a running one after its current chunk.
+     *
+     * @param id job identifier
+     * @return HTTP 200 response with the job state
+     */
+    @Operation(summary = "Cancel job", description = "Cancels a queued job or stops a running one after its chunk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancellation accepted",
+                    content = @Content(schema = @Schema(implementation = PersonJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Job already finished",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<PersonJobResponse> cancelJob(
+            @Parameter(in = ParameterIn.PATH, description = "Unique identifier of the job", required = true)
+            @PathVariable("id") final Long id) {
+        return ResponseEntity.ok(personJobService.cancelJob(id));
+    }
+
+    /**
+     * Resumes a failed or cancelled job from its last committed chunk.
+     *
+     * @param id job identifier
+     * @return HTTP 200 response with the job state
+     */
+    @Operation(summary = "Resume job", description = "Queues a failed or cancelled job again from its last chunk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job queued again",
+                    content = @Content(schema = @Schema(implementation = PersonJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Job cannot be resumed",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Job queue is full",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<PersonJobResponse> resumeJob(
+            @Parameter(in = ParameterIn.PATH, description = "Unique identifier of the job", required = true)
+            @PathVariable("id") final Long id) {
+        return ResponseEntity.ok(personJobService.resumeJob(id));
+    }
+}
@@ -1,12 +1,35 @@
 package com.ficticia.ficticia_client_service.api.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import com.ficticia.ficticia_client_service.api.dtos.ErrorResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportReport;
+import com.ficticia.ficticia_client_service.api.dtos.PersonPageResponse;
 import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
 import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryPageResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryResponse;
+import com.ficticia.ficticia_client_service.api.exception.PreconditionFailedException;
+import com.ficticia.ficticia_client_service.api.exception.PreconditionRequiredException;
+import com.ficticia.ficticia_client_service.application.cache.ResourceVersion;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSortKey;
+import com.ficticia.ficticia_client_service.application.patch.JsonMergePatch;
+import com.ficticia.ficticia_client_service.application.projection.PersonSummaryField;
+import com.ficticia.ficticia_client_service.application.services.PersonExportService;
+import com.ficticia.ficticia_client_service.application.services.PersonImportService;
 import com.ficticia.ficticia_client_service.application.services.PersonService;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,21 +41,34 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * Exposes REST endpoints to manage person resources while delegating business logic to the application layer.
+ *
+ * <p>Single persons and listings carry strong entity tags. Conditional requests are answered from the row
+ * versions alone, so a 304 costs neither the attribute load nor JSON serialization.</p>
  */
 @RestController
 @CrossOrigin(origins = "http://localhost:4200")
@@ -41,45 +77,283 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 @Tag(name = "Persons", description = "Operations related to person resources")
 public class PersonController {
 
+    private static final String DEPRECATION_HEADER = "Deprecation";
+
     private final PersonService personService;
+    private final PersonExportService personExportService;
+    private final PersonImportService personImportService;
 
     /**
      * Creates a new {@link PersonController} with the required dependencies.
      *
-     * @param personService service orchestrating person use cases
+     * @param personService       service orchestrating person use cases
+     * @param personExportService service streaming full person extracts
+     * @param personImportService service importing persons in bulk
      */
-    public PersonController(final PersonService personService) {
+    public PersonController(final PersonService personService,
+                            final PersonExportService personExportService,
+                            final PersonImportService personImportService) {
         this.personService = personService;
+        this.personExportService = personExportService;
+        this.personImportService = personImportService;
     }
 
     /**
-     * Retrieves all person records.
+     * Retrieves person records, bounded to the configured maximum list size.
      *
-     * @return HTTP 200 response with the collection returned by the service
+     * @param webRequest current request, used to evaluate {@code If-None-Match}
+     * @return HTTP 200 response with the collection returned by the service, or HTTP 304 when unchanged
+     * @deprecated use {@link #getPersonsPage(String, Integer, PersonSortKey, WebRequest)} instead
      */
-    @Operation(summary = "List persons", description = "Retrieves the complete collection of persons")
+    @Deprecated
+    @Operation(summary = "List persons", deprecated = true,
+            description = "Retrieves persons ordered by identifier, truncated to the configured maximum. "
+                    + "Use the paginated listing to walk the full collection.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Persons retrieved successfully",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = PersonResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "Listing unchanged since the provided entity tag"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<List<PersonResponse>> getPersons() {
+    public ResponseEntity<List<PersonResponse>> getPersons(final WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            ResourceVersion current = personService.getAllPersonsVersion();
+            if (webRequest.checkNotModified(current.getETag())) {
+                return deprecated(notModifiedBuilder(current)).build();
+            }
+        }
         List<PersonResponse> persons = personService.getAllPersons();
-        return ResponseEntity.ok(persons);
+        ResourceVersion version = ResourceVersion.ofCollection(
+                persons, PersonResponse::getId, PersonResponse::getVersion, false);
+        return deprecated(ResponseEntity.ok())
+                .eTag(version.getETag())
+                .body(persons);
+    }
+
+    /**
+     * Retrieves a single keyset page of persons.
+     *
+     * @param cursor     continuation token returned by the previous page
+     * @param size       requested page size
+     * @param sort       ordering applied to the listing
+     * @param webRequest current request, used to evaluate {@code If-None-Match}
+     * @return HTTP 200 response with the requested page, or HTTP 304 when unchanged
+     */
+    @Operation(summary = "List persons page",
+            description = "Retrieves persons using keyset pagination; pass nextCursor back to read the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PersonPageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the provided entity tag"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/page")
+    public ResponseEntity<PersonPageResponse> getPersonsPage(
+            @Parameter(in = ParameterIn.QUERY, description = "Continuation token returned by the previous page")
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @Parameter(in = ParameterIn.QUERY, description = "Maximum number of persons to return")
+            @RequestParam(name = "size", required = false) final Integer size,
+            @Parameter(in = ParameterIn.QUERY, description = "Ordering applied to the listing")
+            @RequestParam(name = "sort", defaultValue = "ID") final PersonSortKey sort,
+            final WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            ResourceVersion current = personService.getPersonsPageVersion(cursor, size, sort);
+            if (webRequest.checkNotModified(current.getETag())) {
+                return notModified(current);
+            }
+        }
+        PersonPageResponse page = personService.getPersonsPage(cursor, size, sort);
+        ResourceVersion version = ResourceVersion.ofCollection(
+                page.getItems(), PersonResponse::getId, PersonResponse::getVersion, page.isHasMore());
+        return withValidators(version, page);
+    }
+
+    /**
+     * Retrieves a single keyset page of persons restricted to list view fields.
+     *
+     * @param cursor     continuation token returned by the previous page
+     * @param size       requested page size
+     * @param sort       ordering applied to the listing
+     * @param fields     comma-separated fields to return
+     * @param webRequest current request, used to evaluate {@code If-None-Match}
+     * @return HTTP 200 response with the requested page, or HTTP 304 when unchanged
+     */
+    @Operation(summary = "List persons page with selected fields",
+            description = "Same listing as the page endpoint, read through a projection without loading additional "
+                    + "attributes; id and version are always returned. Every list view column is still read from "
+                    + "the database, so the selection only reduces the response size")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PersonSummaryPageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the provided entity tag"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, page size or field",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(path = "/page", params = "fields")
+    public ResponseEntity<PersonSummaryPageResponse> getPersonSummariesPage(
+            @Parameter(in = ParameterIn.QUERY, description = "Continuation token returned by the previous page")
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @Parameter(in = ParameterIn.QUERY, description = "Maximum number of persons to return")
+            @RequestParam(name = "size", required = false) final Integer size,
+            @Parameter(in = ParameterIn.QUERY, description = "Ordering applied to the listing")
+            @RequestParam(name = "sort", defaultValue = "ID") final PersonSortKey sort,
+            @Parameter(in = ParameterIn.QUERY,
+                    description = "Fields to return: fullName, identification, age, gender, active. "
+                            + "Trims the response only; the query reads every list view column")
+            @RequestParam(name = "fields") final String fields,
+            final WebRequest webRequest) {
+        Set<PersonSummaryField> selectedFields = PersonSummaryField.parse(fields);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            ResourceVersion current = personService.getPersonsPageVersion(cursor, size, sort);
+            if (webRequest.checkNotModified(current.getETag())) {
+                return notModified(current);
+            }
+        }
+        PersonSummaryPageResponse page = personService.getPersonSummariesPage(cursor, size, sort, selectedFields);
+        ResourceVersion version = ResourceVersion.ofCollection(
+                page.getItems(), PersonSummaryResponse::getId, PersonSummaryResponse::getVersion, page.isHasMore());
+        return withValidators(version, page);
+    }
+
+    /**
+     * Searches persons applying filters, sorting and pagination on the server.
+     *
+     * @param searchRequest optional filters together with page, size and sort
+     * @return HTTP 200 response with the requested page of matches
+     */
+    @Operation(summary = "Search persons",
+            description = "Filters persons by name, identification, gender, flags and age range with sorting and "
+                    + "pagination executed by the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search executed successfully",
+                    content = @Content(schema = @Schema(implementation = PersonSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid search parameters",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<PersonSearchResponse> searchPersons(
+            @Valid @ParameterObject final PersonSearchRequest searchRequest) {
+        PersonSearchResponse result = personService.searchPersons(searchRequest);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Retrieves several persons by identifier in one call.
+     *
+     * @param batchRequest identifiers to resolve, in the order they should be returned
+     * @return HTTP 200 response with the persons found and the identifiers that do not exist
+     */
+    @Operation(summary = "Batch get persons",
+            description = "Resolves up to the configured maximum number of persons by identifier with two queries; "
+                    + "results keep the request order and unknown identifiers are listed as missing")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Persons resolved successfully",
+                    content = @Content(schema = @Schema(implementation = PersonBatchGetResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty batch or more identifiers than allowed",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<PersonBatchGetResponse> getPersonsByIds(
+            @Valid @RequestBody final PersonBatchGetRequest batchRequest) {
+        PersonBatchGetResponse result = personService.getPersonsByIds(batchRequest.getIds());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Streams every person with its additional attributes as NDJSON or CSV.
+     *
+     * @param format output format
+     * @param gzip   whether the body should be gzip-compressed
+     * @return HTTP 200 response whose body is written while the rows are read from the database
+     */
+    @Operation(summary = "Export persons",
+            description = "Streams the full person book with additional attributes; memory usage does not depend "
+                    + "on the number of persons")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Unsupported export format",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPersons(
+            @Parameter(in = ParameterIn.QUERY, description = "Output format")
+            @RequestParam(name = "format", defaultValue = "NDJSON") final PersonExportFormat format,
+            @Parameter(in = ParameterIn.QUERY, description = "Compress the body with gzip")
+            @RequestParam(name = "gzip", defaultValue = "false") final boolean gzip) {
+        StreamingResponseBody body = outputStream -> {
+            if (!gzip) {
+                personExportService.exportPersons(format, outputStream);
+                return;
+            }
+            try (OutputStream compressed = new GZIPOutputStream(outputStream, 64 * 1024)) {
+                personExportService.exportPersons(format, compressed);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("persons." + format.getFileExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Imports persons in bulk from an NDJSON or CSV request body.
+     *
+     * @param format      format of the request body
+     * @param inputStream raw request body, read record by record
+     * @return HTTP 200 response with counters, throughput and the rejected rows
+     * @throws IOException when the request body cannot be read
+     */
+    @Operation(summary = "Import persons",
+            description = "Validates and inserts persons in chunks using the export layout; rejected rows are "
+                    + "reported without aborting the rest of the import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed",
+                    content = @Content(schema = @Schema(implementation = PersonImportReport.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported format or missing CSV header",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/import")
+    public ResponseEntity<PersonImportReport> importPersons(
+            @Parameter(in = ParameterIn.QUERY, description = "Format of the request body")
+            @RequestParam(name = "format", defaultValue = "NDJSON") final PersonExportFormat format,
+            final InputStream inputStream) throws IOException {
+        PersonImportReport report = personImportService.importPersons(format, inputStream);
+        return ResponseEntity.ok(report);
     }
 
     /**
      * Retrieves a single person by identifier.
      *
-     * @param id unique identifier of the person
-     * @return HTTP 200 response containing the resolved person
+     * @param id         unique identifier of the person
+     * @param webRequest current request, used to evaluate {@code If-None-Match} and {@code If-Modified-Since}
+     * @return HTTP 200 response containing the resolved person, or HTTP 304 when unchanged
      */
     @Operation(summary = "Get person", description = "Retrieves a single person by identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Person retrieved successfully",
                     content = @Content(schema = @Schema(implementation = PersonResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Person unchanged since the provided validators"),
             @ApiResponse(responseCode = "404", description = "Person not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Unexpected server error",
@@ -88,9 +362,17 @@ public class PersonController {
     @GetMapping("/{id}")
     public ResponseEntity<PersonResponse> getPerson(
             @Parameter(in = ParameterIn.PATH, description = "Unique identifier of the person", required = true)
-            @PathVariable("id") final Long id) {
+            @PathVariable("id") final Long id,
+            final WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            ResourceVersion current = personService.getPersonVersion(id);
+            if (webRequest.checkNotModified(current.getETag(), current.getLastModifiedMillis())) {
+                return notModified(current);
+            }
+        }
         PersonResponse person = personService.getPersonById(id);
-        return ResponseEntity.ok(person);
+        return withValidators(ResourceVersion.of(person.getVersion(), person.getUpdatedAt()), person);
     }
 
     /**
@@ -121,13 +403,16 @@ public class PersonController {
     }
 
     /**
-     * Updates an existing person.
+     * Updates an existing person, provided it was not modified since the client read it.
      *
      * @param id            identifier of the person that should be updated
+     * @param ifMatch       entity tag of the person the changes are based on, or {@code *}
      * @param personRequest request payload containing the new person information
-     * @return HTTP 200 response with the updated person
+     * @return HTTP 200 response with the updated person and its new entity tag
      */
-    @Operation(summary = "Update person", description = "Updates the attributes of an existing person")
+    @Operation(summary = "Update person",
+            description = "Updates the attributes of an existing person. The If-Match header must carry the "
+                    + "entity tag returned when the person was read, or * to overwrite unconditionally")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Person updated successfully",
                     content = @Content(schema = @Schema(implementation = PersonResponse.class))),
@@ -137,6 +422,10 @@ public class PersonController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "409", description = "Business rule violation",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "Person modified since the provided entity tag",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "428", description = "If-Match header missing",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Unexpected server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -144,9 +433,52 @@ public class PersonController {
     public ResponseEntity<PersonResponse> updatePerson(
             @Parameter(in = ParameterIn.PATH, description = "Unique identifier of the person", required = true)
             @PathVariable("id") final Long id,
+            @Parameter(in = ParameterIn.HEADER, description = "Entity tag of the person being replaced, or *",
+                    required = true)
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @Valid @RequestBody final PersonRequest personRequest) {
-        PersonResponse updatedPerson = personService.updatePerson(id, personRequest);
-        return ResponseEntity.ok(updatedPerson);
+        PersonResponse updatedPerson = personService.updatePerson(id, personRequest, expectedVersion(ifMatch));
+        return withValidators(ResourceVersion.of(updatedPerson.getVersion(), updatedPerson.getUpdatedAt()),
+                updatedPerson);
+    }
+
+    /**
+     * Applies a JSON Merge Patch to an existing person, provided it was not modified since the client read it.
+     *
+     * @param id      identifier of the person that should be patched
+     * @param ifMatch entity tag of the person the changes are based on, or {@code *}
+     * @param patch   merge patch document; members set to {@code null} are cleared
+     * @return HTTP 200 response with the updated person and its new entity tag
+     */
+    @Operation(summary = "Patch person",
+            description = "Changes only the members present in the JSON Merge Patch (RFC 7386). Additional "
+                    + "attributes are replaced as a list but stored by key, so unchanged attributes are not "
+                    + "rewritten. The If-Match header must carry the entity tag returned when the person was read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Person patched successfully",
+                    content = @Content(schema = @Schema(implementation = PersonResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Patched person is invalid",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Person not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "Person modified since the provided entity tag",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "428", description = "If-Match header missing",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PatchMapping(path = "/{id}", consumes = JsonMergePatch.MEDIA_TYPE)
+    public ResponseEntity<PersonResponse> patchPerson(
+            @Parameter(in = ParameterIn.PATH, description = "Unique identifier of the person", required = true)
+            @PathVariable("id") final Long id,
+            @Parameter(in = ParameterIn.HEADER, description = "Entity tag of the person being patched, or *",
+                    required = true)
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @RequestBody final JsonNode patch) {
+        PersonResponse patchedPerson = personService.patchPerson(id, patch, expectedVersion(ifMatch));
+        return withValidators(ResourceVersion.of(patchedPerson.getVersion(), patchedPerson.getUpdatedAt()),
+                patchedPerson);
     }
 
     /**
@@ -170,4 +502,43 @@ public class PersonController {
         personService.deletePerson(id);
         return ResponseEntity.noContent().build();
     }
+
+    private Long expectedVersion(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequiredException("If-Match header with the person's entity tag is required");
+        }
+        if ("*".equals(ifMatch.trim())) {
+            return null;
+        }
+        // Weak or unknown tags never match a strong comparison
+        return ResourceVersion.parseVersion(ifMatch)
+                .orElseThrow(() -> new PreconditionFailedException("If-Match does not match the current person"));
+    }
+
+    private <T> ResponseEntity<T> withValidators(final ResourceVersion version, final T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(version.getETag());
+        if (version.getLastModified() != null) {
+            response.lastModified(version.getLastModified());
+        }
+        return response.body(body);
+    }
+
+    private <T> ResponseEntity<T> notModified(final ResourceVersion version) {
+        return notModifiedBuilder(version).build();
+    }
+
+    private ResponseEntity.BodyBuilder notModifiedBuilder(final ResourceVersion version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version.getETag());
+        if (version.getLastModified() != null) {
+            response.lastModified(version.getLastModified());
+        }
+        return response;
+    }
+
+    // Sent on every response of the legacy listing, 304 included, so cached clients still see the notice
+    private ResponseEntity.BodyBuilder deprecated(final ResponseEntity.BodyBuilder response) {
+        return response
+                .header(DEPRECATION_HEADER, "true")
+                .header(HttpHeaders.LINK, "</api/persons/page>; rel=\"successor-version\"");
+    }
 }
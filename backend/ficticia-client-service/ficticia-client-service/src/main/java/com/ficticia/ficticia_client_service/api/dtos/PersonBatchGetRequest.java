@@ -0,0 +1,40 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Represents the identifiers requested through the person batch read endpoint.
+ */
+public class PersonBatchGetRequest {
+
+    @NotEmpty
+    private List<@NotNull Long> ids;
+
+    /**
+     * Creates an empty {@link PersonBatchGetRequest} instance.
+     */
+    public PersonBatchGetRequest() {
+        // Default constructor for serialization frameworks.
+    }
+
+    /**
+     * Retrieves the requested identifiers.
+     *
+     * @return identifiers in the order the caller wants them back
+     */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    /**
+     * Sets the requested identifiers.
+     *
+     * @param ids identifiers in the order the caller wants them back
+     */
+    public void setIds(final List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the persons resolved by a batch read, in request order, together with the identifiers that do not
+ * exist.
+ */
+public class PersonBatchGetResponse {
+
+    private List<PersonResponse> items = new ArrayList<>();
+    private List<Long> missingIds = new ArrayList<>();
+
+    /**
+     * Creates an empty {@link PersonBatchGetResponse} instance.
+     */
+    public PersonBatchGetResponse() {
+        // Default constructor for serialization frameworks.
+    }
+
+    /**
+     * Retrieves the persons found, in the order their identifiers were requested.
+     *
+     * @return list of persons
+     */
+    public List<PersonResponse> getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the persons found, in the order their identifiers were requested.
+     *
+     * @param items list of persons
+     */
+    public void setItems(final List<PersonResponse> items) {
+        this.items = items;
+    }
+
+    /**
+     * Retrieves the requested identifiers that do not match any person.
+     *
+     * @return missing identifiers in request order
+     */
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    /**
+     * Sets the requested identifiers that do not match any person.
+     *
+     * @param missingIds missing identifiers in request order
+     */
+    public void setMissingIds(final List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
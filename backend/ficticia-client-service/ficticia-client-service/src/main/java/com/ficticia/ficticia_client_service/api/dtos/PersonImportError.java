@@ -0,0 +1,88 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+/**
+ * Describes a record of a bulk import that was rejected.
+ */
+public class PersonImportError {
+
+    private long line;
+    private String identification;
+    private String message;
+
+    /**
+     * Creates an empty {@link PersonImportError} instance.
+     */
+    public PersonImportError() {
+        // Default constructor for serialization frameworks.
+    }
+
+    /**
+     * Builds a new {@link PersonImportError} with the provided values.
+     *
+     * @param line           line where the rejected record starts
+     * @param identification identification of the record, when known
+     * @param message        reason why the record was rejected
+     * @return populated error
+     */
+    public static PersonImportError of(final long line, final String identification, final String message) {
+        PersonImportError error = new PersonImportError();
+        error.setLine(line);
+        error.setIdentification(identification);
+        error.setMessage(message);
+        return error;
+    }
+
+    /**
+     * Retrieves the line where the rejected record starts.
+     *
+     * @return one-based line number
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Sets the line where the rejected record starts.
+     *
+     * @param line one-based line number
+     */
+    public void setLine(final long line) {
+        this.line = line;
+    }
+
+    /**
+     * Retrieves the identification of the rejected record.
+     *
+     * @return identification or {@code null} when it could not be read
+     */
+    public String getIdentification() {
+        return identification;
+    }
+
+    /**
+     * Sets the identification of the rejected record.
+     *
+     * @param identification identification value
+     */
+    public void setIdentification(final String identification) {
+        this.identification = identification;
+    }
+
+    /**
+     * Retrieves the reason why the record was rejected.
+     *
+     * @return error message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets the reason why the record was rejected.
+     *
+     * @param message error message
+     */
+    public void setMessage(final String message) {
+        this.message = message;
+    }
+}
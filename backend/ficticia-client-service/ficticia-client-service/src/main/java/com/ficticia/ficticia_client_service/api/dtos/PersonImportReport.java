@@ -0,0 +1,151 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summarizes the outcome of a bulk person import, including rejected rows and throughput.
+ */
+public class PersonImportReport {
+
+    private long received;
+    private long imported;
+    private long failed;
+    private long durationMillis;
+    private double rowsPerSecond;
+    private List<PersonImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    /**
+     * Creates an empty {@link PersonImportReport} instance.
+     */
+    public PersonImportReport() {
+        // Default constructor for serialization frameworks.
+    }
+
+    /**
+     * Retrieves the number of records read from the input.
+     *
+     * @return received records
+     */
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * Sets the number of records read from the input.
+     *
+     * @param received received records
+     */
+    public void setReceived(final long received) {
+        this.received = received;
+    }
+
+    /**
+     * Retrieves the number of persons inserted.
+     *
+     * @return imported persons
+     */
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * Sets the number of persons inserted.
+     *
+     * @param imported imported persons
+     */
+    public void setImported(final long imported) {
+        this.imported = imported;
+    }
+
+    /**
+     * Retrieves the number of rejected records.
+     *
+     * @return rejected records
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Sets the number of rejected records.
+     *
+     * @param failed rejected records
+     */
+    public void setFailed(final long failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * Retrieves the wall-clock duration of the import.
+     *
+     * @return duration in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Sets the wall-clock duration of the import.
+     *
+     * @param durationMillis duration in milliseconds
+     */
+    public void setDurationMillis(final long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Retrieves the number of records processed per second.
+     *
+     * @return throughput in records per second
+     */
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    /**
+     * Sets the number of records processed per second.
+     *
+     * @param rowsPerSecond throughput in records per second
+     */
+    public void setRowsPerSecond(final double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    /**
+     * Retrieves the rejected records, capped at the configured maximum.
+     *
+     * @return rejected records
+     */
+    public List<PersonImportError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Sets the rejected records.
+     *
+     * @param errors rejected records
+     */
+    public void setErrors(final List<PersonImportError> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Indicates whether more records failed than the errors list shows.
+     *
+     * @return {@code true} when errors were omitted from the report
+     */
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    /**
+     * Sets whether more records failed than the errors list shows.
+     *
+     * @param errorsTruncated flag indicating omitted errors
+     */
+    public void setErrorsTruncated(final boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
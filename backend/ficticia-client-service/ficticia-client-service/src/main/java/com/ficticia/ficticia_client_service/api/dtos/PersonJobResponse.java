@@ -0,0 +1,38 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import java.time.Instant;
+
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobStatus;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the state and progress of a bulk job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonJobResponse {
+
+    private Long id;
+    private PersonJobType type;
+    private PersonJobStatus status;
+    private PersonExportFormat format;
+    private Long totalRows;
+    private long processedRows;
+    private long appliedRows;
+    private long failedRows;
+    private double rowsPerSecond;
+    private Long etaSeconds;
+    private boolean cancelRequested;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -1,5 +1,6 @@
 package com.ficticia.ficticia_client_service.api.dtos;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -18,6 +19,8 @@ public class PersonResponse {
     private Boolean diabetic;
     private String otherDisease;
     private List<AdditionalAttributeDto> additionalAttributes;
+    private Long version;
+    private Instant updatedAt;
 
     /**
      * Creates an empty {@link PersonResponse} instance.
@@ -223,4 +226,40 @@ public class PersonResponse {
     public void setAdditionalAttributes(final List<AdditionalAttributeDto> additionalAttributes) {
         this.additionalAttributes = additionalAttributes;
     }
+
+    /**
+     * Retrieves the row version, also sent as the entity tag.
+     *
+     * @return row version
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the row version.
+     *
+     * @param version row version
+     */
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Retrieves the last modification timestamp.
+     *
+     * @return last modification timestamp
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Sets the last modification timestamp.
+     *
+     * @param updatedAt last modification timestamp
+     */
+    public void setUpdatedAt(final Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
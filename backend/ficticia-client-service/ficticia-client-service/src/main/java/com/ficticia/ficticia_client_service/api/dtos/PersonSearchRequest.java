@@ -0,0 +1,76 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import org.springframework.data.domain.Sort;
+
+import com.ficticia.ficticia_client_service.application.pagination.PersonSearchSort;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the query parameters accepted by the person search endpoint. Every filter is optional.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonSearchRequest {
+
+    /**
+     * Matching strategies for the full name filter.
+     */
+    public enum NameMatch {
+        /** Full name starts with the value; served by the full name index. */
+        PREFIX,
+        /** Full name contains the value anywhere; requires scanning the filtered rows. */
+        CONTAINS
+    }
+
+    @Size(max = 150)
+    private String query;
+
+    @Size(max = 150)
+    private String fullName;
+
+    @Builder.Default
+    private NameMatch fullNameMatch = NameMatch.PREFIX;
+
+    @Size(max = 50)
+    private String identification;
+
+    private String gender;
+
+    private Boolean active;
+
+    private Boolean drives;
+
+    private Boolean wearsGlasses;
+
+    private Boolean diabetic;
+
+    @Min(0)
+    @Max(150)
+    private Integer minAge;
+
+    @Min(0)
+    @Max(150)
+    private Integer maxAge;
+
+    @Builder.Default
+    @Min(0)
+    private int page = 0;
+
+    @Min(1)
+    private Integer size;
+
+    @Builder.Default
+    private PersonSearchSort sort = PersonSearchSort.ID;
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+}
@@ -0,0 +1,96 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import java.util.List;
+
+/**
+ * Represents one page of person search results.
+ *
+ * <p>The response exposes {@code hasNext} instead of a total count so the database never has to count
+ * every matching row.</p>
+ */
+public class PersonSearchResponse {
+
+    private List<PersonResponse> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    /**
+     * Creates an empty {@link PersonSearchResponse} instance.
+     */
+    public PersonSearchResponse() {
+        // Default constructor for serialization frameworks.
+    }
+
+    /**
+     * Retrieves the persons matching the search in the requested page.
+     *
+     * @return list of persons
+     */
+    public List<PersonResponse> getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the persons matching the search in the requested page.
+     *
+     * @param items list of persons
+     */
+    public void setItems(final List<PersonResponse> items) {
+        this.items = items;
+    }
+
+    /**
+     * Retrieves the zero-based page index.
+     *
+     * @return page index
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Sets the zero-based page index.
+     *
+     * @param page page index
+     */
+    public void setPage(final int page) {
+        this.page = page;
+    }
+
+    /**
+     * Retrieves the page size applied to the search.
+     *
+     * @return effective page size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the page size applied to the search.
+     *
+     * @param size effective page size
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Indicates whether another page of results exists.
+     *
+     * @return {@code true} when the next page has results
+     */
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Sets whether another page of results exists.
+     *
+     * @param hasNext flag indicating remaining results
+     */
+    public void setHasNext(final boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
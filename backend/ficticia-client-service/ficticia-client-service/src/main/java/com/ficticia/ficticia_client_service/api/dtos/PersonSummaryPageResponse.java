@@ -0,0 +1,93 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import java.util.List;
+
+/**
+ * Represents a single page of the keyset-paginated person listing restricted to the selected summary fields.
+ */
+public class PersonSummaryPageResponse {
+
+    private List<PersonSummaryResponse> items;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor;
+
+    /**
+     * Creates an empty {@link PersonSummaryPageResponse} instance.
+     */
+    public PersonSummaryPageResponse() {
+        // Default constructor for serialization frameworks.
+    }
+
+    /**
+     * Retrieves the persons contained in the page.
+     *
+     * @return list of persons
+     */
+    public List<PersonSummaryResponse> getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the persons contained in the page.
+     *
+     * @param items list of persons
+     */
+    public void setItems(final List<PersonSummaryResponse> items) {
+        this.items = items;
+    }
+
+    /**
+     * Retrieves the page size applied to the request.
+     *
+     * @return effective page size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the page size applied to the request.
+     *
+     * @param size effective page size
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Indicates whether more persons exist after this page.
+     *
+     * @return {@code true} when another page can be requested
+     */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    /**
+     * Sets whether more persons exist after this page.
+     *
+     * @param hasMore flag indicating remaining persons
+     */
+    public void setHasMore(final boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Retrieves the opaque token used to request the next page.
+     *
+     * @return continuation token, or {@code null} on the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Sets the opaque token used to request the next page.
+     *
+     * @param nextCursor continuation token
+     */
+    public void setNextCursor(final String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,152 @@
+package com.ficticia.ficticia_client_service.api.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents the list view of a person. The identifier and version are always set; of the other fields only those
+ * selected by the caller are, and the rest are left out of the JSON payload.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PersonSummaryResponse {
+
+    private Long id;
+    private Long version;
+    private String fullName;
+    private String identification;
+    private Integer age;
+    private String gender;
+    private Boolean active;
+
+    /**
+     * Creates an empty {@link PersonSummaryResponse} instance.
+     */
+    public PersonSummaryResponse() {
+        // Default constructor for serialization frameworks.
+    }
+
+    /**
+     * Retrieves the person identifier.
+     *
+     * @return identifier
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the person identifier.
+     *
+     * @param id identifier
+     */
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the version of the person, usable as {@code If-Match} value when editing it.
+     *
+     * @return version
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the person.
+     *
+     * @param version version
+     */
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Retrieves the full name.
+     *
+     * @return full name, or {@code null} when not selected
+     */
+    public String getFullName() {
+        return fullName;
+    }
+
+    /**
+     * Sets the full name.
+     *
+     * @param fullName full name
+     */
+    public void setFullName(final String fullName) {
+        this.fullName = fullName;
+    }
+
+    /**
+     * Retrieves the identification document.
+     *
+     * @return identification, or {@code null} when not selected
+     */
+    public String getIdentification() {
+        return identification;
+    }
+
+    /**
+     * Sets the identification document.
+     *
+     * @param identification identification
+     */
+    public void setIdentification(final String identification) {
+        this.identification = identification;
+    }
+
+    /**
+     * Retrieves the age.
+     *
+     * @return age in years, or {@code null} when not selected
+     */
+    public Integer getAge() {
+        return age;
+    }
+
+    /**
+     * Sets the age.
+     *
+     * @param age age in years
+     */
+    public void setAge(final Integer age) {
+        this.age = age;
+    }
+
+    /**
+     * Retrieves the gender.
+     *
+     * @return gender, or {@code null} when not selected
+     */
+    public String getGender() {
+        return gender;
+    }
+
+    /**
+     * Sets the gender.
+     *
+     * @param gender gender
+     */
+    public void setGender(final String gender) {
+        this.gender = gender;
+    }
+
+    /**
+     * Indicates whether the person is active.
+     *
+     * @return active flag, or {@code null} when not selected
+     */
+    public Boolean getActive() {
+        return active;
+    }
+
+    /**
+     * Sets whether the person is active.
+     *
+     * @param active active flag
+     */
+    public void setActive(final Boolean active) {
+        this.active = active;
+    }
+}
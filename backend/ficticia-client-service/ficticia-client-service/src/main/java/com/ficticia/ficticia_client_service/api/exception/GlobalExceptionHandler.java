@@ -1,24 +1,51 @@
 package com.ficticia.ficticia_client_service.api.exception;
 
+import java.util.Locale;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.ficticia.ficticia_client_service.api.dtos.ErrorResponse;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Translates thrown exceptions into structured HTTP responses.
+ *
+ * <p>Not-found and business rule errors are also counted by exception and reason. The reason is the message
+ * with numbers and quoted values replaced, so "Person with id 5 was not found" and "Person with id 7 was not
+ * found" share one time series.</p>
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /** Name of the counter of handled client errors. */
+    public static final String ERRORS_METRIC = "api.errors";
+
+    private static final Pattern VARIABLE_PARTS = Pattern.compile("'[^']*'|\"[^\"]*\"|\\d+");
+    private static final int MAX_REASON_LENGTH = 120;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a new {@link GlobalExceptionHandler}.
+     *
+     * @param meterRegistry registry receiving the error counters
+     */
+    public GlobalExceptionHandler(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     /**
      * Handles resource-not-found scenarios.
      *
@@ -30,6 +57,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleResourceNotFound(
             final ResourceNotFoundException exception,
             final HttpServletRequest request) {
+        countError(exception);
         ErrorResponse response = ErrorResponse.from(
                 HttpStatus.NOT_FOUND, exception.getMessage(), request.getRequestURI());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
@@ -46,11 +74,76 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleBusinessException(
             final BusinessException exception,
             final HttpServletRequest request) {
+        countError(exception);
         ErrorResponse response = ErrorResponse.from(
                 HttpStatus.BAD_REQUEST, exception.getMessage(), request.getRequestURI());
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Handles conditional requests whose validators no longer match the resource.
+     *
+     * @param exception the thrown exception
+     * @param request   originating request
+     * @return response entity with 412 status
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(
+            final PreconditionFailedException exception,
+            final HttpServletRequest request) {
+        ErrorResponse response = ErrorResponse.from(
+                HttpStatus.PRECONDITION_FAILED, exception.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    /**
+     * Handles writes that lost a race with a concurrent update between their read and their flush.
+     *
+     * @param exception the thrown exception
+     * @param request   originating request
+     * @return response entity with 412 status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            final OptimisticLockingFailureException exception,
+            final HttpServletRequest request) {
+        ErrorResponse response = ErrorResponse.from(HttpStatus.PRECONDITION_FAILED,
+                "The resource was modified by another request; reload it and retry", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    /**
+     * Handles state-changing requests sent without the required precondition.
+     *
+     * @param exception the thrown exception
+     * @param request   originating request
+     * @return response entity with 428 status
+     */
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionRequired(
+            final PreconditionRequiredException exception,
+            final HttpServletRequest request) {
+        ErrorResponse response = ErrorResponse.from(
+                HttpStatus.PRECONDITION_REQUIRED, exception.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(response);
+    }
+
+    /**
+     * Handles requests rejected because the service is saturated.
+     *
+     * @param exception the thrown exception
+     * @param request   originating request
+     * @return response entity with 503 status
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            final ServiceUnavailableException exception,
+            final HttpServletRequest request) {
+        ErrorResponse response = ErrorResponse.from(
+                HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     /**
      * Handles validation errors thrown by Spring.
      *
@@ -86,6 +179,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Handles request parameters that cannot be converted to the expected type.
+     *
+     * @param exception type mismatch exception
+     * @param request   originating request
+     * @return response entity with 400 status
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatchException(
+            final MethodArgumentTypeMismatchException exception,
+            final HttpServletRequest request) {
+        String message = String.format(Locale.ROOT, "Invalid value for parameter '%s'", exception.getName());
+        ErrorResponse response = ErrorResponse.from(
+                HttpStatus.BAD_REQUEST, message, request.getRequestURI());
+        return ResponseEntity.badRequest().body(response);
+    }
+
     /**
      * Handles generic uncaught exceptions.
      *
@@ -102,4 +212,18 @@ public class GlobalExceptionHandler {
                 HttpStatus.INTERNAL_SERVER_ERROR, message, request.getRequestURI());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    private void countError(final RuntimeException exception) {
+        meterRegistry.counter(ERRORS_METRIC,
+                "exception", exception.getClass().getSimpleName(),
+                "reason", reasonOf(exception.getMessage())).increment();
+    }
+
+    static String reasonOf(final String message) {
+        if (message == null || message.isBlank()) {
+            return "none";
+        }
+        String reason = VARIABLE_PARTS.matcher(message).replaceAll("?");
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
 }
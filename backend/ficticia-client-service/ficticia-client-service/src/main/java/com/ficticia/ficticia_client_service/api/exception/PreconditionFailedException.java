@@ -0,0 +1,16 @@
+package com.ficticia.ficticia_client_service.api.exception;
+
+/**
+ * Exception used when a conditional request does not match the current state of the resource.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Creates a new {@link PreconditionFailedException} with a message.
+     *
+     * @param message error description
+     */
+    public PreconditionFailedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ficticia.ficticia_client_service.api.exception;
+
+/**
+ * Exception used when a state-changing request must be conditional but carries no precondition.
+ */
+public class PreconditionRequiredException extends RuntimeException {
+
+    /**
+     * Creates a new {@link PreconditionRequiredException} with a message.
+     *
+     * @param message error description
+     */
+    public PreconditionRequiredException(final String message) {
+        super(message);
+    }
+}
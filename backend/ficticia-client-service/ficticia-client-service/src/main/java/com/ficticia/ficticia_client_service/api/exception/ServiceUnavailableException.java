@@ -0,0 +1,26 @@
+package com.ficticia.ficticia_client_service.api.exception;
+
+/**
+ * Exception used when the service is temporarily unable to accept more work.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Creates a new {@link ServiceUnavailableException} with a message.
+     *
+     * @param message error description
+     */
+    public ServiceUnavailableException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new {@link ServiceUnavailableException} with a message and cause.
+     *
+     * @param message error description
+     * @param cause   underlying cause
+     */
+    public ServiceUnavailableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ficticia.ficticia_client_service.application.auth;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ficticia.ficticia_client_service.infrastructure.repositories.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically removes expired password reset tokens so the token index only holds live entries.
+ *
+ * <p>Tokens are cleared in small batches, each one its own short transaction, to avoid long row locks on
+ * the {@code users} table.</p>
+ */
+@Slf4j
+@Component
+public class PasswordResetTokenSweeper {
+
+    private final UserRepository userRepository;
+
+    @Value("${app.security.reset-token-sweep.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Creates a new {@link PasswordResetTokenSweeper}.
+     *
+     * @param userRepository repository holding the reset tokens
+     */
+    public PasswordResetTokenSweeper(final UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Clears every reset token that expired before now.
+     *
+     * @return number of cleared tokens
+     */
+    @Scheduled(fixedDelayString = "${app.security.reset-token-sweep.interval-millis:600000}")
+    public int sweepExpiredTokens() {
+        Instant now = Instant.now();
+        int cleared = 0;
+        List<Long> ids;
+        do {
+            ids = userRepository.findIdsWithExpiredResetToken(now, Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                cleared += userRepository.clearResetTokens(ids);
+            }
+        } while (ids.size() == batchSize);
+        if (cleared > 0) {
+            log.info("Cleared {} expired password reset tokens", cleared);
+        }
+        return cleared;
+    }
+}
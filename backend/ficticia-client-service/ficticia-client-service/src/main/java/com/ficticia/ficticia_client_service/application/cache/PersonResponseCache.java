@@ -0,0 +1,95 @@
+package com.ficticia.ficticia_client_service.application.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded read-through cache of single-person responses keyed by person identifier.
+ *
+ * <p>Concurrent misses for the same person share one load, which runs on the calling thread outside the cache's
+ * locks (see {@link SingleFlightCache}). Writers call {@link #evict(Long)} or
+ * {@link #evictAll(Collection)}; inside a transaction the entries are removed again after commit, so a read
+ * racing the write cannot keep the replaced state. Hit, miss, load time and eviction figures are published as
+ * the {@code persons} cache metrics. Cached responses are shared and must not be modified by callers.</p>
+ */
+@Component
+public class PersonResponseCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "persons";
+
+    private final SingleFlightCache<Long, PersonResponse> responses;
+
+    /**
+     * Creates a new {@link PersonResponseCache}.
+     *
+     * @param maxSize    maximum number of cached persons
+     * @param ttlSeconds seconds a cached person is served before being loaded again
+     */
+    public PersonResponseCache(@Value("${app.persons.cache.max-size:10000}") final long maxSize,
+                               @Value("${app.persons.cache.ttl-seconds:300}") final long ttlSeconds) {
+        this.responses = new SingleFlightCache<>(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+    }
+
+    /**
+     * Returns the cached response, loading it on a miss.
+     *
+     * @param id     person identifier
+     * @param loader function reading the person from the database; exceptions are propagated and nothing is cached
+     * @return cached or freshly loaded response
+     */
+    public PersonResponse get(final Long id, final Function<Long, PersonResponse> loader) {
+        return responses.get(id, loader);
+    }
+
+    /**
+     * Removes a person from the cache now and, inside a transaction, again after commit.
+     *
+     * @param id identifier of the person that changed
+     */
+    public void evict(final Long id) {
+        evictAll(List.of(id));
+    }
+
+    /**
+     * Removes several persons from the cache now and, inside a transaction, again after commit.
+     *
+     * @param ids identifiers of the persons that changed
+     */
+    public void evictAll(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> keys = List.copyOf(ids);
+        responses.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    responses.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses.synchronous(), CACHE_NAME);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ficticia.ficticia_client_service.application.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Validators of a resource representation, used to answer conditional requests.
+ *
+ * <p>Single resources are identified by their row version, which changes on every committed write.
+ * Collections are identified by a digest of the identifiers and versions they contain, so adding, removing or
+ * modifying any listed element produces a different tag.</p>
+ */
+public final class ResourceVersion {
+
+    private static final int COLLECTION_TAG_BYTES = 16;
+
+    private final String tag;
+    private final Instant lastModified;
+
+    private ResourceVersion(final String tag, final Instant lastModified) {
+        this.tag = tag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Builds the validators of a single resource.
+     *
+     * @param version      row version of the resource
+     * @param lastModified last modification timestamp, or {@code null} when unknown
+     * @return validators of the resource
+     */
+    public static ResourceVersion of(final Long version, final Instant lastModified) {
+        return new ResourceVersion(String.valueOf(version), lastModified);
+    }
+
+    /**
+     * Builds the validators of an ordered collection of resources.
+     *
+     * @param items    listed elements in response order
+     * @param id       extracts the identifier of an element
+     * @param version  extracts the row version of an element
+     * @param hasMore  whether further elements exist after the listed ones
+     * @param <T>      element type
+     * @return validators of the collection, without modification timestamp
+     */
+    public static <T> ResourceVersion ofCollection(final List<T> items, final Function<T, Long> id,
+                                                   final Function<T, Long> version, final boolean hasMore) {
+        StringBuilder content = new StringBuilder(items.size() * 16);
+        for (T item : items) {
+            content.append(id.apply(item)).append(':').append(version.apply(item)).append(';');
+        }
+        content.append(hasMore);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return new ResourceVersion(HexFormat.of().formatHex(Arrays.copyOf(digest, COLLECTION_TAG_BYTES)), null);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Extracts the row version from a single-resource entity tag produced by {@link #of(Long, Instant)}.
+     *
+     * @param eTag quoted entity tag as received in {@code If-Match}
+     * @return row version, empty when the value is weak, a list or not a version tag
+     */
+    public static Optional<Long> parseVersion(final String eTag) {
+        String value = eTag.trim();
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(value.substring(1, value.length() - 1)));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Retrieves the strong entity tag, quoted as sent in the {@code ETag} header.
+     *
+     * @return quoted entity tag
+     */
+    public String getETag() {
+        return '"' + tag + '"';
+    }
+
+    /**
+     * Retrieves the last modification timestamp.
+     *
+     * @return last modification timestamp, or {@code null} when not tracked
+     */
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Retrieves the last modification timestamp in epoch milliseconds.
+     *
+     * @return epoch milliseconds, or {@code -1} when not tracked
+     */
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ficticia.ficticia_client_service.application.cache;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Read-through cache whose loads run on the calling thread, outside any lock held by the cache.
+ *
+ * <p>{@link Cache#get(Object, Function)} runs the loader inside the map's per-key lock, which pins a virtual
+ * thread to its carrier for the whole database round-trip. Here the caller that misses first registers a
+ * pending value, runs the loader without holding any lock and completes it; concurrent callers for the same key
+ * wait on that value instead of loading it again. Failed or {@code null} loads are not cached.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class SingleFlightCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+
+    /**
+     * Creates a cache with the bounds, expiration and statistics configured on the builder.
+     *
+     * @param builder configured Caffeine builder
+     */
+    public SingleFlightCache(final Caffeine<Object, Object> builder) {
+        this.cache = builder.buildAsync();
+    }
+
+    /**
+     * Returns the cached value, loading it on the calling thread on a miss.
+     *
+     * @param key    cache key
+     * @param loader function computing the value; its exceptions are propagated and nothing is cached
+     * @return cached or freshly loaded value
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> cached = cache.get(key, (ignored, executor) -> pending);
+        if (cached != pending) {
+            return await(cached);
+        }
+        try {
+            V value = loader.apply(key);
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Removes a key. A load in progress for it completes for its callers but is not cached.
+     *
+     * @param key key to remove
+     */
+    public void invalidate(final K key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    /**
+     * Removes the given keys. Loads in progress for them complete for their callers but are not cached.
+     *
+     * @param keys keys to remove
+     */
+    public void invalidateAll(final Collection<? extends K> keys) {
+        cache.synchronous().invalidateAll(keys);
+    }
+
+    /**
+     * Exposes the completed entries as a synchronous cache, for metrics.
+     *
+     * @return synchronous view of the cache
+     */
+    public Cache<K, V> synchronous() {
+        return cache.synchronous();
+    }
+
+    private V await(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            // Rethrow what the loading caller saw, e.g. a not found exception
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
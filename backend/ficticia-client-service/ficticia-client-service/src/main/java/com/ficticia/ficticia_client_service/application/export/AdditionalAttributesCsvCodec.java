@@ -0,0 +1,107 @@
+package com.ficticia.ficticia_client_service.application.export;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ficticia.ficticia_client_service.api.dtos.AdditionalAttributeDto;
+
+/**
+ * Encodes additional attributes into the single {@code additional_attributes} CSV cell and back, so the CSV
+ * export and the CSV import agree on one format.
+ *
+ * <p>Attributes are written as {@code key=value} pairs separated by {@code ;}. A backslash escapes the next
+ * character, so {@code \\}, {@code \;} and {@code \=} stand for literal characters. A pair without {@code =}
+ * carries a {@code null} value, while {@code key=} carries an empty one. Keys and values are kept verbatim,
+ * including surrounding whitespace.</p>
+ */
+public final class AdditionalAttributesCsvCodec {
+
+    private static final char ESCAPE = '\\';
+    private static final char PAIR_SEPARATOR = ';';
+    private static final char KEY_VALUE_SEPARATOR = '=';
+
+    private AdditionalAttributesCsvCodec() {
+        // Utility class
+    }
+
+    /**
+     * Encodes attributes into the content of the CSV cell.
+     *
+     * @param attributes attributes in the order they are written
+     * @return encoded cell content; empty when there are no attributes
+     */
+    public static String format(final List<AdditionalAttributeDto> attributes) {
+        StringBuilder cell = new StringBuilder();
+        for (AdditionalAttributeDto attribute : attributes) {
+            if (cell.length() > 0) {
+                cell.append(PAIR_SEPARATOR);
+            }
+            appendEscaped(cell, attribute.getKey());
+            if (attribute.getValue() != null) {
+                cell.append(KEY_VALUE_SEPARATOR);
+                appendEscaped(cell, attribute.getValue());
+            }
+        }
+        return cell.toString();
+    }
+
+    /**
+     * Decodes the content of the CSV cell. Empty pairs are skipped.
+     *
+     * @param cell encoded cell content; may be {@code null}
+     * @return decoded attributes in the order they were written
+     * @throws IllegalArgumentException when the cell ends with a dangling escape character
+     */
+    public static List<AdditionalAttributeDto> parse(final String cell) {
+        List<AdditionalAttributeDto> attributes = new ArrayList<>();
+        if (cell == null) {
+            return attributes;
+        }
+        StringBuilder key = new StringBuilder();
+        StringBuilder value = null;
+        for (int index = 0; index < cell.length(); index++) {
+            char character = cell.charAt(index);
+            StringBuilder target = value == null ? key : value;
+            if (character == ESCAPE) {
+                if (++index == cell.length()) {
+                    throw new IllegalArgumentException("Additional attributes end with an incomplete escape");
+                }
+                target.append(cell.charAt(index));
+            } else if (character == PAIR_SEPARATOR) {
+                addAttribute(attributes, key, value);
+                key.setLength(0);
+                value = null;
+            } else if (character == KEY_VALUE_SEPARATOR && value == null) {
+                value = new StringBuilder();
+            } else {
+                target.append(character);
+            }
+        }
+        addAttribute(attributes, key, value);
+        return attributes;
+    }
+
+    private static void addAttribute(final List<AdditionalAttributeDto> attributes, final StringBuilder key,
+                                     final StringBuilder value) {
+        if (key.length() == 0 && value == null) {
+            return;
+        }
+        AdditionalAttributeDto attribute = new AdditionalAttributeDto();
+        attribute.setKey(key.toString());
+        attribute.setValue(value == null ? null : value.toString());
+        attributes.add(attribute);
+    }
+
+    private static void appendEscaped(final StringBuilder cell, final String text) {
+        if (text == null) {
+            return;
+        }
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            if (character == ESCAPE || character == PAIR_SEPARATOR || character == KEY_VALUE_SEPARATOR) {
+                cell.append(ESCAPE);
+            }
+            cell.append(character);
+        }
+    }
+}
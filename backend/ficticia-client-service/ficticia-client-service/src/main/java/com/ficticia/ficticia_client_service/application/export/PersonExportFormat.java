@@ -0,0 +1,39 @@
+package com.ficticia.ficticia_client_service.application.export;
+
+/**
+ * Output formats supported by the person export.
+ */
+public enum PersonExportFormat {
+
+    /** One JSON document per person and line, including its additional attributes. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** One CSV row per person; additional attributes are packed into a single column. */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    PersonExportFormat(final String mediaType, final String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Retrieves the media type written to the {@code Content-Type} header.
+     *
+     * @return media type
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Retrieves the file extension suggested to clients downloading the export.
+     *
+     * @return file extension without the leading dot
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,178 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+import com.ficticia.ficticia_client_service.application.export.AdditionalAttributesCsvCodec;
+
+/**
+ * Reads persons from RFC 4180 CSV using the same columns produced by the CSV export. Columns are matched
+ * by header name, quoted fields may span several lines, and additional attributes are read from the
+ * {@code additional_attributes} column in the format defined by {@link AdditionalAttributesCsvCodec}.
+ */
+public class CsvPersonImportReader implements PersonImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("full_name", "identification", "age", "gender");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 1;
+
+    /**
+     * Creates a new {@link CsvPersonImportReader} and reads the header row.
+     *
+     * @param reader source of the CSV document
+     * @throws IOException when the header cannot be read
+     */
+    public CsvPersonImportReader(final BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BusinessException("CSV import requires a header row");
+        }
+        for (int index = 0; index < header.size(); index++) {
+            columns.put(header.get(index).trim().toLowerCase(Locale.ROOT), index);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new BusinessException(String.format(Locale.ROOT, "CSV header is missing column '%s'", column));
+            }
+        }
+    }
+
+    @Override
+    public PersonImportRow next() throws IOException {
+        List<String> values;
+        long startLine;
+        do {
+            startLine = line;
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+        String identification = value(values, "identification");
+        try {
+            return PersonImportRow.parsed(startLine, toRequest(values));
+        } catch (IllegalArgumentException ex) {
+            return PersonImportRow.rejected(startLine, identification, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private PersonRequest toRequest(final List<String> values) {
+        PersonRequest request = new PersonRequest();
+        request.setFullName(value(values, "full_name"));
+        request.setIdentification(value(values, "identification"));
+        request.setAge(parseInteger(values, "age"));
+        request.setGender(value(values, "gender"));
+        request.setActive(parseBoolean(values, "active"));
+        request.setDrives(parseBoolean(values, "drives"));
+        request.setWearsGlasses(parseBoolean(values, "wears_glasses"));
+        request.setDiabetic(parseBoolean(values, "diabetic"));
+        request.setOtherDisease(value(values, "other_disease"));
+        // Read untrimmed: the codec keeps whitespace that is part of a key or value
+        request.setAdditionalAttributes(AdditionalAttributesCsvCodec.parse(rawValue(values, "additional_attributes")));
+        return request;
+    }
+
+    private String value(final List<String> values, final String column) {
+        String value = rawValue(values, column);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String rawValue(final List<String> values, final String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    private Integer parseInteger(final List<String> values, final String column) {
+        String value = value(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Invalid number for '%s'", column));
+        }
+    }
+
+    private Boolean parseBoolean(final List<String> values, final String column) {
+        String value = value(values, column);
+        if (value == null) {
+            return null;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "1" -> Boolean.TRUE;
+            case "false", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "Invalid boolean for '%s'", column));
+        };
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int current;
+        while ((current = reader.read()) != -1) {
+            read = true;
+            char character = (char) current;
+            if (quoted) {
+                if (character != '"') {
+                    if (character == '\n') {
+                        line++;
+                    }
+                    field.append(character);
+                    continue;
+                }
+                // A doubled quote is an escaped quote; anything else closes the quoted section
+                reader.mark(1);
+                int following = reader.read();
+                if (following == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    if (following != -1) {
+                        reader.reset();
+                    }
+                }
+                continue;
+            }
+            if (character == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (character == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (character == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (character != '\r') {
+                field.append(character);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
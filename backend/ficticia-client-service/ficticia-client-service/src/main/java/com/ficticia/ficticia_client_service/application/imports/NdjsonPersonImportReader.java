@@ -0,0 +1,52 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads one {@link PersonRequest} JSON document per line. Blank lines are skipped.
+ */
+public class NdjsonPersonImportReader implements PersonImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader requestReader;
+    private long line;
+
+    /**
+     * Creates a new {@link NdjsonPersonImportReader}.
+     *
+     * @param reader       source of the NDJSON document
+     * @param objectMapper mapper used to parse each line
+     */
+    public NdjsonPersonImportReader(final BufferedReader reader, final ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.requestReader = objectMapper.readerFor(PersonRequest.class);
+    }
+
+    @Override
+    public PersonImportRow next() throws IOException {
+        String content;
+        do {
+            content = reader.readLine();
+            if (content == null) {
+                return null;
+            }
+            line++;
+        } while (content.isBlank());
+        try {
+            return PersonImportRow.parsed(line, requestReader.readValue(content));
+        } catch (JsonProcessingException ex) {
+            return PersonImportRow.rejected(line, null, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
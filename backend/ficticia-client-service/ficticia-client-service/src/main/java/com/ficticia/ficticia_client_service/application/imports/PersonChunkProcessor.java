@@ -0,0 +1,202 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.application.validators.PersonValidator;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Validates and writes one chunk of import records with set-based lookups and batched statements.
+ *
+ * <p>Callers own the transaction: {@link #process(List, PersonImportMode)} flushes and clears the
+ * persistence context but never commits, so progress bookkeeping can share the chunk transaction.</p>
+ */
+@Component
+public class PersonChunkProcessor {
+
+    private final PersonRepository personRepository;
+    private final PersonValidator personValidator;
+    private final PersonMapper personMapper;
+    private final Validator validator;
+    private final PersonResponseCache personCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Creates a new {@link PersonChunkProcessor}.
+     *
+     * @param personRepository repository used to look up identifications and write persons
+     * @param personValidator  validator containing business rules
+     * @param personMapper     mapper converting requests into entities
+     * @param validator        bean validator applying the request constraints
+     * @param personCache      cache of single-person responses invalidated for updated persons
+     */
+    public PersonChunkProcessor(final PersonRepository personRepository,
+                                final PersonValidator personValidator,
+                                final PersonMapper personMapper,
+                                final Validator validator,
+                                final PersonResponseCache personCache) {
+        this.personRepository = personRepository;
+        this.personValidator = personValidator;
+        this.personMapper = personMapper;
+        this.validator = validator;
+        this.personCache = personCache;
+    }
+
+    /**
+     * Validates the records and writes the valid ones. Must run inside a transaction.
+     *
+     * @param rows records of the chunk, including rows that failed to parse
+     * @param mode whether the records create or update persons
+     * @return number of written records and the rejected ones
+     */
+    public PersonChunkResult process(final List<PersonImportRow> rows, final PersonImportMode mode) {
+        List<PersonImportError> errors = new ArrayList<>();
+        // Keys are normalized because the identification column uses a case-insensitive collation
+        Map<String, PersonImportRow> rowsByIdentification = new LinkedHashMap<>();
+        for (PersonImportRow row : rows) {
+            String error = row.getError() == null ? validateConstraints(row.getRequest()) : row.getError();
+            if (error != null) {
+                errors.add(toError(row, error));
+            } else if (rowsByIdentification.putIfAbsent(normalize(row.getIdentification()), row) != null) {
+                errors.add(toError(row, "Identification is repeated in the import"));
+            }
+        }
+        int applied = mode == PersonImportMode.UPDATE
+                ? update(rowsByIdentification, errors)
+                : create(rowsByIdentification, errors);
+        // Flushed through the repository so a constraint violation raised by the batched statements is translated
+        // into a DataAccessException, which callers handle by retrying the chunk row by row
+        personRepository.flush();
+        entityManager.clear();
+        errors.sort((left, right) -> Long.compare(left.getLine(), right.getLine()));
+        return new PersonChunkResult(applied, errors);
+    }
+
+    /**
+     * Describes a record that the database still rejects when it is written on its own.
+     *
+     * @param row record whose single-row write failed
+     * @param ex  exception raised by the write
+     * @return error carrying the reason given by the database
+     */
+    public PersonImportError toRejectedError(final PersonImportRow row, final RuntimeException ex) {
+        return toError(row, "Row was rejected by the database: "
+                + NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+    }
+
+    private int create(final Map<String, PersonImportRow> rowsByIdentification,
+                       final List<PersonImportError> errors) {
+        if (rowsByIdentification.isEmpty()) {
+            return 0;
+        }
+        Set<String> existing = personRepository.findExistingIdentifications(identifications(rowsByIdentification))
+                .stream()
+                .map(this::normalize)
+                .collect(Collectors.toSet());
+        List<PersonEntity> entities = new ArrayList<>(rowsByIdentification.size());
+        rowsByIdentification.forEach((key, row) -> {
+            if (existing.contains(key)) {
+                errors.add(toError(row, "Identification must be unique"));
+                return;
+            }
+            String error = validateBusinessRules(() -> personValidator.validateForCreate(row.getRequest()));
+            if (error != null) {
+                errors.add(toError(row, error));
+                return;
+            }
+            entities.add(personMapper.toEntity(row.getRequest()));
+        });
+        personRepository.saveAll(entities);
+        return entities.size();
+    }
+
+    private int update(final Map<String, PersonImportRow> rowsByIdentification,
+                       final List<PersonImportError> errors) {
+        if (rowsByIdentification.isEmpty()) {
+            return 0;
+        }
+        Map<String, PersonEntity> existing = personRepository
+                .findByIdentificationIn(identifications(rowsByIdentification)).stream()
+                .collect(Collectors.toMap(entity -> normalize(entity.getIdentification()), Function.identity()));
+        Map<PersonEntity, PersonRequest> updates = new LinkedHashMap<>();
+        rowsByIdentification.forEach((key, row) -> {
+            PersonEntity entity = existing.get(key);
+            if (entity == null) {
+                errors.add(toError(row, "Person with identification " + row.getIdentification() + " was not found"));
+                return;
+            }
+            String error = validateBusinessRules(
+                    () -> personValidator.validateForUpdate(entity.getId(), row.getRequest()));
+            if (error != null) {
+                errors.add(toError(row, error));
+                return;
+            }
+            updates.put(entity, row.getRequest());
+        });
+        // Attributes are diffed by key, so a key is never deleted and inserted again within one flush
+        List<Long> changedIds = new ArrayList<>();
+        updates.forEach((entity, request) -> {
+            if (personMapper.updateEntity(entity, request)) {
+                changedIds.add(entity.getId());
+            }
+        });
+        // Rows identical to the stored person are neither written nor evicted
+        personCache.evictAll(changedIds);
+        return updates.size();
+    }
+
+    private String validateConstraints(final PersonRequest request) {
+        Set<ConstraintViolation<PersonRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<PersonRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+
+    private String validateBusinessRules(final Runnable validation) {
+        try {
+            validation.run();
+            return null;
+        } catch (BusinessException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private List<String> identifications(final Map<String, PersonImportRow> rowsByIdentification) {
+        return rowsByIdentification.values().stream()
+                .map(PersonImportRow::getIdentification)
+                .toList();
+    }
+
+    private String normalize(final String identification) {
+        return identification.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private PersonImportError toError(final PersonImportRow row, final String message) {
+        return PersonImportError.of(row.getLine(), row.getIdentification(), message);
+    }
+}
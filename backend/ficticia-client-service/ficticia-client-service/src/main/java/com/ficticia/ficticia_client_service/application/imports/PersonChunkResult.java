@@ -0,0 +1,43 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+import java.util.List;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+
+/**
+ * Outcome of applying one chunk of import records.
+ */
+public final class PersonChunkResult {
+
+    private final int applied;
+    private final List<PersonImportError> errors;
+
+    /**
+     * Creates a new {@link PersonChunkResult}.
+     *
+     * @param applied number of records written to the database
+     * @param errors  records that were rejected
+     */
+    public PersonChunkResult(final int applied, final List<PersonImportError> errors) {
+        this.applied = applied;
+        this.errors = errors;
+    }
+
+    /**
+     * Retrieves the number of records written to the database.
+     *
+     * @return applied records
+     */
+    public int getApplied() {
+        return applied;
+    }
+
+    /**
+     * Retrieves the records that were rejected, in input order.
+     *
+     * @return rejected records
+     */
+    public List<PersonImportError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+/**
+ * Describes what a bulk operation does with each record.
+ */
+public enum PersonImportMode {
+
+    /** Inserts new persons; records whose identification already exists are rejected. */
+    CREATE,
+
+    /** Replaces the data of existing persons matched by identification; unknown identifications are rejected. */
+    UPDATE
+}
@@ -0,0 +1,18 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads person records one at a time from an import file, so the file never has to fit in memory.
+ */
+public interface PersonImportReader extends Closeable {
+
+    /**
+     * Reads the next record.
+     *
+     * @return next row, or {@code null} when the input is exhausted
+     * @throws IOException when the input cannot be read
+     */
+    PersonImportRow next() throws IOException;
+}
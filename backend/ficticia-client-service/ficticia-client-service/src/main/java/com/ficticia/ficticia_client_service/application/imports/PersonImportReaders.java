@@ -0,0 +1,37 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Creates the {@link PersonImportReader} matching a file format.
+ */
+public final class PersonImportReaders {
+
+    private PersonImportReaders() {
+        // Utility class
+    }
+
+    /**
+     * Opens a reader over UTF-8 input in the provided format.
+     *
+     * @param format       format of the input
+     * @param inputStream  source of the records; closed together with the reader
+     * @param objectMapper mapper used to parse NDJSON records
+     * @return reader positioned at the first record
+     * @throws IOException when the input cannot be read
+     */
+    public static PersonImportReader open(final PersonExportFormat format, final InputStream inputStream,
+                                          final ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return format == PersonExportFormat.CSV
+                ? new CsvPersonImportReader(reader)
+                : new NdjsonPersonImportReader(reader, objectMapper);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ficticia.ficticia_client_service.application.imports;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+
+/**
+ * One record read from an import file: either a parsed request or the reason it could not be parsed.
+ */
+public final class PersonImportRow {
+
+    private final long line;
+    private final PersonRequest request;
+    private final String identification;
+    private final String error;
+
+    private PersonImportRow(final long line, final PersonRequest request, final String identification,
+                            final String error) {
+        this.line = line;
+        this.request = request;
+        this.identification = identification;
+        this.error = error;
+    }
+
+    /**
+     * Creates a row that was parsed successfully.
+     *
+     * @param line    line where the record starts
+     * @param request parsed request
+     * @return parsed row
+     */
+    public static PersonImportRow parsed(final long line, final PersonRequest request) {
+        return new PersonImportRow(line, request, request.getIdentification(), null);
+    }
+
+    /**
+     * Creates a row that could not be parsed.
+     *
+     * @param line           line where the record starts
+     * @param identification identification value when it could be read, otherwise {@code null}
+     * @param error          reason why the record was rejected
+     * @return rejected row
+     */
+    public static PersonImportRow rejected(final long line, final String identification, final String error) {
+        return new PersonImportRow(line, null, identification, error);
+    }
+
+    /**
+     * Retrieves the line where the record starts.
+     *
+     * @return one-based line number
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Retrieves the parsed request.
+     *
+     * @return request or {@code null} when the record was rejected while parsing
+     */
+    public PersonRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Retrieves the identification of the record, used to label errors.
+     *
+     * @return identification or {@code null} when unknown
+     */
+    public String getIdentification() {
+        return identification;
+    }
+
+    /**
+     * Retrieves the parsing error.
+     *
+     * @return error message or {@code null} when the record was parsed
+     */
+    public String getError() {
+        return error;
+    }
+}
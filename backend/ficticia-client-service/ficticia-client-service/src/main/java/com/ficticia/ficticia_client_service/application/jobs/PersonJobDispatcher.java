@@ -0,0 +1,62 @@
+package com.ficticia.ficticia_client_service.application.jobs;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs bulk jobs on a bounded pool of worker threads.
+ *
+ * <p>The pool is owned here instead of being exposed as an {@code Executor} bean, which would replace the
+ * executor Spring Boot configures for asynchronous MVC responses.</p>
+ */
+@Component
+public class PersonJobDispatcher {
+
+    private final PersonJobRunner jobRunner;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a new {@link PersonJobDispatcher}.
+     *
+     * @param jobRunner     runner executing a single job
+     * @param workers       number of jobs processed concurrently
+     * @param queueCapacity number of jobs that may wait for a worker
+     */
+    public PersonJobDispatcher(final PersonJobRunner jobRunner,
+                               @Value("${app.jobs.workers:2}") final int workers,
+                               @Value("${app.jobs.queue-capacity:50}") final int queueCapacity) {
+        this.jobRunner = jobRunner;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "person-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queues the job for execution.
+     *
+     * @param jobId job identifier
+     * @throws java.util.concurrent.RejectedExecutionException when every worker is busy and the queue is full
+     */
+    public void dispatch(final Long jobId) {
+        executor.execute(() -> jobRunner.run(jobId));
+    }
+
+    /**
+     * Stops the workers. Jobs interrupted here stay running in the database and are resumed on the next start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
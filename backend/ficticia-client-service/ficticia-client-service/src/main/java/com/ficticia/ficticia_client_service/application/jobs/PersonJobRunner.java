@@ -0,0 +1,278 @@
+package com.ficticia.ficticia_client_service.application.jobs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ficticia.ficticia_client_service.application.imports.PersonChunkProcessor;
+import com.ficticia.ficticia_client_service.application.imports.PersonChunkResult;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportMode;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportReader;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportReaders;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportRow;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobErrorEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobErrorRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes a bulk job on the calling thread, one chunk transaction at a time.
+ *
+ * <p>Each chunk commits the person changes, the rejected records and the new progress together, so after a
+ * crash the job resumes exactly after the last committed chunk by skipping {@code processedRows} records. A chunk
+ * the database rejects is retried one record per transaction, so only the offending records fail.</p>
+ *
+ * <p>While it runs, the job is leased to this instance and every committed chunk renews the lease. A worker
+ * that finds its lease taken over by another instance rolls back its current chunk and stops without touching
+ * the job any further.</p>
+ */
+@Slf4j
+@Component
+public class PersonJobRunner {
+
+    private static final int MAX_IDENTIFICATION_LENGTH = 50;
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private final PersonJobRepository jobRepository;
+    private final PersonJobErrorRepository jobErrorRepository;
+    private final PersonChunkProcessor chunkProcessor;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${app.jobs.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.persons.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${app.jobs.lease-millis:300000}")
+    private long leaseMillis;
+
+    /**
+     * Creates a new {@link PersonJobRunner}.
+     *
+     * @param jobRepository       repository storing job state and progress
+     * @param jobErrorRepository  repository storing rejected records
+     * @param chunkProcessor      processor validating and writing each chunk
+     * @param objectMapper        mapper used to parse NDJSON records
+     * @param transactionTemplate template delimiting one transaction per chunk
+     */
+    public PersonJobRunner(final PersonJobRepository jobRepository,
+                           final PersonJobErrorRepository jobErrorRepository,
+                           final PersonChunkProcessor chunkProcessor,
+                           final ObjectMapper objectMapper,
+                           final TransactionTemplate transactionTemplate) {
+        this.jobRepository = jobRepository;
+        this.jobErrorRepository = jobErrorRepository;
+        this.chunkProcessor = chunkProcessor;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Runs the job when it is still queued; otherwise returns without doing anything.
+     *
+     * @param jobId job identifier
+     */
+    public void run(final Long jobId) {
+        Instant now = Instant.now();
+        if (jobRepository.markRunning(jobId, owner, now, leaseUntil(now)) == 0) {
+            return;
+        }
+        try {
+            PersonJobEntity job = jobRepository.findById(jobId).orElseThrow();
+            boolean completed = process(job);
+            if (finish(jobId, completed ? PersonJobStatus.COMPLETED : PersonJobStatus.CANCELLED, null) == 0) {
+                throw new LeaseLostException();
+            }
+            if (completed) {
+                Files.deleteIfExists(Path.of(job.getSourcePath()));
+            }
+        } catch (LeaseLostException ex) {
+            log.warn("Bulk job {} was taken over by another instance after its lease expired", jobId);
+        } catch (Exception ex) {
+            log.error("Bulk job {} failed", jobId, ex);
+            finish(jobId, PersonJobStatus.FAILED, truncate(String.valueOf(ex.getMessage()), MAX_MESSAGE_LENGTH));
+        }
+    }
+
+    private boolean process(final PersonJobEntity job) throws IOException {
+        Path source = Path.of(job.getSourcePath());
+        if (job.getTotalRows() == null) {
+            long totalRows = countRows(job, source);
+            if (jobRepository.recordTotalRows(job.getId(), owner, totalRows, leaseUntil(Instant.now())) == 0) {
+                throw new LeaseLostException();
+            }
+        }
+        PersonImportMode mode = job.getType() == PersonJobType.UPDATE
+                ? PersonImportMode.UPDATE
+                : PersonImportMode.CREATE;
+        Progress progress = new Progress(job);
+        try (PersonImportReader reader = PersonImportReaders.open(
+                job.getFormat(), Files.newInputStream(source), objectMapper)) {
+            // Records up to the last committed chunk were already applied
+            long skipped = 0;
+            while (skipped < progress.processed && reader.next() != null) {
+                skipped++;
+            }
+            List<PersonImportRow> chunk = new ArrayList<>(chunkSize);
+            while (readChunk(reader, chunk)) {
+                if (jobRepository.isCancelRequested(job.getId())) {
+                    return false;
+                }
+                applyChunk(job.getId(), chunk, mode, progress);
+            }
+        }
+        return true;
+    }
+
+    private long countRows(final PersonJobEntity job, final Path source) throws IOException {
+        long rows = 0;
+        try (PersonImportReader reader = PersonImportReaders.open(
+                job.getFormat(), Files.newInputStream(source), objectMapper)) {
+            while (reader.next() != null) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private boolean readChunk(final PersonImportReader reader, final List<PersonImportRow> chunk) throws IOException {
+        chunk.clear();
+        PersonImportRow row;
+        while (chunk.size() < chunkSize && (row = reader.next()) != null) {
+            chunk.add(row);
+        }
+        return !chunk.isEmpty();
+    }
+
+    private void applyChunk(final Long jobId, final List<PersonImportRow> chunk, final PersonImportMode mode,
+                            final Progress progress) {
+        long chunkStartedAt = System.nanoTime();
+        try {
+            applyRows(jobId, chunk, mode, progress, chunkStartedAt);
+        } catch (DataAccessException | PersistenceException ex) {
+            // The chunk was rolled back, possibly because a concurrent writer changed one of its persons or took
+            // one of its identifications; its records are retried one by one so only the conflicting ones fail.
+            // JPA exceptions are caught too in case one escapes the repositories untranslated
+            log.warn("Bulk job {} chunk starting at line {} was rejected, retrying it row by row",
+                    jobId, chunk.get(0).getLine(), ex);
+            long rowStartedAt = chunkStartedAt;
+            for (PersonImportRow row : chunk) {
+                applyRow(jobId, row, mode, progress, rowStartedAt);
+                rowStartedAt = System.nanoTime();
+            }
+        }
+    }
+
+    private void applyRow(final Long jobId, final PersonImportRow row, final PersonImportMode mode,
+                          final Progress progress, final long rowStartedAt) {
+        try {
+            applyRows(jobId, List.of(row), mode, progress, rowStartedAt);
+        } catch (DataAccessException | PersistenceException ex) {
+            // Rejected on its own as well: the reason is recorded and the job moves on
+            PersonChunkResult rejected = new PersonChunkResult(0, List.of(chunkProcessor.toRejectedError(row, ex)));
+            transactionTemplate.executeWithoutResult(
+                    status -> saveProgress(jobId, 1, rejected, progress, rowStartedAt));
+            progress.advance(1, rejected, rowStartedAt);
+        }
+    }
+
+    private void applyRows(final Long jobId, final List<PersonImportRow> rows, final PersonImportMode mode,
+                           final Progress progress, final long startedAt) {
+        // Progress commits with the rows it covers, so a resumed job never applies them twice
+        PersonChunkResult result = transactionTemplate.execute(status -> {
+            PersonChunkResult applied = chunkProcessor.process(rows, mode);
+            saveProgress(jobId, rows.size(), applied, progress, startedAt);
+            return applied;
+        });
+        progress.advance(rows.size(), result, startedAt);
+    }
+
+    private void saveProgress(final Long jobId, final int rows, final PersonChunkResult result,
+                              final Progress progress, final long chunkStartedAt) {
+        long alreadyReported = Math.min(progress.failed, maxReportedErrors);
+        List<PersonJobErrorEntity> errors = result.getErrors().stream()
+                .limit(Math.max(0, maxReportedErrors - alreadyReported))
+                .map(error -> PersonJobErrorEntity.builder()
+                        .jobId(jobId)
+                        .line(error.getLine())
+                        .identification(truncate(error.getIdentification(), MAX_IDENTIFICATION_LENGTH))
+                        .message(truncate(error.getMessage(), MAX_MESSAGE_LENGTH))
+                        .build())
+                .toList();
+        jobErrorRepository.saveAll(errors);
+        Instant now = Instant.now();
+        int updated = jobRepository.recordProgress(jobId, owner,
+                progress.processed + rows,
+                progress.applied + result.getApplied(),
+                progress.failed + result.getErrors().size(),
+                progress.activeMillis + elapsedMillis(chunkStartedAt),
+                now,
+                leaseUntil(now));
+        if (updated == 0) {
+            // Rolls the chunk back: the instance that took the job over resumes from the last committed chunk
+            throw new LeaseLostException();
+        }
+    }
+
+    private int finish(final Long jobId, final PersonJobStatus status, final String errorMessage) {
+        return jobRepository.markFinished(jobId, owner, status, errorMessage, Instant.now());
+    }
+
+    private Instant leaseUntil(final Instant now) {
+        return now.plusMillis(leaseMillis);
+    }
+
+    private static long elapsedMillis(final long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private static String truncate(final String value, final int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    // Raised when another instance took the job over after this worker's lease expired
+    private static final class LeaseLostException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    // Counters mirrored from the last committed chunk
+    private static final class Progress {
+
+        private long processed;
+        private long applied;
+        private long failed;
+        private long activeMillis;
+
+        private Progress(final PersonJobEntity job) {
+            this.processed = job.getProcessedRows();
+            this.applied = job.getAppliedRows();
+            this.failed = job.getFailedRows();
+            this.activeMillis = job.getActiveMillis();
+        }
+
+        private void advance(final int chunkRows, final PersonChunkResult result, final long chunkStartedAt) {
+            processed += chunkRows;
+            applied += result.getApplied();
+            failed += result.getErrors().size();
+            activeMillis += elapsedMillis(chunkStartedAt);
+        }
+    }
+}
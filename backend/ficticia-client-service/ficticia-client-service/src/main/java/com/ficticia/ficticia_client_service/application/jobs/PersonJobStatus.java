@@ -0,0 +1,22 @@
+package com.ficticia.ficticia_client_service.application.jobs;
+
+/**
+ * Lifecycle states of a bulk job.
+ */
+public enum PersonJobStatus {
+
+    /** Waiting for a worker. */
+    QUEUED,
+
+    /** Being processed by a worker. */
+    RUNNING,
+
+    /** Every record was processed. */
+    COMPLETED,
+
+    /** Stopped by an unexpected error; can be resumed. */
+    FAILED,
+
+    /** Stopped on request; can be resumed. */
+    CANCELLED
+}
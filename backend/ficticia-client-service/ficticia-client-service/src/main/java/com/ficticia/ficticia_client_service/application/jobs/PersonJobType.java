@@ -0,0 +1,13 @@
+package com.ficticia.ficticia_client_service.application.jobs;
+
+/**
+ * Kinds of bulk jobs that can be submitted.
+ */
+public enum PersonJobType {
+
+    /** Inserts the persons of the uploaded file. */
+    IMPORT,
+
+    /** Updates existing persons matched by identification. */
+    UPDATE
+}
@@ -0,0 +1,65 @@
+package com.ficticia.ficticia_client_service.application.mail;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ficticia.ficticia_client_service.infrastructure.repositories.MailOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically deletes sent and abandoned outbox emails once they are older than the retention period, so the
+ * outbox only grows with the emails still waiting to be sent.
+ *
+ * <p>Emails are deleted in small batches, each one its own short transaction, to avoid long locks on the
+ * {@code mail_outbox} table while the dispatcher is claiming rows.</p>
+ */
+@Slf4j
+@Component
+public class MailOutboxCleaner {
+
+    private final MailOutboxRepository outboxRepository;
+
+    @Value("${app.mail.outbox.cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.cleanup.retention-hours:168}")
+    private long retentionHours;
+
+    /**
+     * Creates a new {@link MailOutboxCleaner}.
+     *
+     * @param outboxRepository repository storing queued emails
+     */
+    public MailOutboxCleaner(final MailOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    /**
+     * Deletes every sent or abandoned email created before the retention period.
+     *
+     * @return number of deleted emails
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.cleanup.interval-millis:3600000}")
+    public int purgeFinishedEmails() {
+        Instant createdBefore = Instant.now().minus(Duration.ofHours(retentionHours));
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = outboxRepository.findFinishedIdsCreatedBefore(createdBefore, Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                deleted += outboxRepository.deleteByIds(ids);
+            }
+        } while (ids.size() == batchSize);
+        if (deleted > 0) {
+            log.info("Deleted {} finished outbox emails", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,191 @@
+package com.ficticia.ficticia_client_service.application.mail;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.MailOutboxEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.MailOutboxRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the emails stored in the outbox in the background.
+ *
+ * <p>Due emails are claimed, sent over one SMTP connection per batch and then marked as sent, or rescheduled
+ * with exponential backoff until {@code app.mail.outbox.max-attempts} is reached. The stored body is blanked
+ * once an email is sent or given up on. The number of pending emails is published as
+ * {@code mail.outbox.pending} and each batch round-trip as {@code mail.outbox.send}.</p>
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final Timer sendTimer;
+    private final AtomicLong pendingEmails = new AtomicLong();
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff-millis:5000}")
+    private long initialBackoffMillis;
+
+    @Value("${app.mail.outbox.max-backoff-millis:900000}")
+    private long maxBackoffMillis;
+
+    @Value("${app.mail.outbox.lease-millis:60000}")
+    private long leaseMillis;
+
+    @Value("${spring.mail.host:unknown}")
+    private String mailHost;
+
+    @Value("${spring.mail.port:0}")
+    private int mailPort;
+
+    @Value("${spring.mail.properties.mail.smtp.auth:false}")
+    private boolean mailSmtpAuth;
+
+    @Value("${spring.mail.properties.mail.smtp.starttls.enable:false}")
+    private boolean mailStartTls;
+
+    /**
+     * Creates a new {@link MailOutboxDispatcher}.
+     *
+     * @param outboxRepository repository storing queued emails
+     * @param mailSender       sender delivering the emails
+     * @param meterRegistry    registry receiving the queue depth and send latency
+     */
+    public MailOutboxDispatcher(final MailOutboxRepository outboxRepository,
+                                final JavaMailSender mailSender,
+                                final MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.sendTimer = Timer.builder("mail.outbox.send")
+                .description("Time to hand a batch of outbox emails to the mail server")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.pending", pendingEmails, AtomicLong::get)
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void logMailConfiguration() {
+        log.info("Outbox emails configured for {}:{} (auth={}, startTLS={})", mailHost, mailPort, mailSmtpAuth,
+                mailStartTls);
+    }
+
+    /**
+     * Sends every due email, one batch at a time.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-millis:2000}")
+    public void dispatchPending() {
+        List<MailOutboxEntity> claimed;
+        do {
+            claimed = claimDueEmails();
+            if (!claimed.isEmpty()) {
+                send(claimed);
+            }
+        } while (claimed.size() == batchSize);
+        pendingEmails.set(outboxRepository.countByStatus(MailOutboxStatus.PENDING));
+    }
+
+    /**
+     * Retrieves the number of pending emails seen by the last dispatch.
+     *
+     * @return pending emails
+     */
+    public long getPendingEmails() {
+        return pendingEmails.get();
+    }
+
+    private List<MailOutboxEntity> claimDueEmails() {
+        Instant now = Instant.now();
+        Instant leaseUntil = now.plusMillis(leaseMillis);
+        List<MailOutboxEntity> claimed = new ArrayList<>();
+        for (MailOutboxEntity email : outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                MailOutboxStatus.PENDING, now, Limit.of(batchSize))) {
+            if (outboxRepository.claim(email.getId(), now, leaseUntil) == 1) {
+                claimed.add(email);
+            }
+        }
+        return claimed;
+    }
+
+    private void send(final List<MailOutboxEntity> emails) {
+        SimpleMailMessage[] messages = emails.stream()
+                .map(this::toMessage)
+                .toArray(SimpleMailMessage[]::new);
+        Map<Object, Exception> failures = Map.of();
+        MailException batchFailure = null;
+        long startedAt = System.nanoTime();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            failures = ex.getFailedMessages();
+            batchFailure = failures.isEmpty() ? ex : null;
+        } catch (MailException ex) {
+            batchFailure = ex;
+        } finally {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        Instant now = Instant.now();
+        for (int index = 0; index < emails.size(); index++) {
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages[index]);
+            if (failure == null) {
+                outboxRepository.markSent(emails.get(index).getId(), now);
+            } else {
+                reschedule(emails.get(index), failure, now);
+            }
+        }
+    }
+
+    private void reschedule(final MailOutboxEntity email, final Exception failure, final Instant now) {
+        int attempts = email.getAttempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        long backoffMillis = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempts - 1, 20));
+        log.warn("Outbox email {} failed on attempt {}{}", email.getId(), attempts,
+                exhausted ? ", giving up" : "", failure);
+        String lastError = truncate(String.valueOf(failure.getMessage()));
+        if (exhausted) {
+            outboxRepository.markFailed(email.getId(), lastError);
+        } else {
+            outboxRepository.markRetry(email.getId(), now.plus(Duration.ofMillis(backoffMillis)), lastError);
+        }
+    }
+
+    private SimpleMailMessage toMessage(final MailOutboxEntity email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(email.getRecipient());
+        message.setSubject(email.getSubject());
+        message.setText(email.getBody());
+        return message;
+    }
+
+    private String truncate(final String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
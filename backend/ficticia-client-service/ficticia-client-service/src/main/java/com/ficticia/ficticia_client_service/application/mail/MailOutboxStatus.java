@@ -0,0 +1,16 @@
+package com.ficticia.ficticia_client_service.application.mail;
+
+/**
+ * Delivery states of an outbox email.
+ */
+public enum MailOutboxStatus {
+
+    /** Waiting to be sent, possibly after a failed attempt. */
+    PENDING,
+
+    /** Accepted by the mail server. */
+    SENT,
+
+    /** Every attempt failed; no more retries. */
+    FAILED
+}
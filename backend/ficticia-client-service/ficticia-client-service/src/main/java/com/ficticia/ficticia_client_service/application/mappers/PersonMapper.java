@@ -1,16 +1,25 @@
 package com.ficticia.ficticia_client_service.application.mappers;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.ficticia.ficticia_client_service.api.dtos.AdditionalAttributeDto;
 import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
 import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryResponse;
+import com.ficticia.ficticia_client_service.application.projection.PersonSummaryField;
 import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
 import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonSummaryRow;
 
 import org.springframework.stereotype.Component;
 
@@ -43,21 +52,51 @@ public class PersonMapper {
      *
      * @param entity  target entity to mutate
      * @param request request carrying the source values
+     * @return {@code true} when any column or attribute of the entity changed
      */
-    public void updateEntity(final PersonEntity entity, final PersonRequest request) {
+    public boolean updateEntity(final PersonEntity entity, final PersonRequest request) {
         if (entity == null || request == null) {
-            return;
+            return false;
+        }
+        boolean changed = !sameState(entity, request);
+        if (changed) {
+            applyRequest(entity, request);
         }
-        applyRequest(entity, request);
-        List<PersonAdditionalAttributeEntity> attributes = toAdditionalAttributeEntities(
-                request.getAdditionalAttributes(), entity);
         List<PersonAdditionalAttributeEntity> currentAttributes = entity.getAdditionalAttributes();
         if (currentAttributes == null) {
-            entity.setAdditionalAttributes(attributes);
-        } else {
-            currentAttributes.clear();
-            currentAttributes.addAll(attributes);
+            entity.setAdditionalAttributes(toAdditionalAttributeEntities(request.getAdditionalAttributes(), entity));
+            return true;
+        }
+        if (mergeAdditionalAttributes(currentAttributes, request.getAdditionalAttributes(), entity)) {
+            // Attribute rows are separate entities; touching the person moves its version and timestamp too
+            entity.setUpdatedAt(Instant.now());
+            return true;
+        }
+        return changed;
+    }
+
+    /**
+     * Converts a {@link PersonEntity} into the {@link PersonRequest} that would recreate its current state.
+     *
+     * @param entity source entity
+     * @return request mirroring the entity, used as the base document of partial updates
+     */
+    public PersonRequest toRequest(final PersonEntity entity) {
+        if (entity == null) {
+            return null;
         }
+        PersonRequest request = new PersonRequest();
+        request.setFullName(entity.getFullName());
+        request.setIdentification(entity.getIdentification());
+        request.setAge(entity.getAge());
+        request.setGender(entity.getGender());
+        request.setActive(entity.getActive());
+        request.setDrives(entity.getDrives());
+        request.setWearsGlasses(entity.getWearsGlasses());
+        request.setDiabetic(entity.getDiabetic());
+        request.setOtherDisease(entity.getOtherDisease());
+        request.setAdditionalAttributes(toAdditionalAttributeDtos(entity.getAdditionalAttributes()));
+        return request;
     }
 
     /**
@@ -70,6 +109,54 @@ public class PersonMapper {
         if (entity == null) {
             return null;
         }
+        return toResponse(entity, entity.getAdditionalAttributes());
+    }
+
+    /**
+     * Converts a list view projection into a {@link PersonSummaryResponse} holding only the selected fields.
+     *
+     * @param row    projected columns of the person
+     * @param fields fields requested by the caller
+     * @return mapped summary
+     */
+    public PersonSummaryResponse toSummaryResponse(final PersonSummaryRow row, final Set<PersonSummaryField> fields) {
+        if (row == null) {
+            return null;
+        }
+        PersonSummaryResponse response = new PersonSummaryResponse();
+        response.setId(row.getId());
+        response.setVersion(row.getVersion());
+        if (fields.contains(PersonSummaryField.FULL_NAME)) {
+            response.setFullName(row.getFullName());
+        }
+        if (fields.contains(PersonSummaryField.IDENTIFICATION)) {
+            response.setIdentification(row.getIdentification());
+        }
+        if (fields.contains(PersonSummaryField.AGE)) {
+            response.setAge(row.getAge());
+        }
+        if (fields.contains(PersonSummaryField.GENDER)) {
+            response.setGender(row.getGender());
+        }
+        if (fields.contains(PersonSummaryField.ACTIVE)) {
+            response.setActive(row.getActive());
+        }
+        return response;
+    }
+
+    /**
+     * Converts a {@link PersonEntity} into a {@link PersonResponse} using attributes loaded separately,
+     * so the lazy attribute collection of the entity is never initialized.
+     *
+     * @param entity     source entity
+     * @param attributes attributes that belong to the entity
+     * @return mapped response
+     */
+    public PersonResponse toResponse(final PersonEntity entity,
+                                     final List<PersonAdditionalAttributeEntity> attributes) {
+        if (entity == null) {
+            return null;
+        }
         PersonResponse response = new PersonResponse();
         response.setId(entity.getId());
         response.setFullName(entity.getFullName());
@@ -81,7 +168,9 @@ public class PersonMapper {
         response.setWearsGlasses(entity.getWearsGlasses());
         response.setDiabetic(entity.getDiabetic());
         response.setOtherDisease(entity.getOtherDisease());
-        response.setAdditionalAttributes(toAdditionalAttributeDtos(entity.getAdditionalAttributes()));
+        response.setAdditionalAttributes(toAdditionalAttributeDtos(attributes));
+        response.setVersion(entity.getVersion());
+        response.setUpdatedAt(entity.getUpdatedAt());
         return response;
     }
 
@@ -121,6 +210,18 @@ public class PersonMapper {
                 .collect(Collectors.toList());
     }
 
+    private boolean sameState(final PersonEntity entity, final PersonRequest request) {
+        return Objects.equals(entity.getFullName(), request.getFullName())
+                && Objects.equals(entity.getIdentification(), request.getIdentification())
+                && Objects.equals(entity.getAge(), request.getAge())
+                && Objects.equals(entity.getGender(), request.getGender())
+                && Objects.equals(entity.getActive(), request.getActive())
+                && Objects.equals(entity.getDrives(), request.getDrives())
+                && Objects.equals(entity.getWearsGlasses(), request.getWearsGlasses())
+                && Objects.equals(entity.getDiabetic(), request.getDiabetic())
+                && Objects.equals(entity.getOtherDisease(), request.getOtherDisease());
+    }
+
     private void applyRequest(final PersonEntity entity, final PersonRequest request) {
         entity.setFullName(request.getFullName());
         entity.setIdentification(request.getIdentification());
@@ -133,6 +234,42 @@ public class PersonMapper {
         entity.setOtherDisease(request.getOtherDisease());
     }
 
+    // Matches attributes by key as the unique constraint does, so unchanged rows are left alone, changed values
+    // become single-row UPDATEs and only added or dropped keys produce INSERTs or DELETEs
+    private boolean mergeAdditionalAttributes(final List<PersonAdditionalAttributeEntity> currentAttributes,
+                                              final List<AdditionalAttributeDto> requestedAttributes,
+                                              final PersonEntity owner) {
+        Map<String, AdditionalAttributeDto> requestedByKey = new LinkedHashMap<>();
+        if (requestedAttributes != null) {
+            requestedAttributes.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(dto -> requestedByKey.put(normalizeKey(dto.getKey()), dto));
+        }
+        boolean changed = currentAttributes.removeIf(
+                attribute -> !requestedByKey.containsKey(normalizeKey(attribute.getAttrKey())));
+        Map<String, PersonAdditionalAttributeEntity> currentByKey = new HashMap<>();
+        currentAttributes.forEach(attribute ->
+                currentByKey.putIfAbsent(normalizeKey(attribute.getAttrKey()), attribute));
+        for (Map.Entry<String, AdditionalAttributeDto> requested : requestedByKey.entrySet()) {
+            AdditionalAttributeDto dto = requested.getValue();
+            PersonAdditionalAttributeEntity current = currentByKey.get(requested.getKey());
+            if (current == null) {
+                currentAttributes.add(createAdditionalAttributeEntity(dto, owner));
+                changed = true;
+            } else if (!Objects.equals(current.getAttrKey(), dto.getKey())
+                    || !Objects.equals(current.getAttrValue(), dto.getValue())) {
+                current.setAttrKey(dto.getKey());
+                current.setAttrValue(dto.getValue());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private String normalizeKey(final String key) {
+        return key == null ? "" : key.trim().toLowerCase(Locale.ROOT);
+    }
+
     private PersonAdditionalAttributeEntity createAdditionalAttributeEntity(
             final AdditionalAttributeDto dto,
             final PersonEntity owner) {
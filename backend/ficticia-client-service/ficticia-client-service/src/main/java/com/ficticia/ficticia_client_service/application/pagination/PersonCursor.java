@@ -0,0 +1,126 @@
+package com.ficticia.ficticia_client_service.application.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+
+/**
+ * Position of the last row returned by a keyset-paginated listing.
+ *
+ * <p>Clients receive the cursor as an opaque URL-safe token and send it back unchanged to fetch the
+ * next page. The token embeds the sort key so it cannot be replayed against a different ordering.</p>
+ */
+public final class PersonCursor {
+
+    private static final String SEPARATOR = ":";
+    private static final String INVALID_CURSOR = "Invalid pagination cursor";
+
+    private final PersonSortKey sortKey;
+    private final Long id;
+    private final Instant updatedAt;
+
+    private PersonCursor(final PersonSortKey sortKey, final Long id, final Instant updatedAt) {
+        this.sortKey = sortKey;
+        this.id = id;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Creates a cursor positioned after the provided identifier.
+     *
+     * @param id identifier of the last returned person
+     * @return cursor for {@link PersonSortKey#ID}
+     */
+    public static PersonCursor afterId(final Long id) {
+        return new PersonCursor(PersonSortKey.ID, Objects.requireNonNull(id), null);
+    }
+
+    /**
+     * Creates a cursor positioned after the provided modification timestamp and identifier.
+     *
+     * @param updatedAt modification timestamp of the last returned person
+     * @param id        identifier of the last returned person
+     * @return cursor for {@link PersonSortKey#UPDATED_AT}
+     */
+    public static PersonCursor afterUpdatedAt(final Instant updatedAt, final Long id) {
+        return new PersonCursor(PersonSortKey.UPDATED_AT, Objects.requireNonNull(id),
+                Objects.requireNonNull(updatedAt));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token    opaque token supplied by the client
+     * @param expected sort key of the current request
+     * @return decoded cursor
+     * @throws BusinessException when the token is malformed or belongs to another sort key
+     */
+    public static PersonCursor decode(final String token, final PersonSortKey expected) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR);
+        } catch (IllegalArgumentException exception) {
+            throw new BusinessException(INVALID_CURSOR, exception);
+        }
+        try {
+            PersonSortKey sortKey = PersonSortKey.valueOf(parts[0]);
+            if (sortKey != expected) {
+                throw new BusinessException("Pagination cursor does not match the requested sort");
+            }
+            if (sortKey == PersonSortKey.ID && parts.length == 2) {
+                return afterId(Long.parseLong(parts[1]));
+            }
+            if (sortKey == PersonSortKey.UPDATED_AT && parts.length == 4) {
+                Instant updatedAt = Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                return afterUpdatedAt(updatedAt, Long.parseLong(parts[3]));
+            }
+        } catch (IllegalArgumentException | DateTimeException | ArrayIndexOutOfBoundsException exception) {
+            throw new BusinessException(INVALID_CURSOR, exception);
+        }
+        throw new BusinessException(INVALID_CURSOR);
+    }
+
+    /**
+     * Encodes the cursor into an opaque URL-safe token.
+     *
+     * @return token to hand over to clients
+     */
+    public String encode() {
+        String raw = sortKey == PersonSortKey.ID
+                ? String.join(SEPARATOR, sortKey.name(), String.valueOf(id))
+                : String.join(SEPARATOR, sortKey.name(), String.valueOf(updatedAt.getEpochSecond()),
+                        String.valueOf(updatedAt.getNano()), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Retrieves the sort key the cursor belongs to.
+     *
+     * @return sort key
+     */
+    public PersonSortKey getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * Retrieves the identifier of the last returned person.
+     *
+     * @return person identifier
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the modification timestamp of the last returned person.
+     *
+     * @return timestamp, or {@code null} for {@link PersonSortKey#ID} cursors
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
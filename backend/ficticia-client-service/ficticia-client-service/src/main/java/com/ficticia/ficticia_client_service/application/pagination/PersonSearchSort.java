@@ -0,0 +1,42 @@
+package com.ficticia.ficticia_client_service.application.pagination;
+
+/**
+ * Columns the person search can be sorted by, each backed by an index in {@code schema.sql}.
+ */
+public enum PersonSearchSort {
+
+    /**
+     * Orders by identifier.
+     */
+    ID("id"),
+
+    /**
+     * Orders by full name.
+     */
+    FULL_NAME("fullName"),
+
+    /**
+     * Orders by age.
+     */
+    AGE("age"),
+
+    /**
+     * Orders by modification timestamp.
+     */
+    UPDATED_AT("updatedAt");
+
+    private final String property;
+
+    PersonSearchSort(final String property) {
+        this.property = property;
+    }
+
+    /**
+     * Retrieves the entity property the sort applies to.
+     *
+     * @return JPA attribute name
+     */
+    public String getProperty() {
+        return property;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ficticia.ficticia_client_service.application.pagination;
+
+/**
+ * Keys supported by the keyset-paginated person listing.
+ *
+ * <p>Every key is combined with the person identifier as tie breaker so the ordering is total and
+ * a page boundary can be resumed without offsets.</p>
+ */
+public enum PersonSortKey {
+
+    /**
+     * Orders persons by ascending identifier.
+     */
+    ID,
+
+    /**
+     * Orders persons by ascending modification timestamp, then identifier.
+     */
+    UPDATED_AT
+}
@@ -0,0 +1,52 @@
+package com.ficticia.ficticia_client_service.application.patch;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies JSON Merge Patch documents (RFC 7386).
+ *
+ * <p>Object members of the patch replace or, when {@code null}, remove the matching members of the target;
+ * nested objects are merged recursively and any other value, arrays included, replaces the target value
+ * wholesale.</p>
+ */
+public final class JsonMergePatch {
+
+    /**
+     * Media type of JSON Merge Patch request bodies.
+     */
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Applies a merge patch without modifying its arguments.
+     *
+     * @param target current document
+     * @param patch  merge patch document
+     * @return patched document
+     */
+    public static JsonNode apply(final JsonNode target, final JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch.deepCopy();
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), apply(result.get(member.getKey()), member.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ficticia.ficticia_client_service.application.projection;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+
+/**
+ * Fields that can be selected through the {@code fields} parameter of the person listing.
+ *
+ * <p>All of them are served by one fixed projection query that reads every list view column, so a selection
+ * trims the response but not the columns read. The identifier and version are always returned because clients
+ * need them to address and edit the person, and the listing needs them for cursors and entity tags.</p>
+ */
+public enum PersonSummaryField {
+
+    /** Person identifier; always selected. */
+    ID("id"),
+    /** Full name. */
+    FULL_NAME("fullName"),
+    /** Identification document. */
+    IDENTIFICATION("identification"),
+    /** Age in years. */
+    AGE("age"),
+    /** Gender. */
+    GENDER("gender"),
+    /** Whether the person is active. */
+    ACTIVE("active");
+
+    private final String jsonName;
+
+    PersonSummaryField(final String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * Retrieves the name of the field in JSON payloads.
+     *
+     * @return JSON property name
+     */
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated list of JSON field names.
+     *
+     * @param fields value of the {@code fields} parameter; blank selects every field
+     * @return selected fields, always including {@link #ID}
+     * @throws BusinessException when a name is not a selectable field
+     */
+    public static Set<PersonSummaryField> parse(final String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(PersonSummaryField.class);
+        }
+        Set<PersonSummaryField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(fromJsonName(trimmed));
+            }
+        }
+        return selected;
+    }
+
+    private static PersonSummaryField fromJsonName(final String name) {
+        for (PersonSummaryField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new BusinessException(String.format(Locale.ROOT, "Unknown field '%s'; selectable fields are %s",
+                name, EnumSet.allOf(PersonSummaryField.class).stream()
+                        .map(PersonSummaryField::getJsonName)
+                        .collect(Collectors.joining(", "))));
+    }
+}
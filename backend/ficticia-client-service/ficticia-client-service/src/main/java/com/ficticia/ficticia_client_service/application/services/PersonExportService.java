@@ -0,0 +1,22 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+
+/**
+ * Streams full extracts of the person book.
+ */
+public interface PersonExportService {
+
+    /**
+     * Writes every person and its additional attributes to the provided stream. Rows are read from a
+     * forward-only cursor and written as they arrive, so memory usage does not grow with the table size.
+     *
+     * @param format       output format
+     * @param outputStream destination stream; it is flushed but not closed
+     * @throws IOException when writing to the destination fails
+     */
+    void exportPersons(PersonExportFormat format, OutputStream outputStream) throws IOException;
+}
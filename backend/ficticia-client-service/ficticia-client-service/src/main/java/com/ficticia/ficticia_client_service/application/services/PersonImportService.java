@@ -0,0 +1,24 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportReport;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+
+/**
+ * Imports large batches of persons from NDJSON or CSV files.
+ */
+public interface PersonImportService {
+
+    /**
+     * Reads, validates and inserts every person in the input. Valid rows are committed in chunks, so a
+     * rejected row never discards the rest of the file.
+     *
+     * @param format      format of the input, using the same layout as the export
+     * @param inputStream source of the records
+     * @return report with counters, throughput and the rejected rows
+     * @throws IOException when the input cannot be read
+     */
+    PersonImportReport importPersons(PersonExportFormat format, InputStream inputStream) throws IOException;
+}
@@ -0,0 +1,60 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+import com.ficticia.ficticia_client_service.api.dtos.PersonJobResponse;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobType;
+
+/**
+ * Manages asynchronous bulk jobs over persons.
+ */
+public interface PersonJobService {
+
+    /**
+     * Stores the input and queues a new job.
+     *
+     * @param type        what the job does with each record
+     * @param format      format of the input
+     * @param inputStream source of the records
+     * @return queued job
+     * @throws IOException when the input cannot be stored
+     */
+    PersonJobResponse submitJob(PersonJobType type, PersonExportFormat format, InputStream inputStream)
+            throws IOException;
+
+    /**
+     * Retrieves the state and progress of a job.
+     *
+     * @param id job identifier
+     * @return job state
+     */
+    PersonJobResponse getJob(Long id);
+
+    /**
+     * Lists the records rejected by a job.
+     *
+     * @param id job identifier
+     * @return rejected records in input order
+     */
+    List<PersonImportError> getJobErrors(Long id);
+
+    /**
+     * Cancels a queued job, or asks a running job to stop after its current chunk.
+     *
+     * @param id job identifier
+     * @return job state after the request
+     */
+    PersonJobResponse cancelJob(Long id);
+
+    /**
+     * Queues a failed or cancelled job again; it continues after its last committed chunk.
+     *
+     * @param id job identifier
+     * @return job state after the request
+     */
+    PersonJobResponse resumeJob(Long id);
+}
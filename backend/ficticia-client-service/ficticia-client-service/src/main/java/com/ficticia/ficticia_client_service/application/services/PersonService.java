@@ -1,9 +1,19 @@
 package com.ficticia.ficticia_client_service.application.services;
 
 import java.util.List;
+import java.util.Set;
 
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonPageResponse;
 import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
 import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryPageResponse;
+import com.ficticia.ficticia_client_service.application.cache.ResourceVersion;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSortKey;
+import com.ficticia.ficticia_client_service.application.projection.PersonSummaryField;
+import com.fasterxml.jackson.databind.JsonNode;
 
 /**
  * Defines the contract for managing person-related use cases.
@@ -11,12 +21,66 @@ import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
 public interface PersonService {
 
     /**
-     * Retrieves the complete list of registered persons.
+     * Retrieves the registered persons, bounded to the configured maximum list size.
      *
-     * @return list of {@link PersonResponse}
+     * @return list of {@link PersonResponse} ordered by identifier
+     * @deprecated use {@link #getPersonsPage(String, Integer, PersonSortKey)} to walk the full collection
      */
+    @Deprecated
     List<PersonResponse> getAllPersons();
 
+    /**
+     * Retrieves a single keyset page of persons.
+     *
+     * @param cursor  opaque continuation token returned by the previous page, or {@code null} for the first page
+     * @param size    requested page size, or {@code null} to use the configured default
+     * @param sortKey ordering applied to the listing
+     * @return page of {@link PersonResponse} with its continuation token
+     */
+    PersonPageResponse getPersonsPage(String cursor, Integer size, PersonSortKey sortKey);
+
+    /**
+     * Retrieves a single keyset page of persons restricted to list view fields. The columns are read through a
+     * projection, so neither entities nor additional attributes are loaded. The projection always reads every
+     * list view column; {@code fields} only trims the items returned.
+     *
+     * @param cursor  opaque continuation token returned by the previous page, or {@code null} for the first page
+     * @param size    requested page size, or {@code null} to use the configured default
+     * @param sortKey ordering applied to the listing
+     * @param fields  fields to include in each item
+     * @return page of summaries with its continuation token
+     */
+    PersonSummaryPageResponse getPersonSummariesPage(String cursor, Integer size, PersonSortKey sortKey,
+                                                     Set<PersonSummaryField> fields);
+
+    /**
+     * Computes the validators of {@link #getAllPersons()} from the identifiers and versions only.
+     *
+     * @return validators of the bounded listing
+     * @deprecated use {@link #getPersonsPageVersion(String, Integer, PersonSortKey)} with the paginated listing
+     */
+    @Deprecated
+    ResourceVersion getAllPersonsVersion();
+
+    /**
+     * Computes the validators of a keyset page from the identifiers and versions only, without loading
+     * attributes.
+     *
+     * @param cursor  opaque continuation token, or {@code null} for the first page
+     * @param size    requested page size, or {@code null} to use the configured default
+     * @param sortKey ordering applied to the listing
+     * @return validators matching the page returned by {@link #getPersonsPage(String, Integer, PersonSortKey)}
+     */
+    ResourceVersion getPersonsPageVersion(String cursor, Integer size, PersonSortKey sortKey);
+
+    /**
+     * Searches persons applying the provided filters, sorting and pagination in the database.
+     *
+     * @param request filters, sort and page to apply
+     * @return requested page of matching persons
+     */
+    PersonSearchResponse searchPersons(PersonSearchRequest request);
+
     /**
      * Retrieves a single person by identifier.
      *
@@ -25,6 +89,22 @@ public interface PersonService {
      */
     PersonResponse getPersonById(Long id);
 
+    /**
+     * Retrieves several persons by identifier with one query for the persons and one for their attributes.
+     *
+     * @param ids identifiers to resolve; duplicates are returned once
+     * @return persons found in request order together with the identifiers that do not exist
+     */
+    PersonBatchGetResponse getPersonsByIds(List<Long> ids);
+
+    /**
+     * Reads the current version and modification timestamp of a person without loading it.
+     *
+     * @param id unique identifier of the person
+     * @return validators of the person
+     */
+    ResourceVersion getPersonVersion(Long id);
+
     /**
      * Creates a new person resource.
      *
@@ -34,13 +114,30 @@ public interface PersonService {
     PersonResponse createPerson(PersonRequest request);
 
     /**
-     * Updates an existing person resource.
+     * Updates an existing person resource, provided it is still at the version the caller read.
+     *
+     * <p>Only the changed columns are written; a request matching the stored state writes nothing and keeps the
+     * version unchanged.</p>
+     *
+     * @param id              identifier of the person being updated
+     * @param request         payload containing the new data
+     * @param expectedVersion version the caller based its changes on, or {@code null} to skip the check
+     * @return updated {@link PersonResponse}
+     */
+    PersonResponse updatePerson(Long id, PersonRequest request, Long expectedVersion);
+
+    /**
+     * Applies a JSON Merge Patch to an existing person, provided it is still at the version the caller read.
+     *
+     * <p>Only members present in the patch change; additional attributes, being an array, are replaced as a
+     * whole but stored by difference, so untouched attributes are not rewritten.</p>
      *
-     * @param id      identifier of the person being updated
-     * @param request payload containing the new data
+     * @param id              identifier of the person being patched
+     * @param patch           merge patch document
+     * @param expectedVersion version the caller based its changes on, or {@code null} to skip the check
      * @return updated {@link PersonResponse}
      */
-    PersonResponse updatePerson(Long id, PersonRequest request);
+    PersonResponse patchPerson(Long id, JsonNode patch, Long expectedVersion);
 
     /**
      * Deletes a person resource permanently.
@@ -1,15 +1,16 @@
 package com.ficticia.ficticia_client_service.application.services.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,20 +25,27 @@ import com.ficticia.ficticia_client_service.api.dtos.RegisterResponse;
 import com.ficticia.ficticia_client_service.api.dtos.ResetPasswordRequest;
 import com.ficticia.ficticia_client_service.api.exception.BusinessException;
 import com.ficticia.ficticia_client_service.application.services.AuthService;
+import com.ficticia.ficticia_client_service.infrastructure.configs.CustomUserDetailsService;
 import com.ficticia.ficticia_client_service.infrastructure.configs.JwtTokenProvider;
+import com.ficticia.ficticia_client_service.infrastructure.configs.TokenRevocationService;
+import com.ficticia.ficticia_client_service.infrastructure.entities.MailOutboxEntity;
 import com.ficticia.ficticia_client_service.infrastructure.entities.RoleEntity;
 import com.ficticia.ficticia_client_service.infrastructure.entities.UserEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.MailOutboxRepository;
 import com.ficticia.ficticia_client_service.infrastructure.repositories.RoleRepository;
 import com.ficticia.ficticia_client_service.infrastructure.repositories.UserRepository;
 
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Handles authentication requests by validating credentials and issuing JWT tokens.
+ *
+ * <p>Every public method is timed as {@code auth.service}, tagged with the method name.</p>
  */
 @Service
+@Timed(value = "auth.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 @RequiredArgsConstructor
 @Slf4j
 public class AuthServiceImpl implements AuthService {
@@ -46,7 +54,9 @@ public class AuthServiceImpl implements AuthService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final JavaMailSender mailSender;
+    private final TokenRevocationService tokenRevocationService;
+    private final CustomUserDetailsService userDetailsService;
+    private final MailOutboxRepository mailOutboxRepository;
 
     @Value("${app.frontend.base-url:http://localhost:4200}")
     private String frontendBaseUrl;
@@ -54,24 +64,6 @@ public class AuthServiceImpl implements AuthService {
     @Value("${app.security.reset-token-minutes:60}")
     private long resetTokenMinutes;
 
-    @Value("${spring.mail.host:unknown}")
-    private String mailHost;
-
-    @Value("${spring.mail.port:0}")
-    private int mailPort;
-
-    @Value("${spring.mail.properties.mail.smtp.auth:false}")
-    private boolean mailSmtpAuth;
-
-    @Value("${spring.mail.properties.mail.smtp.starttls.enable:false}")
-    private boolean mailStartTls;
-
-    @PostConstruct
-    void logMailConfiguration() {
-        log.info("Password reset emails configured for {}:{} (auth={}, startTLS={})", mailHost, mailPort, mailSmtpAuth,
-                mailStartTls);
-    }
-
     @Override
     public LoginResponse login(final LoginRequest request) {
         if (request == null) {
@@ -130,6 +122,7 @@ public class AuthServiceImpl implements AuthService {
                 .build();
         user.getRoles().add(defaultRole);
         UserEntity saved = userRepository.save(user);
+        userDetailsService.evictUser(saved.getUsername());
         return RegisterResponse.builder()
                 .username(saved.getUsername())
                 .roles(saved.getRoles().stream()
@@ -147,10 +140,11 @@ public class AuthServiceImpl implements AuthService {
         }
         userRepository.findByEmailIgnoreCase(request.getEmail())
                 .ifPresentOrElse(user -> {
-                    user.setPasswordResetToken(UUID.randomUUID().toString());
+                    String token = UUID.randomUUID().toString();
+                    user.setPasswordResetTokenHash(hashResetToken(token));
                     user.setPasswordResetTokenExpiresAt(Instant.now().plus(resetTokenMinutes, ChronoUnit.MINUTES));
                     userRepository.save(user);
-                    sendPasswordResetEmail(user);
+                    queuePasswordResetEmail(user, token);
                 }, () -> log.info("Password reset requested for non-existent email {}", request.getEmail()));
     }
 
@@ -163,32 +157,44 @@ public class AuthServiceImpl implements AuthService {
         if (!request.getPassword().equals(request.getConfirmPassword())) {
             throw new BusinessException("Password and confirmation must match");
         }
-        UserEntity user = userRepository.findByPasswordResetToken(request.getToken())
+        if (request.getToken() == null || request.getToken().isBlank()) {
+            throw new BusinessException("Invalid or expired reset token");
+        }
+        UserEntity user = userRepository.findByPasswordResetTokenHash(hashResetToken(request.getToken()))
                 .orElseThrow(() -> new BusinessException("Invalid or expired reset token"));
         Instant expiresAt = user.getPasswordResetTokenExpiresAt();
         if (expiresAt == null || expiresAt.isBefore(Instant.now())) {
             throw new BusinessException("Invalid or expired reset token");
         }
         user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setPasswordResetToken(null);
+        user.setPasswordResetTokenHash(null);
         user.setPasswordResetTokenExpiresAt(null);
         userRepository.save(user);
+        // Sessions opened with the old password must not survive the reset
+        tokenRevocationService.revokeTokens(user.getUsername());
+        userDetailsService.evictUser(user.getUsername());
     }
 
     private BusinessException invalidCredentials() {
         return new BusinessException("Invalid username or password");
     }
 
-    private void sendPasswordResetEmail(final UserEntity user) {
+    private void queuePasswordResetEmail(final UserEntity user, final String token) {
+        // Sent by MailOutboxDispatcher once this transaction commits
+        mailOutboxRepository.save(MailOutboxEntity.builder()
+                .recipient(user.getEmail())
+                .subject("Ficticia - Cambio de contraseña solicitado")
+                .body(buildResetEmailBody(user.getUsername(), token))
+                .build());
+    }
+
+    // Only the digest is stored, so a leaked users table cannot be used to reset passwords
+    private static String hashResetToken(final String token) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(user.getEmail());
-            message.setSubject("Ficticia - Cambio de contraseña solicitado");
-            message.setText(buildResetEmailBody(user.getUsername(), user.getPasswordResetToken()));
-            mailSender.send(message);
-        } catch (MailException exception) {
-            log.error("Failed to send password reset email", exception);
-            throw new BusinessException("Imposible enviar el correo electrónico. Por favor, inténtalo de nuevo más tarde.");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
         }
     }
 
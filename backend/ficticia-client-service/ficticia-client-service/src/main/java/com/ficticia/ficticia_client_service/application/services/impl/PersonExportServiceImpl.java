@@ -0,0 +1,139 @@
+package com.ficticia.ficticia_client_service.application.services.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ficticia.ficticia_client_service.api.dtos.AdditionalAttributeDto;
+import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.application.export.AdditionalAttributesCsvCodec;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.services.PersonExportService;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonExportRow;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Default implementation of {@link PersonExportService}. Consecutive rows of the joined cursor are folded
+ * into one record per person, so only the person currently being written is held in memory.
+ */
+@Service
+public class PersonExportServiceImpl implements PersonExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "full_name", "identification", "age", "gender", "active", "drives",
+            "wears_glasses", "diabetic", "other_disease", "additional_attributes"
+    };
+
+    private final PersonRepository personRepository;
+    private final ObjectWriter jsonWriter;
+
+    /**
+     * Creates a new {@link PersonExportServiceImpl}.
+     *
+     * @param personRepository repository exposing the export cursor
+     * @param objectMapper     mapper used to serialize NDJSON records
+     */
+    public PersonExportServiceImpl(final PersonRepository personRepository, final ObjectMapper objectMapper) {
+        this.personRepository = personRepository;
+        this.jsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPersons(final PersonExportFormat format, final OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == PersonExportFormat.CSV) {
+            writeCsvRow(writer, CSV_HEADER);
+        }
+        try (Stream<PersonExportRow> rows = personRepository.streamAllForExport()) {
+            Iterator<PersonExportRow> iterator = rows.iterator();
+            PersonResponse current = null;
+            while (iterator.hasNext()) {
+                PersonExportRow row = iterator.next();
+                if (current == null || !current.getId().equals(row.getId())) {
+                    writeRecord(writer, format, current);
+                    current = toResponse(row);
+                }
+                if (row.getAttrId() != null) {
+                    AdditionalAttributeDto attribute = new AdditionalAttributeDto();
+                    attribute.setId(row.getAttrId());
+                    attribute.setKey(row.getAttrKey());
+                    attribute.setValue(row.getAttrValue());
+                    current.getAdditionalAttributes().add(attribute);
+                }
+            }
+            writeRecord(writer, format, current);
+        }
+        writer.flush();
+    }
+
+    private void writeRecord(final Writer writer, final PersonExportFormat format, final PersonResponse person)
+            throws IOException {
+        if (person == null) {
+            return;
+        }
+        if (format == PersonExportFormat.NDJSON) {
+            jsonWriter.writeValue(writer, person);
+            writer.write('\n');
+            return;
+        }
+        String attributes = AdditionalAttributesCsvCodec.format(person.getAdditionalAttributes());
+        writeCsvRow(writer, new String[] {
+                String.valueOf(person.getId()), person.getFullName(), person.getIdentification(),
+                String.valueOf(person.getAge()), person.getGender(), String.valueOf(person.getActive()),
+                String.valueOf(person.getDrives()), String.valueOf(person.getWearsGlasses()),
+                String.valueOf(person.getDiabetic()), person.getOtherDisease(), attributes
+        });
+    }
+
+    private PersonResponse toResponse(final PersonExportRow row) {
+        PersonResponse person = new PersonResponse();
+        person.setId(row.getId());
+        person.setFullName(row.getFullName());
+        person.setIdentification(row.getIdentification());
+        person.setAge(row.getAge());
+        person.setGender(row.getGender());
+        person.setActive(row.getActive());
+        person.setDrives(row.getDrives());
+        person.setWearsGlasses(row.getWearsGlasses());
+        person.setDiabetic(row.getDiabetic());
+        person.setOtherDisease(row.getOtherDisease());
+        person.setVersion(row.getVersion());
+        person.setUpdatedAt(row.getUpdatedAt());
+        person.setAdditionalAttributes(new ArrayList<>());
+        return person;
+    }
+
+    private void writeCsvRow(final Writer writer, final String[] values) throws IOException {
+        List<String> escaped = new ArrayList<>(values.length);
+        for (String value : values) {
+            escaped.add(escapeCsv(value));
+        }
+        writer.write(String.join(",", escaped));
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(final String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
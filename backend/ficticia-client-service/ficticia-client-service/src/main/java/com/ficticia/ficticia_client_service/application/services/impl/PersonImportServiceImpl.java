@@ -0,0 +1,123 @@
+package com.ficticia.ficticia_client_service.application.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportReport;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.imports.PersonChunkProcessor;
+import com.ficticia.ficticia_client_service.application.imports.PersonChunkResult;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportMode;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportReader;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportReaders;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportRow;
+import com.ficticia.ficticia_client_service.application.services.PersonImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Default implementation of {@link PersonImportService}.
+ *
+ * <p>Rows are streamed from the input and handed to {@link PersonChunkProcessor} in chunks, each one
+ * committed in its own transaction, so memory usage depends on the chunk size rather than the file size. A chunk
+ * the database rejects is retried row by row, so only the offending rows are reported.</p>
+ */
+@Service
+public class PersonImportServiceImpl implements PersonImportService {
+
+    private final PersonChunkProcessor chunkProcessor;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.persons.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.persons.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    /**
+     * Creates a new {@link PersonImportServiceImpl}.
+     *
+     * @param chunkProcessor      processor validating and writing each chunk
+     * @param objectMapper        mapper used to parse NDJSON records
+     * @param transactionTemplate template delimiting one transaction per chunk
+     */
+    public PersonImportServiceImpl(final PersonChunkProcessor chunkProcessor,
+                                   final ObjectMapper objectMapper,
+                                   final TransactionTemplate transactionTemplate) {
+        this.chunkProcessor = chunkProcessor;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public PersonImportReport importPersons(final PersonExportFormat format, final InputStream inputStream)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        PersonImportReport report = new PersonImportReport();
+        try (PersonImportReader reader = PersonImportReaders.open(format, inputStream, objectMapper)) {
+            List<PersonImportRow> chunk = new ArrayList<>(chunkSize);
+            PersonImportRow row;
+            while ((row = reader.next()) != null) {
+                report.setReceived(report.getReceived() + 1);
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, report);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        report.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.setRowsPerSecond(elapsedNanos == 0 ? 0 : report.getReceived() * 1_000_000_000d / elapsedNanos);
+        return report;
+    }
+
+    private void importChunk(final List<PersonImportRow> chunk, final PersonImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<PersonImportError> errors;
+        try {
+            PersonChunkResult result = transactionTemplate.execute(
+                    status -> chunkProcessor.process(chunk, PersonImportMode.CREATE));
+            report.setImported(report.getImported() + result.getApplied());
+            errors = result.getErrors();
+        } catch (DataAccessException ex) {
+            // A concurrent writer may have taken an identification after the check: the chunk is rolled back and
+            // its rows are retried one by one, so only the conflicting ones are rejected
+            errors = new ArrayList<>();
+            for (PersonImportRow row : chunk) {
+                errors.addAll(importRow(row, report));
+            }
+        }
+        report.setFailed(report.getFailed() + errors.size());
+        for (PersonImportError error : errors) {
+            if (report.getErrors().size() < maxReportedErrors) {
+                report.getErrors().add(error);
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+    }
+
+    private List<PersonImportError> importRow(final PersonImportRow row, final PersonImportReport report) {
+        try {
+            PersonChunkResult result = transactionTemplate.execute(
+                    status -> chunkProcessor.process(List.of(row), PersonImportMode.CREATE));
+            report.setImported(report.getImported() + result.getApplied());
+            return result.getErrors();
+        } catch (DataAccessException ex) {
+            return List.of(chunkProcessor.toRejectedError(row, ex));
+        }
+    }
+}
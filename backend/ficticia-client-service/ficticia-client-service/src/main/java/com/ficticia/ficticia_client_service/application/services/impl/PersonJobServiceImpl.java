@@ -0,0 +1,212 @@
+package com.ficticia.ficticia_client_service.application.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+import com.ficticia.ficticia_client_service.api.dtos.PersonJobResponse;
+import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+import com.ficticia.ficticia_client_service.api.exception.ResourceNotFoundException;
+import com.ficticia.ficticia_client_service.api.exception.ServiceUnavailableException;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobDispatcher;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobStatus;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobType;
+import com.ficticia.ficticia_client_service.application.services.PersonJobService;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobErrorRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Default implementation of {@link PersonJobService}. Inputs are spooled to disk so a job can be resumed
+ * after a restart, and the job state lives in the {@code person_jobs} table.
+ *
+ * <p>Running jobs are leased to the instance executing them, so several instances can share the table: a job
+ * is only taken over once its worker stopped renewing the lease. Any instance may take a job over, so with more
+ * than one instance {@code app.jobs.storage-dir} must be a volume shared by all of them.</p>
+ */
+@Slf4j
+@Service
+public class PersonJobServiceImpl implements PersonJobService {
+
+    private final PersonJobRepository jobRepository;
+    private final PersonJobErrorRepository jobErrorRepository;
+    private final PersonJobDispatcher jobDispatcher;
+
+    @Value("${app.jobs.storage-dir:${java.io.tmpdir}/ficticia-jobs}")
+    private String storageDir;
+
+    @Value("${app.persons.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    /**
+     * Creates a new {@link PersonJobServiceImpl}.
+     *
+     * @param jobRepository      repository storing job state and progress
+     * @param jobErrorRepository repository storing rejected records
+     * @param jobDispatcher      dispatcher running jobs on the worker pool
+     */
+    public PersonJobServiceImpl(final PersonJobRepository jobRepository,
+                                final PersonJobErrorRepository jobErrorRepository,
+                                final PersonJobDispatcher jobDispatcher) {
+        this.jobRepository = jobRepository;
+        this.jobErrorRepository = jobErrorRepository;
+        this.jobDispatcher = jobDispatcher;
+    }
+
+    @Override
+    public PersonJobResponse submitJob(final PersonJobType type, final PersonExportFormat format,
+                                       final InputStream inputStream) throws IOException {
+        Path directory = Files.createDirectories(Path.of(storageDir));
+        Path source = directory.resolve("job-" + UUID.randomUUID() + "." + format.getFileExtension());
+        Files.copy(inputStream, source);
+        PersonJobEntity job = jobRepository.save(PersonJobEntity.builder()
+                .type(type)
+                .status(PersonJobStatus.QUEUED)
+                .format(format)
+                .sourcePath(source.toString())
+                .build());
+        try {
+            jobDispatcher.dispatch(job.getId());
+        } catch (RejectedExecutionException ex) {
+            jobRepository.delete(job);
+            Files.deleteIfExists(source);
+            throw new ServiceUnavailableException("Too many bulk jobs are queued, try again later", ex);
+        }
+        return toResponse(job);
+    }
+
+    @Override
+    public PersonJobResponse getJob(final Long id) {
+        return toResponse(findJob(id));
+    }
+
+    @Override
+    public List<PersonImportError> getJobErrors(final Long id) {
+        findJob(id);
+        return jobErrorRepository.findByJobIdOrderByLineAsc(id, Limit.of(maxReportedErrors)).stream()
+                .map(error -> PersonImportError.of(error.getLine(), error.getIdentification(), error.getMessage()))
+                .toList();
+    }
+
+    @Override
+    public PersonJobResponse cancelJob(final Long id) {
+        findJob(id);
+        Instant now = Instant.now();
+        if (jobRepository.cancelQueued(id, now) == 0 && jobRepository.requestCancel(id, now) == 0) {
+            throw new BusinessException("Only queued or running jobs can be cancelled");
+        }
+        return getJob(id);
+    }
+
+    @Override
+    public PersonJobResponse resumeJob(final Long id) {
+        PersonJobEntity job = findJob(id);
+        if (!Files.exists(Path.of(job.getSourcePath()))) {
+            throw new BusinessException("The input of this job is no longer available");
+        }
+        if (jobRepository.requeue(id, Instant.now()) == 0) {
+            throw new BusinessException("Only failed or cancelled jobs can be resumed");
+        }
+        try {
+            jobDispatcher.dispatch(id);
+        } catch (RejectedExecutionException ex) {
+            // The job stays queued and is picked up on the next start
+            throw new ServiceUnavailableException("Too many bulk jobs are queued, try again later", ex);
+        }
+        return getJob(id);
+    }
+
+    /**
+     * Queues again the jobs left queued by a previous process and the running jobs whose lease expired, so a
+     * restart does not lose them. Jobs still leased by a live instance are left to it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        int interrupted = requeueExpiredJobs().size();
+        List<PersonJobEntity> queued = jobRepository.findByStatusOrderByIdAsc(PersonJobStatus.QUEUED);
+        if (!queued.isEmpty()) {
+            log.info("Resuming {} bulk jobs ({} interrupted while running)", queued.size(), interrupted);
+        }
+        for (PersonJobEntity job : queued) {
+            dispatchQueued(job.getId());
+        }
+    }
+
+    /**
+     * Takes over the running jobs whose worker stopped renewing its lease, e.g. because its instance died.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.lease-check-interval-millis:60000}",
+            initialDelayString = "${app.jobs.lease-check-interval-millis:60000}")
+    public void recoverExpiredJobs() {
+        List<Long> requeued = requeueExpiredJobs();
+        if (!requeued.isEmpty()) {
+            log.info("Taking over {} bulk jobs whose lease expired", requeued.size());
+        }
+        requeued.forEach(this::dispatchQueued);
+    }
+
+    private List<Long> requeueExpiredJobs() {
+        Instant now = Instant.now();
+        return jobRepository.findIdsWithExpiredLease(now).stream()
+                .filter(id -> jobRepository.requeueExpired(id, now) == 1)
+                .toList();
+    }
+
+    private void dispatchQueued(final Long jobId) {
+        try {
+            jobDispatcher.dispatch(jobId);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Bulk job {} stays queued until the next start: worker queue is full", jobId);
+        }
+    }
+
+    private PersonJobEntity findJob(final Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format(Locale.ROOT, "Job with id %d was not found", id)));
+    }
+
+    private PersonJobResponse toResponse(final PersonJobEntity job) {
+        double rowsPerSecond = job.getActiveMillis() == 0
+                ? 0
+                : job.getProcessedRows() * 1000d / job.getActiveMillis();
+        Long etaSeconds = null;
+        if (job.getStatus() == PersonJobStatus.RUNNING && job.getTotalRows() != null && rowsPerSecond > 0) {
+            etaSeconds = Math.round((job.getTotalRows() - job.getProcessedRows()) / rowsPerSecond);
+        }
+        return PersonJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .format(job.getFormat())
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .appliedRows(job.getAppliedRows())
+                .failedRows(job.getFailedRows())
+                .rowsPerSecond(rowsPerSecond)
+                .etaSeconds(etaSeconds)
+                .cancelRequested(job.isCancelRequested())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
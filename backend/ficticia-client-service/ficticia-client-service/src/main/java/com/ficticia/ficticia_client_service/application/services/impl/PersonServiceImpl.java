@@ -1,58 +1,257 @@
 package com.ficticia.ficticia_client_service.application.services.impl;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonPageResponse;
 import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
 import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryPageResponse;
 import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+import com.ficticia.ficticia_client_service.api.exception.PreconditionFailedException;
 import com.ficticia.ficticia_client_service.api.exception.ResourceNotFoundException;
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.cache.ResourceVersion;
 import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.application.pagination.PersonCursor;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSearchSort;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSortKey;
+import com.ficticia.ficticia_client_service.application.patch.JsonMergePatch;
+import com.ficticia.ficticia_client_service.application.projection.PersonSummaryField;
 import com.ficticia.ficticia_client_service.application.services.PersonService;
 import com.ficticia.ficticia_client_service.application.validators.PersonValidator;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
 import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonAdditionalAttributeRepository;
 import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonSpecifications;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonSummaryRow;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonVersionRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Default implementation of {@link PersonService} orchestrating persistence, mapping and validation.
+ *
+ * <p>Every public method is timed as {@code persons.service}, tagged with the method name.</p>
  */
 @Service
+@Timed(value = "persons.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 @Transactional(readOnly = true)
 public class PersonServiceImpl implements PersonService {
 
     private final PersonRepository personRepository;
+    private final PersonAdditionalAttributeRepository attributeRepository;
     private final PersonValidator personValidator;
     private final PersonMapper personMapper;
+    private final PersonResponseCache personCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${app.persons.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.persons.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${app.persons.list.max-results:1000}")
+    private int maxListResults;
+
+    @Value("${app.persons.batch.max-size:500}")
+    private int maxBatchSize;
 
     /**
      * Creates a new {@link PersonServiceImpl}.
      *
-     * @param personRepository repository used to persist persons
-     * @param personValidator  validator containing business rules
-     * @param personMapper     mapper converting between DTOs and entities
+     * @param personRepository    repository used to persist persons
+     * @param attributeRepository repository used to bulk load additional attributes for listings
+     * @param personValidator     validator containing business rules
+     * @param personMapper        mapper converting between DTOs and entities
+     * @param personCache         cache of single-person responses
+     * @param objectMapper        mapper applying merge patches to the JSON form of a person
+     * @param validator           bean validator checking patched persons
+     * @param transactionManager  manager opening the read-only transaction of single-person cache misses
      */
     public PersonServiceImpl(final PersonRepository personRepository,
+                              final PersonAdditionalAttributeRepository attributeRepository,
                               final PersonValidator personValidator,
-                              final PersonMapper personMapper) {
+                              final PersonMapper personMapper,
+                              final PersonResponseCache personCache,
+                              final ObjectMapper objectMapper,
+                              final Validator validator,
+                              final PlatformTransactionManager transactionManager) {
         this.personRepository = personRepository;
+        this.attributeRepository = attributeRepository;
         this.personValidator = personValidator;
         this.personMapper = personMapper;
+        this.personCache = personCache;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
+    @Deprecated
     public List<PersonResponse> getAllPersons() {
-        return personRepository.findAll().stream()
-                .map(personMapper::toResponse)
-                .toList();
+        return toResponses(personRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(maxListResults)));
+    }
+
+    @Override
+    public PersonPageResponse getPersonsPage(final String cursor, final Integer size, final PersonSortKey sortKey) {
+        int pageSize = resolvePageSize(size);
+        PersonSortKey effectiveSortKey = sortKey == null ? PersonSortKey.ID : sortKey;
+        PersonCursor position = cursor == null || cursor.isBlank()
+                ? null
+                : PersonCursor.decode(cursor, effectiveSortKey);
+        // Reading one extra row tells whether another page exists without issuing a count query
+        List<PersonEntity> rows = loadPage(effectiveSortKey, position, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<PersonEntity> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        PersonPageResponse response = new PersonPageResponse();
+        response.setItems(toResponses(pageRows));
+        response.setSize(pageSize);
+        response.setHasMore(hasMore);
+        if (hasMore) {
+            response.setNextCursor(toCursor(effectiveSortKey, pageRows.get(pageRows.size() - 1)).encode());
+        }
+        return response;
+    }
+
+    @Override
+    public PersonSummaryPageResponse getPersonSummariesPage(final String cursor, final Integer size,
+                                                            final PersonSortKey sortKey,
+                                                            final Set<PersonSummaryField> fields) {
+        int pageSize = resolvePageSize(size);
+        PersonSortKey effectiveSortKey = sortKey == null ? PersonSortKey.ID : sortKey;
+        PersonCursor position = cursor == null || cursor.isBlank()
+                ? null
+                : PersonCursor.decode(cursor, effectiveSortKey);
+        List<PersonSummaryRow> rows = loadPageSummaries(effectiveSortKey, position, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<PersonSummaryRow> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        PersonSummaryPageResponse response = new PersonSummaryPageResponse();
+        response.setItems(pageRows.stream()
+                .map(row -> personMapper.toSummaryResponse(row, fields))
+                .toList());
+        response.setSize(pageSize);
+        response.setHasMore(hasMore);
+        if (hasMore) {
+            response.setNextCursor(toCursor(effectiveSortKey, pageRows.get(pageRows.size() - 1)).encode());
+        }
+        return response;
+    }
+
+    @Override
+    @Deprecated
+    public ResourceVersion getAllPersonsVersion() {
+        List<PersonVersionRow> rows = personRepository.findVersionsAfterId(0L, Limit.of(maxListResults));
+        return ResourceVersion.ofCollection(rows, PersonVersionRow::getId, PersonVersionRow::getVersion, false);
+    }
+
+    @Override
+    public ResourceVersion getPersonsPageVersion(final String cursor, final Integer size,
+                                                 final PersonSortKey sortKey) {
+        int pageSize = resolvePageSize(size);
+        PersonSortKey effectiveSortKey = sortKey == null ? PersonSortKey.ID : sortKey;
+        PersonCursor position = cursor == null || cursor.isBlank()
+                ? null
+                : PersonCursor.decode(cursor, effectiveSortKey);
+        List<PersonVersionRow> rows = loadPageVersions(effectiveSortKey, position, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<PersonVersionRow> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        return ResourceVersion.ofCollection(pageRows, PersonVersionRow::getId, PersonVersionRow::getVersion, hasMore);
     }
 
     @Override
+    public PersonSearchResponse searchPersons(final PersonSearchRequest request) {
+        if (request.getMinAge() != null && request.getMaxAge() != null && request.getMinAge() > request.getMaxAge()) {
+            throw new BusinessException("Minimum age must not be greater than maximum age");
+        }
+        int pageSize = resolvePageSize(request.getSize());
+        long offset = (long) request.getPage() * pageSize;
+        Sort sort = toSort(request.getSort(), request.getDirection());
+        // Scrolling reads one extra row to compute hasNext instead of counting every match
+        Window<PersonEntity> window = personRepository.findBy(toSpecification(request), query -> query
+                .sortBy(sort)
+                .limit(pageSize)
+                .scroll(offset == 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset - 1)));
+
+        PersonSearchResponse response = new PersonSearchResponse();
+        response.setItems(toResponses(window.getContent()));
+        response.setPage(request.getPage());
+        response.setSize(pageSize);
+        response.setHasNext(window.hasNext());
+        return response;
+    }
+
+    @Override
+    public PersonBatchGetResponse getPersonsByIds(final List<Long> ids) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > maxBatchSize) {
+            throw new BusinessException(String.format(Locale.ROOT,
+                    "A batch may request at most %d persons", maxBatchSize));
+        }
+        Map<Long, PersonResponse> found = toResponses(personRepository.findByIdIn(requestedIds)).stream()
+                .collect(Collectors.toMap(PersonResponse::getId, Function.identity()));
+        PersonBatchGetResponse response = new PersonBatchGetResponse();
+        for (Long id : requestedIds) {
+            PersonResponse person = found.get(id);
+            if (person == null) {
+                response.getMissingIds().add(id);
+            } else {
+                response.getItems().add(person);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PersonResponse getPersonById(final Long id) {
-        PersonEntity entity = findEntityById(id);
-        return personMapper.toResponse(entity);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // The caller's transaction may hold uncommitted changes: read through it and keep them out of the cache
+            return personMapper.toResponse(findEntityById(id));
+        }
+        // Only a cache miss opens a transaction, so hits never borrow a pooled connection
+        return personCache.get(id, key -> readOnlyTransaction.execute(
+                status -> personMapper.toResponse(findEntityById(key))));
+    }
+
+    @Override
+    public ResourceVersion getPersonVersion(final Long id) {
+        PersonVersionRow row = personRepository.findVersionById(id)
+                .orElseThrow(() -> notFound(id));
+        return ResourceVersion.of(row.getVersion(), row.getUpdatedAt());
     }
 
     @Override
@@ -67,13 +266,16 @@ public class PersonServiceImpl implements PersonService {
 
     @Override
     @Transactional
-    public PersonResponse updatePerson(final Long id, final PersonRequest request) {
-        PersonEntity entity = findEntityById(id);
-        personValidator.validateForUpdate(id, request);
-        ensureIdentificationUnique(request.getIdentification(), id);
-        personMapper.updateEntity(entity, request);
-        PersonEntity savedPerson = personRepository.save(entity);
-        return personMapper.toResponse(savedPerson);
+    public PersonResponse updatePerson(final Long id, final PersonRequest request, final Long expectedVersion) {
+        PersonEntity entity = findEntityForUpdate(id, expectedVersion);
+        return applyUpdate(entity, request);
+    }
+
+    @Override
+    @Transactional
+    public PersonResponse patchPerson(final Long id, final JsonNode patch, final Long expectedVersion) {
+        PersonEntity entity = findEntityForUpdate(id, expectedVersion);
+        return applyUpdate(entity, mergePatch(entity, patch));
     }
 
     @Override
@@ -81,12 +283,147 @@ public class PersonServiceImpl implements PersonService {
     public void deletePerson(final Long id) {
         PersonEntity entity = findEntityById(id);
         personRepository.delete(entity);
+        personCache.evict(id);
+    }
+
+    private PersonEntity findEntityForUpdate(final Long id, final Long expectedVersion) {
+        PersonEntity entity = findEntityById(id);
+        // Writers racing after this check are caught by the version condition of the UPDATE statement
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new PreconditionFailedException(
+                    String.format(Locale.ROOT, "Person with id %d was modified by another request", id));
+        }
+        return entity;
+    }
+
+    private PersonResponse applyUpdate(final PersonEntity entity, final PersonRequest request) {
+        personValidator.validateForUpdate(entity.getId(), request);
+        ensureIdentificationUnique(request.getIdentification(), entity.getId());
+        // The entity is managed, so dirty checking writes it; save() would only add a merge pass
+        if (personMapper.updateEntity(entity, request)) {
+            // Flushing applies the version increment, so the response carries the new version
+            personRepository.flush();
+            personCache.evict(entity.getId());
+        }
+        return personMapper.toResponse(entity);
+    }
+
+    private PersonRequest mergePatch(final PersonEntity entity, final JsonNode patch) {
+        JsonNode current = objectMapper.valueToTree(personMapper.toRequest(entity));
+        PersonRequest request;
+        try {
+            request = objectMapper.treeToValue(JsonMergePatch.apply(current, patch), PersonRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            throw new BusinessException("Merge patch does not describe a valid person");
+        }
+        // The patched document gets the same constraints a full request body gets from @Valid
+        Set<ConstraintViolation<PersonRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<PersonRequest> violation = violations.iterator().next();
+            throw new BusinessException(violation.getPropertyPath() + " " + violation.getMessage());
+        }
+        return request;
     }
 
     private PersonEntity findEntityById(final Long id) {
         return personRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format(Locale.ROOT, "Person with id %d was not found", id)));
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private ResourceNotFoundException notFound(final Long id) {
+        return new ResourceNotFoundException(String.format(Locale.ROOT, "Person with id %d was not found", id));
+    }
+
+    private List<PersonResponse> toResponses(final List<PersonEntity> entities) {
+        // Loads every attribute of the page with one IN query instead of initializing each lazy collection
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = entities.stream()
+                .map(PersonEntity::getId)
+                .toList();
+        Map<Long, List<PersonAdditionalAttributeEntity>> attributesByPerson = attributeRepository
+                .findByPersonIdInOrderByIdAsc(ids).stream()
+                .collect(Collectors.groupingBy(attribute -> attribute.getPerson().getId()));
+        return entities.stream()
+                .map(entity -> personMapper.toResponse(
+                        entity, attributesByPerson.getOrDefault(entity.getId(), List.of())))
+                .toList();
+    }
+
+    private Specification<PersonEntity> toSpecification(final PersonSearchRequest request) {
+        Specification<PersonEntity> fullName = request.getFullNameMatch() == PersonSearchRequest.NameMatch.CONTAINS
+                ? PersonSpecifications.fullNameContains(request.getFullName())
+                : PersonSpecifications.fullNameStartsWith(request.getFullName());
+        return Specification.allOf(
+                PersonSpecifications.matchesTerm(request.getQuery()),
+                fullName,
+                PersonSpecifications.hasIdentification(request.getIdentification()),
+                PersonSpecifications.hasGender(request.getGender()),
+                PersonSpecifications.hasFlag("active", request.getActive()),
+                PersonSpecifications.hasFlag("drives", request.getDrives()),
+                PersonSpecifications.hasFlag("wearsGlasses", request.getWearsGlasses()),
+                PersonSpecifications.hasFlag("diabetic", request.getDiabetic()),
+                PersonSpecifications.ageBetween(request.getMinAge(), request.getMaxAge()));
+    }
+
+    private Sort toSort(final PersonSearchSort sortKey, final Sort.Direction direction) {
+        PersonSearchSort effectiveSortKey = sortKey == null ? PersonSearchSort.ID : sortKey;
+        Sort.Direction effectiveDirection = direction == null ? Sort.Direction.ASC : direction;
+        Sort sort = Sort.by(effectiveDirection, effectiveSortKey.getProperty());
+        // The identifier keeps the ordering total so rows never move between pages
+        return effectiveSortKey == PersonSearchSort.ID ? sort : sort.and(Sort.by(effectiveDirection, "id"));
+    }
+
+    private int resolvePageSize(final Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BusinessException("Page size must be greater than zero");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private List<PersonEntity> loadPage(final PersonSortKey sortKey, final PersonCursor position, final Limit limit) {
+        if (sortKey == PersonSortKey.UPDATED_AT) {
+            return position == null
+                    ? personRepository.findAllByOrderByUpdatedAtAscIdAsc(limit)
+                    : personRepository.findPageAfterUpdatedAt(position.getUpdatedAt(), position.getId(), limit);
+        }
+        return personRepository.findByIdGreaterThanOrderByIdAsc(position == null ? 0L : position.getId(), limit);
+    }
+
+    private List<PersonVersionRow> loadPageVersions(final PersonSortKey sortKey, final PersonCursor position,
+                                                    final Limit limit) {
+        if (sortKey == PersonSortKey.UPDATED_AT) {
+            return position == null
+                    ? personRepository.findVersionsOrderByUpdatedAt(limit)
+                    : personRepository.findVersionsAfterUpdatedAt(position.getUpdatedAt(), position.getId(), limit);
+        }
+        return personRepository.findVersionsAfterId(position == null ? 0L : position.getId(), limit);
+    }
+
+    private List<PersonSummaryRow> loadPageSummaries(final PersonSortKey sortKey, final PersonCursor position,
+                                                     final Limit limit) {
+        if (sortKey == PersonSortKey.UPDATED_AT) {
+            return position == null
+                    ? personRepository.findSummariesOrderByUpdatedAt(limit)
+                    : personRepository.findSummariesAfterUpdatedAt(position.getUpdatedAt(), position.getId(), limit);
+        }
+        return personRepository.findSummariesAfterId(position == null ? 0L : position.getId(), limit);
+    }
+
+    private PersonCursor toCursor(final PersonSortKey sortKey, final PersonEntity lastRow) {
+        return sortKey == PersonSortKey.UPDATED_AT
+                ? PersonCursor.afterUpdatedAt(lastRow.getUpdatedAt(), lastRow.getId())
+                : PersonCursor.afterId(lastRow.getId());
+    }
+
+    private PersonCursor toCursor(final PersonSortKey sortKey, final PersonVersionRow lastRow) {
+        return sortKey == PersonSortKey.UPDATED_AT
+                ? PersonCursor.afterUpdatedAt(lastRow.getUpdatedAt(), lastRow.getId())
+                : PersonCursor.afterId(lastRow.getId());
     }
 
     private void ensureIdentificationUnique(final String identification, final Long currentId) {
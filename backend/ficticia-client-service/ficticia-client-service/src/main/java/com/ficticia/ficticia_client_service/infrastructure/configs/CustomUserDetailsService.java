@@ -1,29 +1,94 @@
 package com.ficticia.ficticia_client_service.infrastructure.configs;
 
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.ficticia.ficticia_client_service.application.cache.SingleFlightCache;
 import com.ficticia.ficticia_client_service.infrastructure.entities.UserEntity;
 import com.ficticia.ficticia_client_service.infrastructure.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 /**
  * Loads {@link UserDetails} instances from the database via {@link UserRepository}.
+ *
+ * <p>Loaded users are kept in a bounded cache for a short time so authenticated requests do not hit the
+ * database each time; a miss loads on the calling thread, outside the cache's locks. Code that changes a
+ * user's password, roles or enabled flag must call {@link #evictUser(String)}; the TTL only bounds how long a
+ * missed eviction can go unnoticed. Hit, miss and eviction counts are published as the {@code users} cache
+ * metrics.</p>
  */
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, MeterBinder {
+
+    private static final String CACHE_NAME = "users";
 
     private final UserRepository userRepository;
+    private final SingleFlightCache<String, UserDetails> userCache;
+
+    /**
+     * Creates a new {@link CustomUserDetailsService}.
+     *
+     * @param userRepository repository used to load users
+     * @param maxSize        maximum number of cached users
+     * @param ttlSeconds     seconds a cached user is trusted before being loaded again
+     */
+    public CustomUserDetailsService(final UserRepository userRepository,
+                                    @Value("${app.security.user-cache.max-size:1000}") final long maxSize,
+                                    @Value("${app.security.user-cache.ttl-seconds:60}") final long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.userCache = new SingleFlightCache<>(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+    }
 
     @Override
     public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
-        UserEntity user = userRepository.findByUsernameIgnoreCase(username)
-                .orElseThrow(() -> new UsernameNotFoundException(
-                        "User %s was not found".formatted(username)));
-        return new CustomUserDetails(user);
+        return userCache.get(normalize(username), key -> {
+            UserEntity user = userRepository.findByUsernameIgnoreCase(username)
+                    .orElseThrow(() -> new UsernameNotFoundException(
+                            "User %s was not found".formatted(username)));
+            return new CustomUserDetails(user);
+        });
+    }
+
+    /**
+     * Removes a user from the cache. Inside a transaction the entry is removed again after commit, so a
+     * concurrent request cannot cache the state being replaced.
+     *
+     * @param username user whose data changed
+     */
+    public void evictUser(final String username) {
+        String key = normalize(username);
+        userCache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userCache.synchronous(), CACHE_NAME);
+    }
+
+    private String normalize(final String username) {
+        return username.toLowerCase(Locale.ROOT);
     }
 }
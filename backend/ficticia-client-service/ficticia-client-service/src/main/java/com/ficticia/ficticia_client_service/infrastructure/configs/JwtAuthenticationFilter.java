@@ -1,15 +1,19 @@
 package com.ficticia.ficticia_client_service.infrastructure.configs;
 
 import java.io.IOException;
+import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +22,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Filter responsible for validating JWT tokens on every request.
+ * Filter responsible for validating JWT tokens on every request. Each token is parsed once per request.
+ *
+ * <p>With {@code app.security.stateless-auth=true} the principal and authorities are taken from the signed
+ * claims, so authenticating a request needs no database access. Otherwise the user is loaded on every request,
+ * which picks up role and enabled changes immediately. In both modes, tokens issued before their user's access
+ * changed are rejected through {@link TokenRevocationService}.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -27,6 +36,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${app.security.stateless-auth:false}")
+    private boolean statelessAuth;
 
     @Override
     protected void doFilterInternal(final HttpServletRequest request,
@@ -34,26 +47,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     final FilterChain filterChain)
             throws ServletException, IOException {
         String token = resolveToken(request);
-        if (token != null) {
-            log.info("JWT detected for request {} {}", request.getMethod(), request.getRequestURI());
-        }
-        if (token != null
-                && jwtTokenProvider.validateToken(token)
-                && SecurityContextHolder.getContext().getAuthentication() == null) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            log.info("Token valid for user {}", username);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(userDetails);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } else if (token != null) {
-            log.warn("Token was invalid or authentication already present");
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Optional<Claims> claims = jwtTokenProvider.parseToken(token);
+            if (claims.isEmpty()) {
+                log.warn("Invalid JWT received for request {} {}", request.getMethod(), request.getRequestURI());
+            } else if (tokenRevocationService.isRevoked(claims.get().getSubject(), claims.get().getIssuedAt())) {
+                // Checked in both modes, so a password reset also ends sessions whose user is loaded per request
+                log.warn("Revoked JWT received for user {}", claims.get().getSubject());
+            } else {
+                String username = claims.get().getSubject();
+                log.debug("Token valid for user {} on {} {}", username, request.getMethod(), request.getRequestURI());
+                UserDetails userDetails = statelessAuth
+                        ? buildPrincipal(claims.get())
+                        : userDetailsService.loadUserByUsername(username);
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(userDetails);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails buildPrincipal(final Claims claims) {
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(jwtTokenProvider.getAuthorities(claims))
+                .build();
+    }
+
     private String resolveToken(final HttpServletRequest request) {
         String header = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (header != null && header.startsWith("Bearer ")) {
@@ -3,14 +3,24 @@ package com.ficticia.ficticia_client_service.infrastructure.configs;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import javax.crypto.SecretKey;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -18,24 +28,41 @@ import io.jsonwebtoken.security.Keys;
 
 /**
  * Utility component responsible for issuing and validating JWT tokens.
+ *
+ * <p>The signing key and parser are built once, since both are immutable and thread-safe. Verified tokens are
+ * kept in a bounded cache until their own expiration, so a client repeating the same token costs a lookup
+ * instead of an HMAC verification.</p>
  */
 @Component
 public class JwtTokenProvider {
 
-    private final byte[] secretKey;
+    private static final String ROLES_CLAIM = "roles";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
     private final long expirationMillis;
+    private final Cache<String, Claims> verifiedTokens;
 
     /**
      * Builds a {@link JwtTokenProvider} using configuration properties.
      *
      * @param secret           base64 secret used to sign the token
      * @param expirationMillis token validity in milliseconds
+     * @param cacheMaxSize     maximum number of verified tokens kept in memory
      */
     public JwtTokenProvider(
             @Value("${jwt.secret}") final String secret,
-            @Value("${jwt.expiration-millis}") final long expirationMillis) {
-        this.secretKey = Decoders.BASE64.decode(secret);
+            @Value("${jwt.expiration-millis}") final long expirationMillis,
+            @Value("${jwt.cache.max-size:10000}") final long cacheMaxSize) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
         this.expirationMillis = expirationMillis;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
@@ -56,19 +83,62 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .claim("roles", roles)
-                .signWith(Keys.hmacShaKeyFor(secretKey), SignatureAlgorithm.HS256)
+                .claim(ROLES_CLAIM, roles)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Validates the token once and returns its claims.
+     *
+     * @param token raw JWT token
+     * @return verified claims, or empty when the signature, format or expiration date is invalid
+     */
+    public Optional<Claims> parseToken(final String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(token, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Retrieves the authorities stored in the roles claim of verified claims.
+     *
+     * @param claims claims returned by {@link #parseToken(String)}
+     * @return granted authorities, empty when the claim is missing
+     */
+    public List<GrantedAuthority> getAuthorities(final Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof Collection<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
     /**
      * Retrieves the username stored as subject in the provided token.
      *
      * @param token raw JWT token
      * @return username
+     * @throws JwtException when the token is not valid
      */
     public String getUsernameFromToken(final String token) {
-        return parseClaims(token).getBody().getSubject();
+        return parseToken(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     /**
@@ -78,18 +148,32 @@ public class JwtTokenProvider {
      * @return {@code true} when the token is valid
      */
     public boolean validateToken(final String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (RuntimeException ex) {
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
 
-    private Jws<Claims> parseClaims(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secretKey))
-                .build()
-                .parseClaimsJws(token);
+    // Keeps each verified token only until its own "exp" claim
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(final String token, final Claims claims, final long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String token, final Claims claims, final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String token, final Claims claims, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,43 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ficticia.ficticia_client_service.api.exception.GlobalExceptionHandler;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * Metrics wiring: {@code @Timed} support for the service layer and a guard on the cardinality of the error
+ * counters.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final int MAX_ERROR_REASONS = 100;
+
+    /**
+     * Records a timer for every method of classes annotated with {@code @Timed}.
+     *
+     * @param meterRegistry registry receiving the timers
+     * @return aspect measuring annotated methods
+     */
+    @Bean
+    public TimedAspect timedAspect(final MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Stops registering new error reasons once the limit is reached, so unexpected messages cannot grow the
+     * number of time series without bound.
+     *
+     * @return filter capping the reason tag of the error counter
+     */
+    @Bean
+    public MeterFilter errorReasonCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags(GlobalExceptionHandler.ERRORS_METRIC, "reason", MAX_ERROR_REASONS,
+                MeterFilter.deny());
+    }
+}
@@ -0,0 +1,108 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.ficticia.ficticia_client_service.api.exception.ServiceUnavailableException;
+
+/**
+ * {@link PasswordEncoder} that runs the delegate on a small dedicated pool.
+ *
+ * <p>Hashing is CPU bound, so the pool caps how many cores a login storm can take away from the rest of the
+ * API. Calls beyond the pool and its queue fail immediately with {@link ServiceUnavailableException} instead
+ * of piling up behind slow hashes.</p>
+ */
+public class OffloadedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String SATURATED_MESSAGE = "Authentication is busy, try again later";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    /**
+     * Creates a new {@link OffloadedPasswordEncoder}.
+     *
+     * @param delegate      encoder doing the actual hashing
+     * @param workers       number of hashes computed concurrently
+     * @param queueCapacity number of hashes that may wait for a worker
+     * @param timeoutMillis maximum time a caller waits for its hash, including queueing
+     */
+    public OffloadedPasswordEncoder(final PasswordEncoder delegate, final int workers, final int queueCapacity,
+                                    final long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Retrieves the number of hashes waiting for a worker.
+     *
+     * @return queued hashes
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops the workers.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(final Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceUnavailableException(SATURATED_MESSAGE, ex);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(SATURATED_MESSAGE, ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(SATURATED_MESSAGE, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ficticia.ficticia_client_service.api.dtos.ErrorResponse;
+import com.ficticia.ficticia_client_service.infrastructure.ratelimit.RateLimitDecision;
+import com.ficticia.ficticia_client_service.infrastructure.ratelimit.RateLimitPolicy;
+import com.ficticia.ficticia_client_service.infrastructure.ratelimit.RateLimiterBackend;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filter limiting login and forgot-password attempts per client IP and per username or email.
+ *
+ * <p>It runs before any database lookup or password hashing, so rejected attempts cost a map lookup. The
+ * request body is read once to find the account and then replayed to the controller.</p>
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String FORGOT_PASSWORD_PATH = "/api/auth/password/forgot";
+    private static final int MAX_INSPECTED_BODY_BYTES = 8 * 1024;
+
+    private final RateLimiterBackend backend;
+    private final ObjectMapper objectMapper;
+    private final RateLimitPolicy loginPerIp;
+    private final RateLimitPolicy loginPerUsername;
+    private final RateLimitPolicy forgotPerIp;
+    private final RateLimitPolicy forgotPerEmail;
+
+    /**
+     * Creates a new {@link RateLimitFilter}.
+     *
+     * @param backend             store holding the token buckets
+     * @param objectMapper        mapper used to read the account from the request body
+     * @param loginPerIp          login attempts allowed per IP and window
+     * @param loginPerUsername    login attempts allowed per username and window
+     * @param loginWindowSeconds  login window in seconds
+     * @param forgotPerIp         forgot-password requests allowed per IP and window
+     * @param forgotPerEmail      forgot-password requests allowed per email and window
+     * @param forgotWindowSeconds forgot-password window in seconds
+     */
+    public RateLimitFilter(final RateLimiterBackend backend,
+                           final ObjectMapper objectMapper,
+                           @Value("${app.security.rate-limit.login.per-ip:20}") final int loginPerIp,
+                           @Value("${app.security.rate-limit.login.per-username:5}") final int loginPerUsername,
+                           @Value("${app.security.rate-limit.login.window-seconds:60}") final long loginWindowSeconds,
+                           @Value("${app.security.rate-limit.forgot.per-ip:5}") final int forgotPerIp,
+                           @Value("${app.security.rate-limit.forgot.per-email:3}") final int forgotPerEmail,
+                           @Value("${app.security.rate-limit.forgot.window-seconds:900}") final long forgotWindowSeconds) {
+        this.backend = backend;
+        this.objectMapper = objectMapper;
+        Duration loginWindow = Duration.ofSeconds(loginWindowSeconds);
+        Duration forgotWindow = Duration.ofSeconds(forgotWindowSeconds);
+        this.loginPerIp = new RateLimitPolicy("login-ip", loginPerIp, loginWindow);
+        this.loginPerUsername = new RateLimitPolicy("login-user", loginPerUsername, loginWindow);
+        this.forgotPerIp = new RateLimitPolicy("forgot-ip", forgotPerIp, forgotWindow);
+        this.forgotPerEmail = new RateLimitPolicy("forgot-email", forgotPerEmail, forgotWindow);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !(LOGIN_PATH.equals(path) || FORGOT_PASSWORD_PATH.equals(path));
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean login = request.getRequestURI().endsWith(LOGIN_PATH);
+        RateLimitDecision decision = backend.tryConsume(login ? loginPerIp : forgotPerIp, request.getRemoteAddr());
+        if (!decision.allowed()) {
+            reject(request, response, decision);
+            return;
+        }
+        ReplayableBodyRequest replayable = new ReplayableBodyRequest(request, MAX_INSPECTED_BODY_BYTES);
+        String account = readAccount(replayable, login ? "username" : "email");
+        if (account != null) {
+            decision = backend.tryConsume(login ? loginPerUsername : forgotPerEmail, account);
+            if (!decision.allowed()) {
+                reject(request, response, decision);
+                return;
+            }
+        }
+        filterChain.doFilter(replayable, response);
+    }
+
+    private String readAccount(final ReplayableBodyRequest request, final String field) {
+        if (request.isTruncated()) {
+            return null;
+        }
+        try {
+            JsonNode value = objectMapper.readTree(request.getPrefix()).path(field);
+            return value.isTextual() && !value.asText().isBlank()
+                    ? value.asText().trim().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (IOException ex) {
+            // Malformed bodies are rejected by the controller
+            return null;
+        }
+    }
+
+    private void reject(final HttpServletRequest request, final HttpServletResponse response,
+                        final RateLimitDecision decision) throws IOException {
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        log.warn("Rate limit exceeded for {} {} from {}", request.getMethod(), request.getRequestURI(),
+                request.getRemoteAddr());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.from(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many attempts, try again later", request.getRequestURI()));
+    }
+
+    // Reads the start of the body up front and replays it, followed by whatever was not read
+    private static final class ReplayableBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] prefix;
+        private final boolean truncated;
+        private ServletInputStream inputStream;
+
+        private ReplayableBodyRequest(final HttpServletRequest request, final int maxBytes) throws IOException {
+            super(request);
+            this.prefix = request.getInputStream().readNBytes(maxBytes + 1);
+            this.truncated = prefix.length > maxBytes;
+        }
+
+        private byte[] getPrefix() {
+            return prefix;
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new ReplayingInputStream(new SequenceInputStream(
+                        new ByteArrayInputStream(prefix), super.getInputStream()));
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8.name() : encoding));
+        }
+    }
+
+    private static final class ReplayingInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private boolean finished;
+
+        private ReplayingInputStream(final InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            finished = value == -1;
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            int count = delegate.read(buffer, offset, length);
+            finished = count == -1;
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            // Reads never report "not ready", so the listener is notified right away instead of waiting for data
+            try {
+                if (!finished) {
+                    readListener.onDataAvailable();
+                }
+                if (finished) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException ex) {
+                readListener.onError(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled background tasks, such as the mail outbox dispatcher.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.ficticia.ficticia_client_service.infrastructure.configs;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -23,6 +24,7 @@ public class SecurityConfig {
      *
      * @param http                   security builder
      * @param jwtAuthenticationFilter filter that validates JWT tokens
+     * @param rateLimitFilter         filter throttling login and forgot-password attempts
      * @return configured filter chain
      * @throws Exception when configuration fails
      */
@@ -30,6 +32,7 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(
             final HttpSecurity http,
             final JwtAuthenticationFilter jwtAuthenticationFilter,
+            final RateLimitFilter rateLimitFilter,
             final CorsConfigurationSource corsConfigurationSource) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
@@ -43,23 +46,37 @@ public class SecurityConfig {
                                 "/api/auth/password/forgot",
                                 "/api/auth/password/reset",
                                 "/api/health/**",
+                                // Only reachable on the management port, which listens on loopback
+                                "/actuator/health/**",
+                                "/actuator/prometheus",
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html",
                                 "/swagger-ui/**")
                         .permitAll()
                         .anyRequest()
                         .authenticated())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
     /**
-     * Provides the password encoder used throughout the application.
+     * Provides the password encoder used throughout the application. BCrypt runs on a dedicated bounded
+     * pool so hashing cannot take over the request threads.
      *
+     * @param strength      BCrypt cost factor
+     * @param workers       number of hashes computed concurrently
+     * @param queueCapacity number of hashes that may wait for a worker
+     * @param timeoutMillis maximum time a request waits for its hash
      * @return BCrypt password encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.bcrypt.strength:10}") final int strength,
+            @Value("${app.security.hashing.workers:2}") final int workers,
+            @Value("${app.security.hashing.queue-capacity:32}") final int queueCapacity,
+            @Value("${app.security.hashing.timeout-millis:2000}") final long timeoutMillis) {
+        return new OffloadedPasswordEncoder(new BCryptPasswordEncoder(strength), workers, queueCapacity,
+                timeoutMillis);
     }
 }
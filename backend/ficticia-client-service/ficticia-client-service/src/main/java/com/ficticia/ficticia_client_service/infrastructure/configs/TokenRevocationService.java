@@ -0,0 +1,68 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps in memory the users whose previously issued tokens must stop being accepted.
+ *
+ * <p>Entries only need to outlive the tokens they revoke, so they expire after the token validity and the
+ * set stays small. A token is rejected when it was issued in the same second as the revocation or before,
+ * because the {@code iat} claim has second precision.</p>
+ */
+@Component
+public class TokenRevocationService {
+
+    private final Cache<String, Instant> revokedBefore;
+
+    /**
+     * Creates a new {@link TokenRevocationService}.
+     *
+     * @param expirationMillis token validity in milliseconds
+     * @param maxSize          maximum number of users tracked at once
+     */
+    public TokenRevocationService(
+            @Value("${jwt.expiration-millis}") final long expirationMillis,
+            @Value("${jwt.revocation.max-size:10000}") final long maxSize) {
+        this.revokedBefore = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(expirationMillis))
+                .build();
+    }
+
+    /**
+     * Rejects every token issued to the user up to now.
+     *
+     * @param username user whose tokens are revoked
+     */
+    public void revokeTokens(final String username) {
+        revokedBefore.put(normalize(username), Instant.now());
+    }
+
+    /**
+     * Checks whether a token was revoked.
+     *
+     * @param username subject of the token
+     * @param issuedAt {@code iat} claim of the token
+     * @return {@code true} when the token must be rejected
+     */
+    public boolean isRevoked(final String username, final Date issuedAt) {
+        Instant revokedAt = revokedBefore.getIfPresent(normalize(username));
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAt == null || !issuedAt.toInstant().isAfter(revokedAt);
+    }
+
+    private String normalize(final String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,7 @@
 package com.ficticia.ficticia_client_service.infrastructure.entities;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -8,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -25,6 +28,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@DynamicUpdate
 @Table(
         name = "person_additional_attributes",
         uniqueConstraints = {
@@ -33,7 +37,11 @@ import lombok.Setter;
 public class PersonAdditionalAttributeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_additional_attributes_seq")
+    @SequenceGenerator(
+            name = "person_additional_attributes_seq",
+            sequenceName = "person_additional_attributes_seq",
+            allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
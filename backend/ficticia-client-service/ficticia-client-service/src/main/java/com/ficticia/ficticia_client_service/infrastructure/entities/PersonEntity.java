@@ -4,6 +4,8 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,10 +13,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +28,8 @@ import lombok.Setter;
 
 /**
  * JPA entity that represents the "persons" table.
+ *
+ * <p>Updates list only the changed columns, so a single-field edit does not rewrite the whole row.</p>
  */
 @Getter
 @Setter
@@ -30,11 +37,22 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "persons")
+@DynamicUpdate
+@Table(
+        name = "persons",
+        indexes = {
+                @Index(name = "idx_persons_updated_at_id", columnList = "updated_at, id"),
+                @Index(name = "idx_persons_full_name_id", columnList = "full_name, id"),
+                @Index(name = "idx_persons_active_gender_age", columnList = "active, gender, age"),
+                @Index(name = "idx_persons_age_id", columnList = "age, id"),
+                @Index(name = "idx_persons_risk_flags", columnList = "active, diabetic, drives, wears_glasses")
+        })
 public class PersonEntity {
 
+    // Pooled identifiers keep JDBC insert batching available; IDENTITY forces one round-trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "persons_seq")
+    @SequenceGenerator(name = "persons_seq", sequenceName = "persons_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "full_name", length = 150, nullable = false)
@@ -70,6 +88,11 @@ public class PersonEntity {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    // Incremented by Hibernate on every update, including changes limited to the additional attributes
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder.Default
     @OneToMany(
             mappedBy = "person",
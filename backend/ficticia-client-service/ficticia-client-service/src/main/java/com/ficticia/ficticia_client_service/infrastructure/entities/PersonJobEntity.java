@@ -0,0 +1,111 @@
+package com.ficticia.ficticia_client_service.infrastructure.entities;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobStatus;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobType;
+
+/**
+ * JPA entity that represents the "person_jobs" table, holding the state and progress of bulk jobs.
+ *
+ * <p>{@code processedRows} only advances in the transaction that commits a chunk, so it doubles as the
+ * resume position after a restart, failure or cancellation. A running job is leased by the instance in
+ * {@code owner} until {@code leaseUntil}; the lease is renewed with each chunk and an expired one lets another
+ * instance take the job over.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "person_jobs",
+        indexes = @Index(name = "idx_person_jobs_status", columnList = "status"))
+public class PersonJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PersonJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PersonJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PersonExportFormat format;
+
+    @Column(name = "source_path", length = 500, nullable = false)
+    private String sourcePath;
+
+    @Column(name = "total_rows")
+    private Long totalRows;
+
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    @Column(name = "applied_rows", nullable = false)
+    private long appliedRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+
+    @Column(name = "active_millis", nullable = false)
+    private long activeMillis;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(length = 64)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    /**
+     * Sets creation and update timestamps when persisting a new record.
+     */
+    @PrePersist
+    protected void onCreate() {
+        Instant now = Instant.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ficticia.ficticia_client_service.infrastructure.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Represents a record rejected by a bulk job. Rows are written in the same transaction as the chunk they
+ * belong to, so a rolled back chunk leaves no errors behind.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "person_job_errors",
+        indexes = @Index(name = "idx_person_job_errors_job_line", columnList = "job_id, line_number"))
+public class PersonJobErrorEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "line_number", nullable = false)
+    private long line;
+
+    @Column(length = 50)
+    private String identification;
+
+    @Column(length = 500, nullable = false)
+    private String message;
+}
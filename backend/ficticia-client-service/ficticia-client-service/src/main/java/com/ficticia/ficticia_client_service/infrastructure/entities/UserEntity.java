@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -29,7 +30,12 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                @Index(name = "idx_users_reset_token_hash", columnList = "reset_token_hash"),
+                @Index(name = "idx_users_reset_token_expires_at", columnList = "reset_token_expires_at")
+        })
 public class UserEntity {
 
     @Id
@@ -48,8 +54,11 @@ public class UserEntity {
     @Column(nullable = false)
     private Boolean enabled;
 
-    @Column(name = "reset_token", length = 120)
-    private String passwordResetToken;
+    /**
+     * SHA-256 hex digest of the reset token; the token itself is only ever sent by email.
+     */
+    @Column(name = "reset_token_hash", length = 64)
+    private String passwordResetTokenHash;
 
     @Column(name = "reset_token_expires_at")
     private Instant passwordResetTokenExpiresAt;
@@ -0,0 +1,74 @@
+package com.ficticia.ficticia_client_service.infrastructure.health;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Health indicator that reuses its last result for a short interval, so load balancers polling several times
+ * per second trigger at most one real check per interval.
+ *
+ * <p>Only one caller refreshes an expired result; concurrent callers get the previous result instead of
+ * queueing behind the check.</p>
+ */
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+    private final long ttlNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedHealth cached;
+
+    /**
+     * Creates a new {@link CachedHealthIndicator}.
+     *
+     * @param ttlMillis how long a result is reused, in milliseconds
+     */
+    protected CachedHealthIndicator(final long ttlMillis) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    @Override
+    public Health health() {
+        CachedHealth current = cached;
+        if (current != null && System.nanoTime() - current.checkedAt() < ttlNanos) {
+            return current.health();
+        }
+        if (current != null && !refreshLock.tryLock()) {
+            return current.health();
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+        try {
+            current = cached;
+            if (current != null && System.nanoTime() - current.checkedAt() < ttlNanos) {
+                return current.health();
+            }
+            Health health = safeCheck();
+            cached = new CachedHealth(health, System.nanoTime());
+            return health;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Runs the actual check.
+     *
+     * @return current health of the checked dependency
+     * @throws Exception when the check fails; the indicator then reports {@code DOWN}
+     */
+    protected abstract Health check() throws Exception;
+
+    private Health safeCheck() {
+        try {
+            return check();
+        } catch (Exception ex) {
+            return Health.down(ex).build();
+        }
+    }
+
+    private record CachedHealth(Health health, long checkedAt) {
+    }
+}
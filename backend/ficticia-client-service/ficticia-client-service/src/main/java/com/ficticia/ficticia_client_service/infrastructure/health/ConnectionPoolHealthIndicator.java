@@ -0,0 +1,63 @@
+package com.ficticia.ficticia_client_service.infrastructure.health;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Reports the connection pool as out of service while every connection is in use and too many threads are
+ * waiting for one, so the load balancer stops adding requests to an instance that cannot serve them. Reads the
+ * pool counters only; no connection is borrowed.
+ */
+@Component
+public class ConnectionPoolHealthIndicator extends CachedHealthIndicator {
+
+    private final DataSource dataSource;
+    private final int maxWaitingThreads;
+
+    /**
+     * Creates a new {@link ConnectionPoolHealthIndicator}.
+     *
+     * @param dataSource        pooled data source
+     * @param maxWaitingThreads threads allowed to wait for a connection before the pool counts as saturated
+     * @param ttlMillis         how long a result is reused
+     */
+    public ConnectionPoolHealthIndicator(final DataSource dataSource,
+                                         @Value("${app.health.pool.max-waiting-threads:20}")
+                                         final int maxWaitingThreads,
+                                         @Value("${app.health.cache-millis:2000}") final long ttlMillis) {
+        super(ttlMillis);
+        this.dataSource = dataSource;
+        this.maxWaitingThreads = maxWaitingThreads;
+    }
+
+    @Override
+    protected Health check() throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return Health.unknown().withDetail("reason", "Not a Hikari pool").build();
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return Health.unknown().withDetail("reason", "Pool not started").build();
+        }
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        int max = hikari.getMaximumPoolSize();
+        boolean saturated = active >= max && waiting > maxWaitingThreads;
+        return Health.status(saturated ? Status.OUT_OF_SERVICE : Status.UP)
+                .withDetail("active", active)
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("max", max)
+                .withDetail("waiting", waiting)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ficticia.ficticia_client_service.infrastructure.health;
+
+import java.sql.Connection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Checks that a connection can be borrowed and validated within the configured budget. Unlike a plain
+ * validation query, a database that hangs or a pool that cannot hand out connections makes the check fail
+ * after the budget instead of blocking the probe.
+ */
+@Component
+public class DatabaseHealthIndicator extends CachedHealthIndicator {
+
+    private final DataSource dataSource;
+    private final long timeoutMillis;
+    private final ExecutorService probeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "db-health-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a new {@link DatabaseHealthIndicator}.
+     *
+     * @param dataSource    data source to check
+     * @param timeoutMillis time allowed to borrow and validate a connection
+     * @param ttlMillis     how long a result is reused
+     */
+    public DatabaseHealthIndicator(final DataSource dataSource,
+                                   @Value("${app.health.database.timeout-millis:1000}") final long timeoutMillis,
+                                   @Value("${app.health.cache-millis:2000}") final long ttlMillis) {
+        super(ttlMillis);
+        this.dataSource = dataSource;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    protected Health check() throws InterruptedException {
+        long startedAt = System.nanoTime();
+        Future<Boolean> probe = probeExecutor.submit(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis)));
+            }
+        });
+        try {
+            boolean valid = probe.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            return (valid ? Health.up() : Health.down().withDetail("error", "Connection is not valid"))
+                    .withDetail("latencyMillis", elapsedMillis)
+                    .build();
+        } catch (TimeoutException ex) {
+            probe.cancel(true);
+            return Health.down().withDetail("error", "No valid connection within " + timeoutMillis + " ms").build();
+        } catch (ExecutionException ex) {
+            return Health.down(ex.getCause()).build();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+}
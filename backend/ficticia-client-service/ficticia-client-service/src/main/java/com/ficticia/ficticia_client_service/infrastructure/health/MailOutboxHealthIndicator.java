@@ -0,0 +1,46 @@
+package com.ficticia.ficticia_client_service.infrastructure.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import com.ficticia.ficticia_client_service.application.mail.MailOutboxDispatcher;
+
+/**
+ * Reports a growing mail outbox backlog as {@code DEGRADED}. The backlog is shared by every instance, so it is
+ * surfaced without failing readiness: taking instances out of rotation would not drain it.
+ */
+@Component
+public class MailOutboxHealthIndicator extends CachedHealthIndicator {
+
+    /** Status of a dependency that works but is falling behind. */
+    public static final Status DEGRADED = new Status("DEGRADED");
+
+    private final MailOutboxDispatcher dispatcher;
+    private final long maxPendingEmails;
+
+    /**
+     * Creates a new {@link MailOutboxHealthIndicator}.
+     *
+     * @param dispatcher       dispatcher tracking the number of pending emails
+     * @param maxPendingEmails pending emails above which the outbox counts as degraded
+     * @param ttlMillis        how long a result is reused
+     */
+    public MailOutboxHealthIndicator(final MailOutboxDispatcher dispatcher,
+                                     @Value("${app.health.mail-outbox.max-pending:1000}") final long maxPendingEmails,
+                                     @Value("${app.health.cache-millis:2000}") final long ttlMillis) {
+        super(ttlMillis);
+        this.dispatcher = dispatcher;
+        this.maxPendingEmails = maxPendingEmails;
+    }
+
+    @Override
+    protected Health check() {
+        long pending = dispatcher.getPendingEmails();
+        return Health.status(pending > maxPendingEmails ? DEGRADED : Status.UP)
+                .withDetail("pending", pending)
+                .withDetail("maxPending", maxPendingEmails)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ficticia.ficticia_client_service.infrastructure.health;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports memory pressure when a heap pool is still nearly full right after a garbage collection. Usage after
+ * collection ignores garbage waiting to be reclaimed, so a busy but healthy heap does not trip the check.
+ */
+@Component
+public class MemoryHealthIndicator extends CachedHealthIndicator {
+
+    private final List<MemoryPoolMXBean> heapPools;
+    private final double maxUsedRatio;
+
+    /**
+     * Creates a new {@link MemoryHealthIndicator}.
+     *
+     * @param maxUsedRatio used-to-max ratio after collection above which the instance is out of service
+     * @param ttlMillis    how long a result is reused
+     */
+    public MemoryHealthIndicator(@Value("${app.health.memory.max-used-ratio:0.9}") final double maxUsedRatio,
+                                 @Value("${app.health.cache-millis:2000}") final long ttlMillis) {
+        super(ttlMillis);
+        this.maxUsedRatio = maxUsedRatio;
+        this.heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+                .toList();
+    }
+
+    @Override
+    protected Health check() {
+        double highestRatio = 0;
+        String highestPool = "none";
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage afterCollection = pool.getCollectionUsage();
+            if (afterCollection != null && afterCollection.getMax() > 0) {
+                double ratio = (double) afterCollection.getUsed() / afterCollection.getMax();
+                if (ratio > highestRatio) {
+                    highestRatio = ratio;
+                    highestPool = pool.getName();
+                }
+            }
+        }
+        return Health.status(highestRatio > maxUsedRatio ? Status.OUT_OF_SERVICE : Status.UP)
+                .withDetail("pool", highestPool)
+                .withDetail("usedAfterGc", String.format(Locale.ROOT, "%.2f", highestRatio))
+                .withDetail("maxUsedRatio", maxUsedRatio)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ficticia.ficticia_client_service.infrastructure.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * {@link RateLimiterBackend} keeping the buckets in a bounded in-memory map. When the map is full the least
+ * valuable buckets are evicted, so a flood of distinct keys cannot exhaust memory; an evicted client simply
+ * starts again with a full bucket.
+ */
+@Component
+public class InMemoryRateLimiterBackend implements RateLimiterBackend {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    /**
+     * Creates a new {@link InMemoryRateLimiterBackend}.
+     *
+     * @param maxBuckets  maximum number of buckets kept in memory
+     * @param idleSeconds seconds after which an unused bucket is dropped; must cover the longest policy window
+     */
+    public InMemoryRateLimiterBackend(
+            @Value("${app.security.rate-limit.max-buckets:100000}") final long maxBuckets,
+            @Value("${app.security.rate-limit.idle-seconds:3600}") final long idleSeconds) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(final RateLimitPolicy policy, final String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(policy.name() + ':' + key, ignored -> new TokenBucket(policy.capacity(), now));
+        long waitNanos = bucket.tryConsume(policy, now);
+        return waitNanos == 0 ? RateLimitDecision.allow() : RateLimitDecision.reject(Duration.ofNanos(waitNanos));
+    }
+}
@@ -0,0 +1,33 @@
+package com.ficticia.ficticia_client_service.infrastructure.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Outcome of asking a {@link RateLimiterBackend} for a token.
+ *
+ * @param allowed    whether the request may proceed
+ * @param retryAfter time until a token is available; zero when allowed
+ */
+public record RateLimitDecision(boolean allowed, Duration retryAfter) {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, Duration.ZERO);
+
+    /**
+     * Returns a decision letting the request through.
+     *
+     * @return allowed decision
+     */
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    /**
+     * Returns a decision rejecting the request.
+     *
+     * @param retryAfter time until a token is available
+     * @return rejected decision
+     */
+    public static RateLimitDecision reject(final Duration retryAfter) {
+        return new RateLimitDecision(false, retryAfter);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ficticia.ficticia_client_service.infrastructure.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token bucket settings: up to {@code capacity} requests in a burst, refilled at {@code capacity} tokens per
+ * {@code window}.
+ *
+ * @param name     identifier of the policy, used to separate its buckets from other policies
+ * @param capacity maximum number of tokens
+ * @param window   time needed to refill an empty bucket
+ */
+public record RateLimitPolicy(String name, int capacity, Duration window) {
+
+    /**
+     * Validates the settings.
+     */
+    public RateLimitPolicy {
+        if (capacity <= 0 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Rate limit capacity and window must be positive");
+        }
+    }
+
+    /**
+     * Retrieves how many tokens are added per nanosecond.
+     *
+     * @return refill rate
+     */
+    public double tokensPerNano() {
+        return capacity / (double) window.toNanos();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ficticia.ficticia_client_service.infrastructure.ratelimit;
+
+/**
+ * Stores the token buckets used by the rate limiter. The default implementation is local to each instance;
+ * a shared store can be plugged in by providing another bean of this type.
+ */
+public interface RateLimiterBackend {
+
+    /**
+     * Takes one token from the bucket identified by the policy and key.
+     *
+     * @param policy bucket settings
+     * @param key    client identifier, such as an IP address or a username
+     * @return whether the request may proceed and, if not, when to retry
+     */
+    RateLimitDecision tryConsume(RateLimitPolicy policy, String key);
+}
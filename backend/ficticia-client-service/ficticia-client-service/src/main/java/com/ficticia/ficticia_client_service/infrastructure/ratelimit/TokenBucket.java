@@ -0,0 +1,41 @@
+package com.ficticia.ficticia_client_service.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. The token count and refill time are swapped together with a compare-and-set, so
+ * concurrent requests never block each other.
+ */
+final class TokenBucket {
+
+    private final AtomicReference<State> state;
+
+    TokenBucket(final int capacity, final long nowNanos) {
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Takes one token when available.
+     *
+     * @param policy   bucket settings
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return {@code 0} when a token was taken, otherwise nanoseconds until one is available
+     */
+    long tryConsume(final RateLimitPolicy policy, final long nowNanos) {
+        double tokensPerNano = policy.tokensPerNano();
+        while (true) {
+            State current = state.get();
+            long elapsed = Math.max(0, nowNanos - current.refilledAt());
+            double tokens = Math.min(policy.capacity(), current.tokens() + elapsed * tokensPerNano);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(nowNanos, current.refilledAt())))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.ficticia.ficticia_client_service.infrastructure.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ficticia.ficticia_client_service.application.mail.MailOutboxStatus;
+import com.ficticia.ficticia_client_service.infrastructure.entities.MailOutboxEntity;
+
+/**
+ * Repository exposing persistence operations for {@link MailOutboxEntity}.
+ *
+ * <p>Emails are claimed with a conditional update that pushes {@code nextAttemptAt} forward, so two
+ * dispatchers never send the same email and a crashed one only delays it until the lease ends. The body is
+ * blanked once an email is sent or abandoned, since it may carry a password reset token.</p>
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, Long> {
+
+    /**
+     * Lists the emails whose next attempt is due, oldest first.
+     *
+     * @param status state to look for
+     * @param now    current instant
+     * @param limit  maximum number of emails to read
+     * @return due emails
+     */
+    List<MailOutboxEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(MailOutboxStatus status,
+                                                                                 Instant now, Limit limit);
+
+    /**
+     * Counts the emails in the provided state.
+     *
+     * @param status state to look for
+     * @return number of emails
+     */
+    long countByStatus(MailOutboxStatus status);
+
+    /**
+     * Reserves a due email for one dispatcher until the lease ends.
+     *
+     * @param id         email identifier
+     * @param now        current instant
+     * @param leaseUntil instant after which another dispatcher may retry the email
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update MailOutboxEntity m
+            set m.nextAttemptAt = :leaseUntil
+            where m.id = :id and m.status = 'PENDING' and m.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id, @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Marks an email as delivered and blanks its body.
+     *
+     * @param id  email identifier
+     * @param now current instant
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update MailOutboxEntity m
+            set m.status = 'SENT', m.attempts = m.attempts + 1, m.sentAt = :now, m.lastError = null, m.body = ''
+            where m.id = :id
+            """)
+    int markSent(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Records a failed attempt and schedules the next one.
+     *
+     * @param id            email identifier
+     * @param nextAttemptAt instant of the next attempt
+     * @param lastError     failure description
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update MailOutboxEntity m
+            set m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError
+            where m.id = :id
+            """)
+    int markRetry(@Param("id") Long id,
+                  @Param("nextAttemptAt") Instant nextAttemptAt,
+                  @Param("lastError") String lastError);
+
+    /**
+     * Records the last failed attempt, gives up on the email and blanks its body.
+     *
+     * @param id        email identifier
+     * @param lastError failure description
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update MailOutboxEntity m
+            set m.status = 'FAILED', m.attempts = m.attempts + 1, m.lastError = :lastError, m.body = ''
+            where m.id = :id
+            """)
+    int markFailed(@Param("id") Long id, @Param("lastError") String lastError);
+
+    /**
+     * Lists the sent or abandoned emails created before the provided instant.
+     *
+     * @param createdBefore emails created before this instant are returned
+     * @param limit         maximum number of identifiers to read
+     * @return email identifiers
+     */
+    @Query("select m.id from MailOutboxEntity m where m.status <> 'PENDING' and m.createdAt < :createdBefore")
+    List<Long> findFinishedIdsCreatedBefore(@Param("createdBefore") Instant createdBefore, Limit limit);
+
+    /**
+     * Deletes the provided emails.
+     *
+     * @param ids email identifiers
+     * @return deleted rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from MailOutboxEntity m where m.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,5 +1,6 @@
 package com.ficticia.ficticia_client_service.infrastructure.repositories;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,6 +23,14 @@ public interface PersonAdditionalAttributeRepository
      */
     List<PersonAdditionalAttributeEntity> findByPersonId(Long personId);
 
+    /**
+     * Retrieves the additional attributes of several persons with a single query.
+     *
+     * @param personIds person identifiers
+     * @return attributes of the provided persons ordered by identifier
+     */
+    List<PersonAdditionalAttributeEntity> findByPersonIdInOrderByIdAsc(Collection<Long> personIds);
+
     /**
      * Removes all attributes linked to the provided person identifier.
      *
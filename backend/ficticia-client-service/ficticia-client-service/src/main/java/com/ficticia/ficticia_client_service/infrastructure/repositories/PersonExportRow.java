@@ -0,0 +1,42 @@
+package com.ficticia.ficticia_client_service.infrastructure.repositories;
+
+import java.time.Instant;
+
+/**
+ * Flat projection of a person joined with one of its additional attributes, used by the export stream.
+ *
+ * <p>Persons without attributes produce a single row whose attribute columns are {@code null}; persons with
+ * several attributes produce one consecutive row per attribute.</p>
+ */
+public interface PersonExportRow {
+
+    Long getId();
+
+    String getFullName();
+
+    String getIdentification();
+
+    Integer getAge();
+
+    String getGender();
+
+    Boolean getActive();
+
+    Boolean getDrives();
+
+    Boolean getWearsGlasses();
+
+    Boolean getDiabetic();
+
+    String getOtherDisease();
+
+    Long getVersion();
+
+    Instant getUpdatedAt();
+
+    Long getAttrId();
+
+    String getAttrKey();
+
+    String getAttrValue();
+}
@@ -0,0 +1,25 @@
+package com.ficticia.ficticia_client_service.infrastructure.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobErrorEntity;
+
+/**
+ * Repository exposing persistence operations for {@link PersonJobErrorEntity}.
+ */
+@Repository
+public interface PersonJobErrorRepository extends JpaRepository<PersonJobErrorEntity, Long> {
+
+    /**
+     * Lists the rejected records of a job in input order.
+     *
+     * @param jobId job identifier
+     * @param limit maximum number of errors to read
+     * @return rejected records
+     */
+    List<PersonJobErrorEntity> findByJobIdOrderByLineAsc(Long jobId, Limit limit);
+}
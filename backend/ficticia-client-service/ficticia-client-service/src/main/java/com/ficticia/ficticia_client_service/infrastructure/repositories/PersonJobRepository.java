@@ -0,0 +1,219 @@
+package com.ficticia.ficticia_client_service.infrastructure.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobStatus;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobEntity;
+
+/**
+ * Repository exposing persistence operations for {@link PersonJobEntity}.
+ *
+ * <p>State changes are conditional bulk updates so the worker and API requests never overwrite each
+ * other's columns; each method returns the number of rows changed, {@code 0} meaning the job was not in the
+ * expected state. Updates made by the worker also require it to still own the job's lease.</p>
+ */
+@Repository
+public interface PersonJobRepository extends JpaRepository<PersonJobEntity, Long> {
+
+    /**
+     * Lists jobs in the provided state ordered by submission.
+     *
+     * @param status state to look for
+     * @return matching jobs, oldest first
+     */
+    List<PersonJobEntity> findByStatusOrderByIdAsc(PersonJobStatus status);
+
+    /**
+     * Reads whether a cancellation was requested for the job.
+     *
+     * @param id job identifier
+     * @return {@code true} when the worker must stop
+     */
+    @Query("select j.cancelRequested from PersonJobEntity j where j.id = :id")
+    boolean isCancelRequested(@Param("id") Long id);
+
+    /**
+     * Lists the running jobs whose lease expired, meaning their worker stopped making progress.
+     *
+     * @param now current instant
+     * @return job identifiers
+     */
+    @Query("""
+            select j.id from PersonJobEntity j
+            where j.status = 'RUNNING' and (j.leaseUntil is null or j.leaseUntil < :now)
+            order by j.id asc
+            """)
+    List<Long> findIdsWithExpiredLease(@Param("now") Instant now);
+
+    /**
+     * Moves a queued job to running and leases it to the calling instance.
+     *
+     * @param id         job identifier
+     * @param owner      identifier of the calling instance
+     * @param now        current instant
+     * @param leaseUntil instant after which another instance may take the job over
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.status = 'RUNNING', j.startedAt = coalesce(j.startedAt, :now), j.updatedAt = :now,
+                j.owner = :owner, j.leaseUntil = :leaseUntil
+            where j.id = :id and j.status = 'QUEUED'
+            """)
+    int markRunning(@Param("id") Long id,
+                    @Param("owner") String owner,
+                    @Param("now") Instant now,
+                    @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Stores the number of records of the job input and renews the lease.
+     *
+     * @param id         job identifier
+     * @param owner      identifier of the instance holding the lease
+     * @param totalRows  number of records
+     * @param leaseUntil new end of the lease
+     * @return updated rows; {@code 0} when the lease was lost
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.totalRows = :totalRows, j.leaseUntil = :leaseUntil
+            where j.id = :id and j.status = 'RUNNING' and j.owner = :owner
+            """)
+    int recordTotalRows(@Param("id") Long id,
+                        @Param("owner") String owner,
+                        @Param("totalRows") long totalRows,
+                        @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Stores the progress reached by the last committed chunk and renews the lease, which is the worker's
+     * heartbeat.
+     *
+     * @param id            job identifier
+     * @param owner         identifier of the instance holding the lease
+     * @param processedRows records read so far, including rejected ones
+     * @param appliedRows   records written so far
+     * @param failedRows    records rejected so far
+     * @param activeMillis  time spent processing across every run
+     * @param now           current instant
+     * @param leaseUntil    new end of the lease
+     * @return updated rows; {@code 0} when the lease was lost
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.processedRows = :processedRows, j.appliedRows = :appliedRows, j.failedRows = :failedRows,
+                j.activeMillis = :activeMillis, j.updatedAt = :now, j.leaseUntil = :leaseUntil
+            where j.id = :id and j.status = 'RUNNING' and j.owner = :owner
+            """)
+    int recordProgress(@Param("id") Long id,
+                       @Param("owner") String owner,
+                       @Param("processedRows") long processedRows,
+                       @Param("appliedRows") long appliedRows,
+                       @Param("failedRows") long failedRows,
+                       @Param("activeMillis") long activeMillis,
+                       @Param("now") Instant now,
+                       @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Moves a running job to a final state and releases its lease.
+     *
+     * @param id           job identifier
+     * @param owner        identifier of the instance holding the lease
+     * @param status       final state
+     * @param errorMessage failure description, or {@code null}
+     * @param now          current instant
+     * @return updated rows; {@code 0} when the lease was lost
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.status = :status, j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now,
+                j.owner = null, j.leaseUntil = null
+            where j.id = :id and j.status = 'RUNNING' and j.owner = :owner
+            """)
+    int markFinished(@Param("id") Long id,
+                     @Param("owner") String owner,
+                     @Param("status") PersonJobStatus status,
+                     @Param("errorMessage") String errorMessage,
+                     @Param("now") Instant now);
+
+    /**
+     * Cancels a job that has not started yet.
+     *
+     * @param id  job identifier
+     * @param now current instant
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.status = 'CANCELLED', j.finishedAt = :now, j.updatedAt = :now
+            where j.id = :id and j.status = 'QUEUED'
+            """)
+    int cancelQueued(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Asks the worker processing the job to stop after the current chunk.
+     *
+     * @param id  job identifier
+     * @param now current instant
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.cancelRequested = true, j.updatedAt = :now
+            where j.id = :id and j.status = 'RUNNING'
+            """)
+    int requestCancel(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Queues a failed or cancelled job again so it continues from its last committed chunk.
+     *
+     * @param id  job identifier
+     * @param now current instant
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.status = 'QUEUED', j.cancelRequested = false, j.errorMessage = null, j.finishedAt = null,
+                j.updatedAt = :now
+            where j.id = :id and j.status in ('FAILED', 'CANCELLED')
+            """)
+    int requeue(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Queues again a running job whose lease expired, so it continues from its last committed chunk.
+     *
+     * @param id  job identifier
+     * @param now current instant
+     * @return updated rows; {@code 0} when the job is no longer running or its lease was renewed meanwhile
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PersonJobEntity j
+            set j.status = 'QUEUED', j.cancelRequested = false, j.owner = null, j.leaseUntil = null,
+                j.updatedAt = :now
+            where j.id = :id and j.status = 'RUNNING' and (j.leaseUntil is null or j.leaseUntil < :now)
+            """)
+    int requeueExpired(@Param("id") Long id, @Param("now") Instant now);
+}
@@ -1,17 +1,30 @@
 package com.ficticia.ficticia_client_service.infrastructure.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
 
 /**
  * Repository exposing CRUD operations for {@link PersonEntity}.
+ *
+ * <p>Dynamic filters are expressed with {@link PersonSpecifications}.</p>
  */
 @Repository
-public interface PersonRepository extends JpaRepository<PersonEntity, Long> {
+public interface PersonRepository extends JpaRepository<PersonEntity, Long>, JpaSpecificationExecutor<PersonEntity> {
 
     /**
      * Searches a person by its unique identification.
@@ -37,4 +50,187 @@ public interface PersonRepository extends JpaRepository<PersonEntity, Long> {
      * @return true when another record uses the same identification
      */
     boolean existsByIdentificationAndIdNot(String identification, Long id);
+
+    /**
+     * Returns which of the provided identifications are already taken, checking the whole set with one query.
+     *
+     * @param identifications identification values to check
+     * @return identifications that already exist
+     */
+    @Query("select p.identification from PersonEntity p where p.identification in :identifications")
+    List<String> findExistingIdentifications(@Param("identifications") Collection<String> identifications);
+
+    /**
+     * Loads every person whose identification is in the provided set.
+     *
+     * @param identifications identification values to load
+     * @return matching persons
+     */
+    List<PersonEntity> findByIdentificationIn(Collection<String> identifications);
+
+    /**
+     * Loads every person whose identifier is in the provided set, with a single {@code IN} query.
+     *
+     * @param ids identifiers to load
+     * @return matching persons, in no particular order
+     */
+    List<PersonEntity> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Loads the next keyset page ordered by identifier.
+     *
+     * @param id    identifier of the last row already returned ({@code 0} for the first page)
+     * @param limit maximum number of rows to read
+     * @return persons with a greater identifier in ascending order
+     */
+    List<PersonEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Loads the first keyset page ordered by modification timestamp.
+     *
+     * @param limit maximum number of rows to read
+     * @return persons ordered by modification timestamp and identifier
+     */
+    List<PersonEntity> findAllByOrderByUpdatedAtAscIdAsc(Limit limit);
+
+    /**
+     * Loads the next keyset page ordered by modification timestamp.
+     *
+     * @param updatedAt modification timestamp of the last row already returned
+     * @param id        identifier of the last row already returned
+     * @param limit     maximum number of rows to read
+     * @return persons positioned after the provided keyset in ascending order
+     */
+    @Query("""
+            select p from PersonEntity p
+            where p.updatedAt > :updatedAt or (p.updatedAt = :updatedAt and p.id > :id)
+            order by p.updatedAt asc, p.id asc
+            """)
+    List<PersonEntity> findPageAfterUpdatedAt(@Param("updatedAt") Instant updatedAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    /**
+     * Reads the version columns of a single person.
+     *
+     * @param id identifier of the person
+     * @return version row, empty when the person does not exist
+     */
+    @Query("select p.id as id, p.version as version, p.updatedAt as updatedAt from PersonEntity p where p.id = :id")
+    Optional<PersonVersionRow> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads the version columns of the next keyset page ordered by identifier.
+     *
+     * @param id    identifier of the last row already returned ({@code 0} for the first page)
+     * @param limit maximum number of rows to read
+     * @return version rows with a greater identifier in ascending order
+     */
+    @Query("""
+            select p.id as id, p.version as version, p.updatedAt as updatedAt from PersonEntity p
+            where p.id > :id
+            order by p.id asc
+            """)
+    List<PersonVersionRow> findVersionsAfterId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Reads the version columns of the first keyset page ordered by modification timestamp.
+     *
+     * @param limit maximum number of rows to read
+     * @return version rows ordered by modification timestamp and identifier
+     */
+    @Query("""
+            select p.id as id, p.version as version, p.updatedAt as updatedAt from PersonEntity p
+            order by p.updatedAt asc, p.id asc
+            """)
+    List<PersonVersionRow> findVersionsOrderByUpdatedAt(Limit limit);
+
+    /**
+     * Reads the version columns of the next keyset page ordered by modification timestamp.
+     *
+     * @param updatedAt modification timestamp of the last row already returned
+     * @param id        identifier of the last row already returned
+     * @param limit     maximum number of rows to read
+     * @return version rows positioned after the provided keyset in ascending order
+     */
+    @Query("""
+            select p.id as id, p.version as version, p.updatedAt as updatedAt from PersonEntity p
+            where p.updatedAt > :updatedAt or (p.updatedAt = :updatedAt and p.id > :id)
+            order by p.updatedAt asc, p.id asc
+            """)
+    List<PersonVersionRow> findVersionsAfterUpdatedAt(@Param("updatedAt") Instant updatedAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+
+    /**
+     * Reads the list view columns of the next keyset page ordered by identifier.
+     *
+     * @param id    identifier of the last row already returned ({@code 0} for the first page)
+     * @param limit maximum number of rows to read
+     * @return summary rows with a greater identifier in ascending order
+     */
+    @Query("""
+            select p.id as id, p.version as version, p.updatedAt as updatedAt, p.fullName as fullName,
+                   p.identification as identification, p.age as age, p.gender as gender, p.active as active
+            from PersonEntity p
+            where p.id > :id
+            order by p.id asc
+            """)
+    List<PersonSummaryRow> findSummariesAfterId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Reads the list view columns of the first keyset page ordered by modification timestamp.
+     *
+     * @param limit maximum number of rows to read
+     * @return summary rows ordered by modification timestamp and identifier
+     */
+    @Query("""
+            select p.id as id, p.version as version, p.updatedAt as updatedAt, p.fullName as fullName,
+                   p.identification as identification, p.age as age, p.gender as gender, p.active as active
+            from PersonEntity p
+            order by p.updatedAt asc, p.id asc
+            """)
+    List<PersonSummaryRow> findSummariesOrderByUpdatedAt(Limit limit);
+
+    /**
+     * Reads the list view columns of the next keyset page ordered by modification timestamp.
+     *
+     * @param updatedAt modification timestamp of the last row already returned
+     * @param id        identifier of the last row already returned
+     * @param limit     maximum number of rows to read
+     * @return summary rows positioned after the provided keyset in ascending order
+     */
+    @Query("""
+            select p.id as id, p.version as version, p.updatedAt as updatedAt, p.fullName as fullName,
+                   p.identification as identification, p.age as age, p.gender as gender, p.active as active
+            from PersonEntity p
+            where p.updatedAt > :updatedAt or (p.updatedAt = :updatedAt and p.id > :id)
+            order by p.updatedAt asc, p.id asc
+            """)
+    List<PersonSummaryRow> findSummariesAfterUpdatedAt(@Param("updatedAt") Instant updatedAt,
+                                                       @Param("id") Long id,
+                                                       Limit limit);
+
+    /**
+     * Streams every person joined with its additional attributes, ordered so rows of the same person are
+     * consecutive. The rows are scalar projections, so nothing accumulates in the persistence context and the
+     * driver fetches them in chunks of the configured fetch size.
+     *
+     * <p>The stream must be consumed and closed inside a transaction.</p>
+     *
+     * @return forward-only stream of export rows
+     */
+    @Query("""
+            select p.id as id, p.fullName as fullName, p.identification as identification, p.age as age,
+                   p.gender as gender, p.active as active, p.drives as drives, p.wearsGlasses as wearsGlasses,
+                   p.diabetic as diabetic, p.otherDisease as otherDisease, p.version as version,
+                   p.updatedAt as updatedAt, a.id as attrId, a.attrKey as attrKey, a.attrValue as attrValue
+            from PersonEntity p left join p.additionalAttributes a
+            order by p.id asc, a.id asc
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PersonExportRow> streamAllForExport();
 }
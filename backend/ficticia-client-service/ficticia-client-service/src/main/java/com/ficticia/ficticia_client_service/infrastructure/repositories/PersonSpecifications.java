@@ -0,0 +1,135 @@
+package com.ficticia.ficticia_client_service.infrastructure.repositories;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+
+/**
+ * Reusable {@link Specification} factories used to filter {@link PersonEntity} queries.
+ *
+ * <p>Every factory returns {@code null} when its argument is absent so callers can combine them with
+ * {@link Specification#allOf(Specification[])} and only the provided filters reach the SQL.</p>
+ */
+public final class PersonSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private PersonSpecifications() {
+        // Utility class
+    }
+
+    /**
+     * Matches persons whose full name starts with the provided value; can use the full name index.
+     *
+     * @param prefix leading characters of the full name
+     * @return specification or {@code null} when no prefix is given
+     */
+    public static Specification<PersonEntity> fullNameStartsWith(final String prefix) {
+        if (isBlank(prefix)) {
+            return null;
+        }
+        return (root, query, builder) -> builder.like(root.get("fullName"), escape(prefix.trim()) + "%", ESCAPE);
+    }
+
+    /**
+     * Matches persons whose full name contains the provided value anywhere.
+     *
+     * @param fragment fragment of the full name
+     * @return specification or {@code null} when no fragment is given
+     */
+    public static Specification<PersonEntity> fullNameContains(final String fragment) {
+        if (isBlank(fragment)) {
+            return null;
+        }
+        return (root, query, builder) ->
+                builder.like(root.get("fullName"), "%" + escape(fragment.trim()) + "%", ESCAPE);
+    }
+
+    /**
+     * Matches persons by free text: full name containing the term or identification starting with it.
+     *
+     * @param term free text typed by the user
+     * @return specification or {@code null} when no term is given
+     */
+    public static Specification<PersonEntity> matchesTerm(final String term) {
+        if (isBlank(term)) {
+            return null;
+        }
+        String escaped = escape(term.trim());
+        return (root, query, builder) -> builder.or(
+                builder.like(root.get("fullName"), "%" + escaped + "%", ESCAPE),
+                builder.like(root.get("identification"), escaped + "%", ESCAPE));
+    }
+
+    /**
+     * Matches the person with the exact identification.
+     *
+     * @param identification identification value
+     * @return specification or {@code null} when no identification is given
+     */
+    public static Specification<PersonEntity> hasIdentification(final String identification) {
+        if (isBlank(identification)) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get("identification"), identification.trim());
+    }
+
+    /**
+     * Matches persons with the provided gender.
+     *
+     * @param gender gender value
+     * @return specification or {@code null} when no gender is given
+     */
+    public static Specification<PersonEntity> hasGender(final String gender) {
+        if (isBlank(gender)) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get("gender"), gender.trim());
+    }
+
+    /**
+     * Matches persons whose boolean attribute equals the provided flag.
+     *
+     * @param attribute entity attribute name
+     * @param value     expected flag value
+     * @return specification or {@code null} when no value is given
+     */
+    public static Specification<PersonEntity> hasFlag(final String attribute, final Boolean value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get(attribute), value);
+    }
+
+    /**
+     * Matches persons whose age lies inside the provided inclusive range.
+     *
+     * @param minAge lower bound, or {@code null} for no lower bound
+     * @param maxAge upper bound, or {@code null} for no upper bound
+     * @return specification or {@code null} when no bound is given
+     */
+    public static Specification<PersonEntity> ageBetween(final Integer minAge, final Integer maxAge) {
+        if (minAge == null && maxAge == null) {
+            return null;
+        }
+        return (root, query, builder) -> {
+            if (minAge == null) {
+                return builder.lessThanOrEqualTo(root.get("age"), maxAge);
+            }
+            if (maxAge == null) {
+                return builder.greaterThanOrEqualTo(root.get("age"), minAge);
+            }
+            return builder.between(root.get("age"), minAge, maxAge);
+        };
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,18 @@
+package com.ficticia.ficticia_client_service.infrastructure.repositories;
+
+/**
+ * Projection of the columns shown by list and grid views. Rows are read as plain tuples, so no entity, dirty
+ * checking snapshot or attribute collection is created for them.
+ */
+public interface PersonSummaryRow extends PersonVersionRow {
+
+    String getFullName();
+
+    String getIdentification();
+
+    Integer getAge();
+
+    String getGender();
+
+    Boolean getActive();
+}
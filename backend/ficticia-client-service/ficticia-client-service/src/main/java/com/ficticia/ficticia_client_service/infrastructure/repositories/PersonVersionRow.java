@@ -0,0 +1,16 @@
+package com.ficticia.ficticia_client_service.infrastructure.repositories;
+
+import java.time.Instant;
+
+/**
+ * Projection of the columns that identify a person's current state, used to answer conditional requests
+ * without loading attributes.
+ */
+public interface PersonVersionRow {
+
+    Long getId();
+
+    Long getVersion();
+
+    Instant getUpdatedAt();
+}
@@ -1,9 +1,17 @@
 package com.ficticia.ficticia_client_service.infrastructure.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ficticia.ficticia_client_service.infrastructure.entities.UserEntity;
 
@@ -38,10 +46,35 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmailIgnoreCase(String email);
 
     /**
-     * Loads a user by password reset token.
+     * Loads a user by the hash of a password reset token.
      *
-     * @param token token to lookup
+     * @param tokenHash SHA-256 hex digest of the token
      * @return optional user
      */
-    Optional<UserEntity> findByPasswordResetToken(String token);
+    Optional<UserEntity> findByPasswordResetTokenHash(String tokenHash);
+
+    /**
+     * Lists the users holding a reset token that expired before the provided instant.
+     *
+     * @param now   current instant
+     * @param limit maximum number of identifiers to read
+     * @return user identifiers
+     */
+    @Query("select u.id from UserEntity u where u.passwordResetTokenExpiresAt < :now")
+    List<Long> findIdsWithExpiredResetToken(@Param("now") Instant now, Limit limit);
+
+    /**
+     * Removes the reset token of the provided users.
+     *
+     * @param ids user identifiers
+     * @return updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update UserEntity u
+            set u.passwordResetTokenHash = null, u.passwordResetTokenExpiresAt = null
+            where u.id in :ids
+            """)
+    int clearResetTokens(@Param("ids") Collection<Long> ids);
 }
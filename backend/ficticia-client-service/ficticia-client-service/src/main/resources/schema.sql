@@ -22,8 +22,20 @@ CREATE TABLE IF NOT EXISTS persons (
     created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP 
                                  ON UPDATE CURRENT_TIMESTAMP,
+    -- Versión de fila: control optimista y ETag de las respuestas
+    version         BIGINT       NOT NULL DEFAULT 0,
 
-    CONSTRAINT uq_person_identification UNIQUE (identification)
+    CONSTRAINT uq_person_identification UNIQUE (identification),
+    -- Paginación por fecha de modificación
+    INDEX idx_persons_updated_at_id (updated_at, id),
+    -- Búsqueda por prefijo de nombre y orden por nombre
+    INDEX idx_persons_full_name_id (full_name, id),
+    -- Filtros combinados de estado, género y rango de edad
+    INDEX idx_persons_active_gender_age (active, gender, age),
+    -- Orden por edad en la búsqueda, con id como desempate
+    INDEX idx_persons_age_id (age, id),
+    -- Filtros por factores de riesgo
+    INDEX idx_persons_risk_flags (active, diabetic, drives, wears_glasses)
 );
 
 -- Atributos adicionales dinámicos por persona
@@ -40,6 +52,82 @@ CREATE TABLE IF NOT EXISTS person_additional_attributes (
     CONSTRAINT uq_person_attr UNIQUE (person_id, attr_key)
 );
 
+-- Trabajos masivos asíncronos (importaciones y actualizaciones de personas)
+CREATE TABLE IF NOT EXISTS person_jobs (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type             VARCHAR(20)  NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    format           VARCHAR(20)  NOT NULL,
+    source_path      VARCHAR(500) NOT NULL,
+    total_rows       BIGINT       NULL,
+    -- Filas de chunks ya confirmados: punto de reanudación
+    processed_rows   BIGINT       NOT NULL DEFAULT 0,
+    applied_rows     BIGINT       NOT NULL DEFAULT 0,
+    failed_rows      BIGINT       NOT NULL DEFAULT 0,
+    active_millis    BIGINT       NOT NULL DEFAULT 0,
+    cancel_requested TINYINT(1)   NOT NULL DEFAULT 0,
+    error_message    VARCHAR(500) NULL,
+    created_at       TIMESTAMP    NULL,
+    started_at       TIMESTAMP    NULL,
+    finished_at      TIMESTAMP    NULL,
+    updated_at       TIMESTAMP    NULL,
+    -- Instancia que ejecuta el trabajo y vencimiento de su lease; se renueva con cada chunk confirmado
+    owner            VARCHAR(64)  NULL,
+    lease_until      TIMESTAMP    NULL,
+
+    INDEX idx_person_jobs_status (status)
+);
+
+CREATE TABLE IF NOT EXISTS person_job_errors (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id         BIGINT       NOT NULL,
+    line_number    BIGINT       NOT NULL,
+    identification VARCHAR(50)  NULL,
+    message        VARCHAR(500) NOT NULL,
+
+    CONSTRAINT fk_person_job_errors_job
+        FOREIGN KEY (job_id) REFERENCES person_jobs(id)
+        ON DELETE CASCADE,
+    INDEX idx_person_job_errors_job_line (job_id, line_number)
+);
+
+-- Correos pendientes de envío (outbox transaccional)
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient       VARCHAR(150)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    body            VARCHAR(4000) NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    last_error      VARCHAR(500)  NULL,
+    created_at      TIMESTAMP     NULL,
+    sent_at         TIMESTAMP     NULL,
+
+    -- Búsqueda de correos pendientes cuyo próximo intento ya venció
+    INDEX idx_mail_outbox_status_next (status, next_attempt_at)
+);
+
+-- Generadores de identificadores (emulación de secuencias de Hibernate en MySQL).
+-- Se inicializan por encima del máximo id existente para no chocar con filas previas.
+CREATE TABLE IF NOT EXISTS persons_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO persons_seq (next_val)
+SELECT seed.next_val
+FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM persons) seed
+WHERE NOT EXISTS (SELECT 1 FROM persons_seq);
+
+CREATE TABLE IF NOT EXISTS person_additional_attributes_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO person_additional_attributes_seq (next_val)
+SELECT seed.next_val
+FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM person_additional_attributes) seed
+WHERE NOT EXISTS (SELECT 1 FROM person_additional_attributes_seq);
+
 -- --- (Opcional) Tablas para autenticación básica -----------------
 
 CREATE TABLE IF NOT EXISTS roles (
@@ -53,8 +141,12 @@ CREATE TABLE IF NOT EXISTS users (
     email    VARCHAR(150) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
     enabled  TINYINT(1)   NOT NULL DEFAULT 1,
-    reset_token VARCHAR(120) NULL,
-    reset_token_expires_at DATETIME NULL
+    -- Hash SHA-256 del token de recuperación; el token en claro solo viaja por correo
+    reset_token_hash CHAR(64) NULL,
+    reset_token_expires_at DATETIME NULL,
+
+    INDEX idx_users_reset_token_hash (reset_token_hash),
+    INDEX idx_users_reset_token_expires_at (reset_token_expires_at)
 );
 
 CREATE TABLE IF NOT EXISTS user_roles (
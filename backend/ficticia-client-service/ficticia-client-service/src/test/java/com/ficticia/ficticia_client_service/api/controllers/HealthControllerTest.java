@@ -1,25 +1,77 @@
 package com.ficticia.ficticia_client_service.api.controllers;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.CompositeHealth;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.ficticia.ficticia_client_service.infrastructure.health.MailOutboxHealthIndicator;
+
 /**
  * Unit tests for {@link HealthController}.
  */
 class HealthControllerTest {
 
-    private final HealthController controller = new HealthController();
+    private final HealthEndpoint healthEndpoint = mock(HealthEndpoint.class);
+    private final HealthController controller = new HealthController(healthEndpoint);
 
     @Test
     void shouldReportUpStatus() {
-        ResponseEntity<Map<String, String>> response = controller.health();
+        givenReadiness(Status.UP, Map.of("database", Health.up().build()));
+
+        ResponseEntity<Map<String, Object>> response = controller.health();
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).containsEntry("status", "UP");
     }
+
+    @Test
+    void shouldReportUnavailableWhenDependencyIsDown() {
+        givenReadiness(Status.DOWN, Map.of("database", Health.down().build()));
+
+        ResponseEntity<Map<String, Object>> response = controller.readiness();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).containsEntry("status", "DOWN")
+                .containsEntry("components", Map.of("database", "DOWN"));
+    }
+
+    @Test
+    void shouldStayAvailableWhenOnlyDegraded() {
+        givenReadiness(MailOutboxHealthIndicator.DEGRADED,
+                Map.of("mailOutbox", Health.status(MailOutboxHealthIndicator.DEGRADED).build()));
+
+        ResponseEntity<Map<String, Object>> response = controller.readiness();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("status", "DEGRADED");
+    }
+
+    @Test
+    void shouldReportLivenessWithoutComponents() {
+        HealthComponent liveness = Health.up().build();
+        when(healthEndpoint.healthForPath("liveness")).thenReturn(liveness);
+
+        ResponseEntity<Map<String, Object>> response = controller.liveness();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsOnlyKeys("status");
+    }
+
+    private void givenReadiness(final Status status, final Map<String, HealthComponent> components) {
+        CompositeHealth readiness = mock(CompositeHealth.class);
+        when(readiness.getStatus()).thenReturn(status);
+        when(readiness.getComponents()).thenReturn(components);
+        when(healthEndpoint.healthForPath("readiness")).thenReturn(readiness);
+    }
 }
@@ -0,0 +1,72 @@
+package com.ficticia.ficticia_client_service.api.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonJobResponse;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobStatus;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobType;
+import com.ficticia.ficticia_client_service.application.services.PersonJobService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link JobController}.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobControllerTest {
+
+    @Mock
+    private PersonJobService personJobService;
+
+    @InjectMocks
+    private JobController jobController;
+
+    @AfterEach
+    void resetRequestContext() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldReturnAcceptedWithLocationWhenJobSubmitted() throws Exception {
+        InputStream body = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+        PersonJobResponse job = PersonJobResponse.builder().id(12L).status(PersonJobStatus.QUEUED).build();
+        when(personJobService.submitJob(PersonJobType.IMPORT, PersonExportFormat.NDJSON, body)).thenReturn(job);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/jobs");
+        servletRequest.setQueryString("type=IMPORT");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+
+        ResponseEntity<PersonJobResponse> response =
+                jobController.submitJob(PersonJobType.IMPORT, PersonExportFormat.NDJSON, body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasToString("http://localhost/api/jobs/12");
+        assertThat(response.getBody()).isSameAs(job);
+    }
+
+    @Test
+    void shouldReturnJobProgressWhenGetJobInvoked() {
+        PersonJobResponse job = PersonJobResponse.builder().id(5L).status(PersonJobStatus.RUNNING).build();
+        when(personJobService.getJob(5L)).thenReturn(job);
+
+        ResponseEntity<PersonJobResponse> response = jobController.getJob(5L);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(job);
+    }
+}
@@ -1,27 +1,60 @@
 package com.ficticia.ficticia_client_service.api.controllers;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonPageResponse;
 import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
 import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryPageResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryResponse;
+import com.ficticia.ficticia_client_service.api.exception.PreconditionFailedException;
+import com.ficticia.ficticia_client_service.api.exception.PreconditionRequiredException;
+import com.ficticia.ficticia_client_service.application.cache.ResourceVersion;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSortKey;
+import com.ficticia.ficticia_client_service.application.projection.PersonSummaryField;
+import com.ficticia.ficticia_client_service.application.services.PersonExportService;
 import com.ficticia.ficticia_client_service.application.services.PersonService;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Unit tests for {@link PersonController}.
@@ -29,9 +62,14 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @ExtendWith(MockitoExtension.class)
 class PersonControllerTest {
 
+    private static final Instant UPDATED_AT = Instant.parse("2024-05-01T10:15:30Z");
+
     @Mock
     private PersonService personService;
 
+    @Mock
+    private PersonExportService personExportService;
+
     @InjectMocks
     private PersonController personController;
 
@@ -45,23 +83,189 @@ class PersonControllerTest {
         List<PersonResponse> serviceResponse = List.of(personResponse(1L), personResponse(2L));
         when(personService.getAllPersons()).thenReturn(serviceResponse);
 
-        ResponseEntity<List<PersonResponse>> response = personController.getPersons();
+        ResponseEntity<List<PersonResponse>> response = personController.getPersons(webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).containsExactlyElementsOf(serviceResponse);
+        assertThat(response.getHeaders().getFirst("Deprecation")).isEqualTo("true");
         verify(personService).getAllPersons();
     }
 
+    @Test
+    void shouldKeepDeprecationHeadersOnNotModifiedLegacyList() {
+        ResourceVersion version = ResourceVersion.ofCollection(
+                List.of(personResponse(1L)), PersonResponse::getId, PersonResponse::getVersion, false);
+        when(personService.getAllPersonsVersion()).thenReturn(version);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, version.getETag());
+
+        ResponseEntity<List<PersonResponse>> response = personController.getPersons(webRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getFirst("Deprecation")).isEqualTo("true");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.LINK))
+                .isEqualTo("</api/persons/page>; rel=\"successor-version\"");
+        verify(personService, never()).getAllPersons();
+    }
+
+    @Test
+    void shouldReturnPageWhenGetPersonsPageInvoked() {
+        PersonPageResponse page = new PersonPageResponse();
+        page.setItems(List.of(personResponse(1L)));
+        page.setSize(1);
+        page.setHasMore(true);
+        page.setNextCursor("cursor");
+        when(personService.getPersonsPage("previous", 1, PersonSortKey.UPDATED_AT)).thenReturn(page);
+
+        ResponseEntity<PersonPageResponse> response =
+                personController.getPersonsPage("previous", 1, PersonSortKey.UPDATED_AT, webRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(page);
+    }
+
+    @Test
+    void shouldTagSummaryPageLikeFullPageOfSameRows() {
+        PersonSummaryPageResponse page = new PersonSummaryPageResponse();
+        page.setItems(List.of(summary(1L), summary(2L)));
+        page.setHasMore(true);
+        when(personService.getPersonSummariesPage(null, 2, PersonSortKey.ID,
+                Set.of(PersonSummaryField.ID, PersonSummaryField.FULL_NAME))).thenReturn(page);
+
+        ResponseEntity<PersonSummaryPageResponse> response =
+                personController.getPersonSummariesPage(null, 2, PersonSortKey.ID, "fullName", webRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(page);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ResourceVersion.ofCollection(
+                List.of(personResponse(1L), personResponse(2L)), PersonResponse::getId, PersonResponse::getVersion,
+                true).getETag());
+    }
+
+    @Test
+    void shouldReturnSearchResultsWhenSearchInvoked() {
+        PersonSearchRequest searchRequest = PersonSearchRequest.builder()
+                .query("john")
+                .active(Boolean.TRUE)
+                .build();
+        PersonSearchResponse result = new PersonSearchResponse();
+        result.setItems(List.of(personResponse(3L)));
+        result.setSize(50);
+        when(personService.searchPersons(searchRequest)).thenReturn(result);
+
+        ResponseEntity<PersonSearchResponse> response = personController.searchPersons(searchRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(result);
+    }
+
+    @Test
+    void shouldReturnBatchWhenBatchGetInvoked() {
+        PersonBatchGetRequest batchRequest = new PersonBatchGetRequest();
+        batchRequest.setIds(List.of(3L, 99L));
+        PersonBatchGetResponse result = new PersonBatchGetResponse();
+        result.setItems(List.of(personResponse(3L)));
+        result.setMissingIds(List.of(99L));
+        when(personService.getPersonsByIds(List.of(3L, 99L))).thenReturn(result);
+
+        ResponseEntity<PersonBatchGetResponse> response = personController.getPersonsByIds(batchRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(result);
+    }
+
+    @Test
+    void shouldStreamGzipCompressedExportWhenRequested() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(personExportService).exportPersons(eq(PersonExportFormat.NDJSON), any(OutputStream.class));
+
+        ResponseEntity<StreamingResponseBody> response =
+                personController.exportPersons(PersonExportFormat.NDJSON, true);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson;charset=UTF-8");
+        try (GZIPInputStream decompressed = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            assertThat(new String(decompressed.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n");
+        }
+    }
+
     @Test
     void shouldReturnPersonWhenGetPersonByIdInvoked() {
         PersonResponse expected = personResponse(5L);
         when(personService.getPersonById(5L)).thenReturn(expected);
 
-        ResponseEntity<PersonResponse> response = personController.getPerson(5L);
+        ResponseEntity<PersonResponse> response = personController.getPerson(5L, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(expected);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(UPDATED_AT.toEpochMilli());
         verify(personService).getPersonById(5L);
+        verify(personService, never()).getPersonVersion(5L);
+    }
+
+    @Test
+    void shouldReturnNotModifiedFromVersionWhenEntityTagMatches() {
+        when(personService.getPersonVersion(5L)).thenReturn(ResourceVersion.of(3L, UPDATED_AT));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons/5");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"3\"");
+
+        ResponseEntity<PersonResponse> response = personController.getPerson(5L, webRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(personService, never()).getPersonById(5L);
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenPersonUnchangedSinceDate() {
+        when(personService.getPersonVersion(5L)).thenReturn(ResourceVersion.of(3L, UPDATED_AT));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons/5");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, UPDATED_AT.plusSeconds(60).toEpochMilli());
+
+        ResponseEntity<PersonResponse> response = personController.getPerson(5L, webRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(personService, never()).getPersonById(5L);
+    }
+
+    @Test
+    void shouldReturnPersonWhenEntityTagIsStale() {
+        PersonResponse expected = personResponse(5L);
+        when(personService.getPersonVersion(5L)).thenReturn(ResourceVersion.of(3L, UPDATED_AT));
+        when(personService.getPersonById(5L)).thenReturn(expected);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons/5");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"2\"");
+
+        ResponseEntity<PersonResponse> response = personController.getPerson(5L, webRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(expected);
+    }
+
+    @Test
+    void shouldReturnNotModifiedPageWhenEntityTagMatches() {
+        PersonPageResponse page = new PersonPageResponse();
+        page.setItems(List.of(personResponse(1L), personResponse(2L)));
+        page.setHasMore(true);
+        when(personService.getPersonsPage(null, 2, PersonSortKey.ID)).thenReturn(page);
+        String entityTag = personController.getPersonsPage(null, 2, PersonSortKey.ID, webRequest())
+                .getHeaders().getETag();
+        when(personService.getPersonsPageVersion(null, 2, PersonSortKey.ID)).thenReturn(ResourceVersion.ofCollection(
+                page.getItems(), PersonResponse::getId, PersonResponse::getVersion, true));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons/page");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+
+        ResponseEntity<PersonPageResponse> response =
+                personController.getPersonsPage(null, 2, PersonSortKey.ID, webRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(personService).getPersonsPage(null, 2, PersonSortKey.ID);
     }
 
     @Test
@@ -88,13 +292,64 @@ class PersonControllerTest {
     void shouldReturnUpdatedPersonWhenUpdateInvoked() {
         PersonRequest request = personRequest();
         PersonResponse updated = personResponse(20L);
-        when(personService.updatePerson(20L, request)).thenReturn(updated);
+        when(personService.updatePerson(20L, request, 2L)).thenReturn(updated);
 
-        ResponseEntity<PersonResponse> response = personController.updatePerson(20L, request);
+        ResponseEntity<PersonResponse> response = personController.updatePerson(20L, "\"2\"", request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(updated);
-        verify(personService).updatePerson(20L, request);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        verify(personService).updatePerson(20L, request, 2L);
+    }
+
+    @Test
+    void shouldUpdateUnconditionallyWhenIfMatchIsWildcard() {
+        PersonRequest request = personRequest();
+        when(personService.updatePerson(20L, request, null)).thenReturn(personResponse(20L));
+
+        ResponseEntity<PersonResponse> response = personController.updatePerson(20L, "*", request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void shouldRequireIfMatchWhenUpdating() {
+        PersonRequest request = personRequest();
+
+        assertThatThrownBy(() -> personController.updatePerson(20L, null, request))
+                .isInstanceOf(PreconditionRequiredException.class);
+        verify(personService, never()).updatePerson(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectWeakEntityTagWhenUpdating() {
+        PersonRequest request = personRequest();
+
+        assertThatThrownBy(() -> personController.updatePerson(20L, "W/\"2\"", request))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(personService, never()).updatePerson(any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnPatchedPersonWithNewEntityTag() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("age", 40);
+        PersonResponse patched = personResponse(20L);
+        when(personService.patchPerson(20L, patch, 2L)).thenReturn(patched);
+
+        ResponseEntity<PersonResponse> response = personController.patchPerson(20L, "\"2\"", patch);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(patched);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void shouldRequireIfMatchWhenPatching() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("age", 40);
+
+        assertThatThrownBy(() -> personController.patchPerson(20L, null, patch))
+                .isInstanceOf(PreconditionRequiredException.class);
+        verify(personService, never()).patchPerson(any(), any(), any());
     }
 
     @Test
@@ -134,6 +389,24 @@ class PersonControllerTest {
         response.setWearsGlasses(Boolean.FALSE);
         response.setDiabetic(Boolean.FALSE);
         response.setOtherDisease(null);
+        response.setVersion(3L);
+        response.setUpdatedAt(UPDATED_AT);
         return response;
     }
+
+    private PersonSummaryResponse summary(final Long id) {
+        PersonSummaryResponse summary = new PersonSummaryResponse();
+        summary.setId(id);
+        summary.setVersion(3L);
+        summary.setFullName("Person " + id);
+        return summary;
+    }
+
+    private ServletWebRequest webRequest() {
+        return webRequest(new MockHttpServletRequest("GET", "/api/persons"));
+    }
+
+    private ServletWebRequest webRequest(final MockHttpServletRequest request) {
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,44 @@
+package com.ficticia.ficticia_client_service.api.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link GlobalExceptionHandler}.
+ */
+class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
+
+    @Test
+    void shouldCountNotFoundErrorsByMessageClass() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons/5");
+
+        handler.handleResourceNotFound(new ResourceNotFoundException("Person with id 5 was not found"), request);
+        handler.handleResourceNotFound(new ResourceNotFoundException("Person with id 72 was not found"), request);
+
+        assertThat(meterRegistry.get(GlobalExceptionHandler.ERRORS_METRIC)
+                .tag("exception", "ResourceNotFoundException")
+                .tag("reason", "Person with id ? was not found")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountBusinessErrorsWithoutQuotedValues() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons/page");
+
+        assertThat(handler.handleBusinessException(
+                new BusinessException("Unknown field 'foo'; selectable fields are id"), request).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(meterRegistry.get(GlobalExceptionHandler.ERRORS_METRIC)
+                .tag("exception", "BusinessException")
+                .tag("reason", "Unknown field ?; selectable fields are id")
+                .counter().count()).isEqualTo(1);
+    }
+}
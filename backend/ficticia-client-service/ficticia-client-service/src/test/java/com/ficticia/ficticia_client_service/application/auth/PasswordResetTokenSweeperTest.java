@@ -0,0 +1,60 @@
+package com.ficticia.ficticia_client_service.application.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.UserEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Verifies expired reset tokens are cleared in batches while live ones are kept.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "app.security.reset-token-sweep.batch-size=2"
+})
+@Import(PasswordResetTokenSweeper.class)
+class PasswordResetTokenSweeperTest {
+
+    @Autowired
+    private PasswordResetTokenSweeper sweeper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void shouldClearOnlyExpiredTokens() {
+        Instant now = Instant.now();
+        for (int index = 0; index < 5; index++) {
+            save("expired" + index, now.minusSeconds(60));
+        }
+        UserEntity live = save("live", now.plusSeconds(600));
+
+        int cleared = sweeper.sweepExpiredTokens();
+
+        assertThat(cleared).isEqualTo(5);
+        assertThat(userRepository.findAll())
+                .filteredOn(user -> user.getPasswordResetTokenHash() != null)
+                .extracting(UserEntity::getId)
+                .containsExactly(live.getId());
+    }
+
+    private UserEntity save(final String username, final Instant expiresAt) {
+        return userRepository.save(UserEntity.builder()
+                .username(username)
+                .email(username + "@mail.com")
+                .password("encoded")
+                .enabled(true)
+                .passwordResetTokenHash("a".repeat(63) + username.length())
+                .passwordResetTokenExpiresAt(expiresAt)
+                .build());
+    }
+}
@@ -0,0 +1,90 @@
+package com.ficticia.ficticia_client_service.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Unit tests for {@link SingleFlightCache}.
+ */
+class SingleFlightCacheTest {
+
+    private final SingleFlightCache<Long, String> cache =
+            new SingleFlightCache<>(Caffeine.newBuilder().maximumSize(100).recordStats());
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key -> "person-" + loads.incrementAndGet());
+        String second = cache.get(1L, key -> "person-" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("person-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.synchronous().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(1L, key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "person-1";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> second = executor.submit(() -> cache.get(1L, key -> "loaded-twice"));
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("person-1");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("person-1");
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPropagateLoadFailuresWithoutCachingThem() {
+        assertThatThrownBy(() -> cache.get(1L, key -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1L, key -> "person-1")).isEqualTo("person-1");
+    }
+
+    @Test
+    void shouldNotCacheLoadInvalidatedWhileInProgress() {
+        String loaded = cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1L, key -> "fresh")).isEqualTo("fresh");
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
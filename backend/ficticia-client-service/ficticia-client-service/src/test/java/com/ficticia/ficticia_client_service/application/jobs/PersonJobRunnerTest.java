@@ -0,0 +1,259 @@
+package com.ficticia.ficticia_client_service.application.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.imports.PersonChunkProcessor;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobErrorEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonAdditionalAttributeRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobErrorRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.ficticia.ficticia_client_service.support.ConcurrentWriterPersonValidator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies bulk jobs commit chunk by chunk, record progress and resume after the last committed chunk.
+ * Runs without the test transaction so every chunk really commits.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "app.jobs.chunk-size=3"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PersonJobRunner.class, PersonChunkProcessor.class, PersonResponseCache.class, PersonMapper.class,
+        ConcurrentWriterPersonValidator.class, JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class PersonJobRunnerTest {
+
+    @Autowired
+    private PersonJobRunner jobRunner;
+
+    @Autowired
+    private PersonJobRepository jobRepository;
+
+    @Autowired
+    private PersonJobErrorRepository jobErrorRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonAdditionalAttributeRepository attributeRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void cleanUp() {
+        jobErrorRepository.deleteAll();
+        jobRepository.deleteAll();
+        attributeRepository.deleteAll();
+        personRepository.deleteAll();
+    }
+
+    @Test
+    void shouldProcessEveryChunkAndCompleteJob() throws IOException {
+        Path source = write(IntStream.rangeClosed(1, 7)
+                .mapToObj(index -> jsonPerson("JOB-" + index, index == 5 ? 10 : 30, "Person " + index))
+                .collect(Collectors.joining("\n")));
+        PersonJobEntity job = queue(PersonJobType.IMPORT, source, 0);
+
+        jobRunner.run(job.getId());
+
+        PersonJobEntity finished = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(finished.getStatus()).isEqualTo(PersonJobStatus.COMPLETED);
+        assertThat(finished.getTotalRows()).isEqualTo(7);
+        assertThat(finished.getProcessedRows()).isEqualTo(7);
+        assertThat(finished.getAppliedRows()).isEqualTo(6);
+        assertThat(finished.getFailedRows()).isEqualTo(1);
+        assertThat(finished.getFinishedAt()).isNotNull();
+        assertThat(finished.getOwner()).isNull();
+        assertThat(finished.getLeaseUntil()).isNull();
+        assertThat(personRepository.count()).isEqualTo(6);
+        assertThat(jobErrorRepository.findByJobIdOrderByLineAsc(job.getId(), Limit.of(10)))
+                .extracting(PersonJobErrorEntity::getLine)
+                .containsExactly(5L);
+        assertThat(source).doesNotExist();
+    }
+
+    @Test
+    void shouldRejectOnlyRowWhoseFlushViolatesUniqueIdentification() throws IOException {
+        Path source = write(String.join("\n",
+                jsonPerson("CHUNK-1", 30, "Person 1"),
+                jsonPerson("CHUNK-2", 30, "Person 2"),
+                jsonPerson("CHUNK-3", 30, "Person 3"),
+                jsonPerson("CHUNK-4", 30, "Person 4"),
+                jsonPerson(ConcurrentWriterPersonValidator.RACING_PREFIX + "5", 30, "Person 5"),
+                jsonPerson("CHUNK-6", 30, "Person 6"),
+                jsonPerson("CHUNK-7", 30, "Person 7")));
+        PersonJobEntity job = queue(PersonJobType.IMPORT, source, 0);
+
+        jobRunner.run(job.getId());
+
+        PersonJobEntity finished = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(finished.getStatus()).isEqualTo(PersonJobStatus.COMPLETED);
+        assertThat(finished.getProcessedRows()).isEqualTo(7);
+        assertThat(finished.getAppliedRows()).isEqualTo(6);
+        assertThat(finished.getFailedRows()).isEqualTo(1);
+        assertThat(jobErrorRepository.findByJobIdOrderByLineAsc(job.getId(), Limit.of(10)))
+                .extracting(PersonJobErrorEntity::getLine, PersonJobErrorEntity::getMessage)
+                .containsExactly(tuple(5L, "Identification must be unique"));
+        assertThat(personRepository.findAll()).extracting(PersonEntity::getIdentification)
+                .containsExactlyInAnyOrder("CHUNK-1", "CHUNK-2", "CHUNK-3", "CHUNK-4", "RACE-5", "CHUNK-6",
+                        "CHUNK-7");
+    }
+
+    @Test
+    void shouldResumeAfterLastCommittedChunk() throws IOException {
+        Path source = write(IntStream.rangeClosed(1, 6)
+                .mapToObj(index -> jsonPerson("RESUME-" + index, 30, "Person " + index))
+                .collect(Collectors.joining("\n")));
+        PersonJobEntity job = queue(PersonJobType.IMPORT, source, 3);
+
+        jobRunner.run(job.getId());
+
+        assertThat(jobRepository.findById(job.getId()).orElseThrow().getProcessedRows()).isEqualTo(6);
+        assertThat(personRepository.findAll()).extracting(PersonEntity::getIdentification)
+                .containsExactlyInAnyOrder("RESUME-4", "RESUME-5", "RESUME-6");
+    }
+
+    @Test
+    void shouldTakeOverRunningJobOnlyOnceItsLeaseExpired() throws IOException {
+        Path source = write(String.join("\n",
+                jsonPerson("LEASE-1", 30, "Person 1"),
+                jsonPerson("LEASE-2", 30, "Person 2")));
+        PersonJobEntity job = queue(PersonJobType.IMPORT, source, 0);
+        job.setStatus(PersonJobStatus.RUNNING);
+        job.setOwner("other-instance");
+        job.setLeaseUntil(Instant.now().plus(Duration.ofMinutes(5)));
+        jobRepository.save(job);
+
+        assertThat(jobRepository.findIdsWithExpiredLease(Instant.now())).isEmpty();
+        assertThat(jobRepository.requeueExpired(job.getId(), Instant.now())).isZero();
+        jobRunner.run(job.getId());
+        assertThat(personRepository.count()).isZero();
+
+        Instant afterLease = Instant.now().plus(Duration.ofMinutes(10));
+        assertThat(jobRepository.findIdsWithExpiredLease(afterLease)).containsExactly(job.getId());
+        assertThat(jobRepository.requeueExpired(job.getId(), afterLease)).isEqualTo(1);
+        jobRunner.run(job.getId());
+
+        assertThat(jobRepository.findById(job.getId()).orElseThrow().getStatus())
+                .isEqualTo(PersonJobStatus.COMPLETED);
+        assertThat(personRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotRecordProgressForInstanceThatLostTheLease() throws IOException {
+        PersonJobEntity job = queue(PersonJobType.IMPORT, write(""), 0);
+        job.setStatus(PersonJobStatus.RUNNING);
+        job.setOwner("new-owner");
+        jobRepository.save(job);
+        Instant now = Instant.now();
+
+        assertThat(jobRepository.recordProgress(job.getId(), "old-owner", 3, 3, 0, 10, now, now)).isZero();
+        assertThat(jobRepository.markFinished(job.getId(), "old-owner", PersonJobStatus.FAILED, "lost", now))
+                .isZero();
+        assertThat(jobRepository.findById(job.getId()).orElseThrow().getStatus())
+                .isEqualTo(PersonJobStatus.RUNNING);
+    }
+
+    @Test
+    void shouldStopWhenCancellationWasRequested() throws IOException {
+        Path source = write(jsonPerson("CANCEL-1", 30, "Person 1"));
+        PersonJobEntity job = queue(PersonJobType.IMPORT, source, 0);
+        job.setCancelRequested(true);
+        jobRepository.save(job);
+
+        jobRunner.run(job.getId());
+
+        assertThat(jobRepository.findById(job.getId()).orElseThrow().getStatus())
+                .isEqualTo(PersonJobStatus.CANCELLED);
+        assertThat(personRepository.count()).isZero();
+        assertThat(source).exists();
+    }
+
+    @Test
+    void shouldUpdateExistingPersonsAndReplaceTheirAttributes() throws IOException {
+        PersonEntity existing = PersonEntity.builder()
+                .fullName("Old Name")
+                .identification("UPD-1")
+                .age(40)
+                .gender("MALE")
+                .active(Boolean.TRUE)
+                .drives(Boolean.FALSE)
+                .wearsGlasses(Boolean.FALSE)
+                .diabetic(Boolean.FALSE)
+                .build();
+        existing.getAdditionalAttributes().add(PersonAdditionalAttributeEntity.builder()
+                .person(existing)
+                .attrKey("plan")
+                .attrValue("silver")
+                .build());
+        personRepository.save(existing);
+        Path source = write(String.join("\n",
+                jsonPerson("UPD-1", 41, "New Name"),
+                jsonPerson("UPD-404", 41, "Missing")));
+        PersonJobEntity job = queue(PersonJobType.UPDATE, source, 0);
+
+        jobRunner.run(job.getId());
+
+        PersonJobEntity finished = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(finished.getAppliedRows()).isEqualTo(1);
+        assertThat(finished.getFailedRows()).isEqualTo(1);
+        PersonEntity updated = personRepository.findByIdentification("UPD-1").orElseThrow();
+        assertThat(updated.getFullName()).isEqualTo("New Name");
+        assertThat(attributeRepository.findByPersonIdInOrderByIdAsc(List.of(updated.getId())))
+                .extracting(PersonAdditionalAttributeEntity::getAttrValue)
+                .containsExactly("gold");
+    }
+
+    private PersonJobEntity queue(final PersonJobType type, final Path source, final long processedRows) {
+        return jobRepository.save(PersonJobEntity.builder()
+                .type(type)
+                .status(PersonJobStatus.QUEUED)
+                .format(PersonExportFormat.NDJSON)
+                .sourcePath(source.toString())
+                .processedRows(processedRows)
+                .build());
+    }
+
+    private Path write(final String content) throws IOException {
+        return Files.writeString(tempDir.resolve("job.ndjson"), content, StandardCharsets.UTF_8);
+    }
+
+    private String jsonPerson(final String identification, final int age, final String fullName) {
+        return "{\"fullName\":\"" + fullName + "\",\"identification\":\"" + identification + "\",\"age\":" + age
+                + ",\"gender\":\"FEMALE\",\"active\":true,\"drives\":false,\"wearsGlasses\":false,"
+                + "\"diabetic\":false,\"additionalAttributes\":[{\"key\":\"plan\",\"value\":\"gold\"}]}";
+    }
+}
@@ -0,0 +1,70 @@
+package com.ficticia.ficticia_client_service.application.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.MailOutboxEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.MailOutboxRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Verifies finished outbox emails are deleted in batches once they are older than the retention period.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "app.mail.outbox.cleanup.batch-size=2",
+        "app.mail.outbox.cleanup.retention-hours=24"
+})
+@Import(MailOutboxCleaner.class)
+class MailOutboxCleanerTest {
+
+    @Autowired
+    private MailOutboxCleaner cleaner;
+
+    @Autowired
+    private MailOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldDeleteOnlyFinishedEmailsOlderThanRetention() {
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        for (int index = 0; index < 4; index++) {
+            save("sent" + index + "@mail.com", MailOutboxStatus.SENT, old);
+        }
+        save("failed@mail.com", MailOutboxStatus.FAILED, old);
+        MailOutboxEntity pending = save("pending@mail.com", MailOutboxStatus.PENDING, old);
+        MailOutboxEntity recent = save("recent@mail.com", MailOutboxStatus.SENT, Instant.now());
+
+        int deleted = cleaner.purgeFinishedEmails();
+
+        assertThat(deleted).isEqualTo(5);
+        assertThat(outboxRepository.findAll())
+                .extracting(MailOutboxEntity::getId)
+                .containsExactlyInAnyOrder(pending.getId(), recent.getId());
+    }
+
+    private MailOutboxEntity save(final String recipient, final MailOutboxStatus status, final Instant createdAt) {
+        MailOutboxEntity email = outboxRepository.saveAndFlush(MailOutboxEntity.builder()
+                .recipient(recipient)
+                .subject("Password reset")
+                .body("")
+                .status(status)
+                .build());
+        // The creation timestamp is not updatable through the entity
+        jdbcTemplate.update("update mail_outbox set created_at = ? where id = ?",
+                Timestamp.from(createdAt), email.getId());
+        return email;
+    }
+}
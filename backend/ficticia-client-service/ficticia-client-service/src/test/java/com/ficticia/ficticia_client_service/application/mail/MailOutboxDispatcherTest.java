@@ -0,0 +1,141 @@
+package com.ficticia.ficticia_client_service.application.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.MailOutboxEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.MailOutboxRepository;
+import com.ficticia.ficticia_client_service.support.SmtpStub;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies the outbox dispatcher against a local SMTP stand-in. Runs without the test transaction so the
+ * claim and status updates really commit.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailOutboxDispatcherTest {
+
+    @Autowired
+    private MailOutboxRepository outboxRepository;
+
+    private SmtpStub smtpStub;
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        smtpStub = new SmtpStub();
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = dispatcher(smtpStub.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpStub.close();
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void shouldSendDueEmailsAndMarkThemSent() {
+        queue("first@mail.com");
+        queue("second@mail.com");
+
+        dispatcher.dispatchPending();
+
+        assertThat(smtpStub.getReceived()).hasSize(2);
+        assertThat(smtpStub.getReceived().get(0).data()).contains("Reset link");
+        assertThat(outboxRepository.findAll()).allSatisfy(email -> {
+            assertThat(email.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+            assertThat(email.getAttempts()).isEqualTo(1);
+            assertThat(email.getSentAt()).isNotNull();
+            assertThat(email.getBody()).isEmpty();
+        });
+        assertThat(dispatcher.getPendingEmails()).isZero();
+        assertThat(meterRegistry.get("mail.outbox.send").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRescheduleOnlyTheRejectedEmail() {
+        smtpStub.rejectRecipient("bounce@mail.com");
+        MailOutboxEntity accepted = queue("ok@mail.com");
+        MailOutboxEntity rejected = queue("bounce@mail.com");
+        Instant before = Instant.now();
+
+        dispatcher.dispatchPending();
+
+        assertThat(outboxRepository.findById(accepted.getId()).orElseThrow().getStatus())
+                .isEqualTo(MailOutboxStatus.SENT);
+        MailOutboxEntity retried = outboxRepository.findById(rejected.getId()).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getNextAttemptAt()).isAfter(before);
+        assertThat(retried.getLastError()).isNotBlank();
+        assertThat(retried.getBody()).isEqualTo("Reset link for bounce@mail.com");
+        assertThat(dispatcher.getPendingEmails()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepEmailsPendingWhenServerIsDown() throws IOException {
+        smtpStub.close();
+        queue("first@mail.com");
+
+        dispatcher.dispatchPending();
+
+        MailOutboxEntity email = outboxRepository.findAll().get(0);
+        assertThat(email.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        smtpStub.rejectRecipient("bounce@mail.com");
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 1);
+        queue("bounce@mail.com");
+
+        dispatcher.dispatchPending();
+
+        MailOutboxEntity email = outboxRepository.findAll().get(0);
+        assertThat(email.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(email.getBody()).isEmpty();
+    }
+
+    private MailOutboxDispatcher dispatcher(final int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.from", "no-reply@ficticia.test");
+        MailOutboxDispatcher outboxDispatcher = new MailOutboxDispatcher(outboxRepository, mailSender, meterRegistry);
+        ReflectionTestUtils.setField(outboxDispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxDispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxDispatcher, "initialBackoffMillis", 1_000L);
+        ReflectionTestUtils.setField(outboxDispatcher, "maxBackoffMillis", 60_000L);
+        ReflectionTestUtils.setField(outboxDispatcher, "leaseMillis", 30_000L);
+        return outboxDispatcher;
+    }
+
+    private MailOutboxEntity queue(final String recipient) {
+        return outboxRepository.save(MailOutboxEntity.builder()
+                .recipient(recipient)
+                .subject("Password reset")
+                .body("Reset link for " + recipient)
+                .build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.ficticia.ficticia_client_service.application.patch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link JsonMergePatch}.
+ */
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldApplyRfcExample() throws Exception {
+        JsonNode target = json("""
+                {"title":"Goodbye!","author":{"givenName":"John","familyName":"Doe"},
+                 "tags":["example","sample"],"content":"This will be unchanged"}""");
+        JsonNode patch = json("""
+                {"title":"Hello!","phoneNumber":"+01-123-456-7890","author":{"familyName":null},"tags":["example"]}""");
+
+        JsonNode result = JsonMergePatch.apply(target, patch);
+
+        assertThat(result).isEqualTo(json("""
+                {"title":"Hello!","author":{"givenName":"John"},"tags":["example"],
+                 "content":"This will be unchanged","phoneNumber":"+01-123-456-7890"}"""));
+    }
+
+    @Test
+    void shouldNotModifyArguments() throws Exception {
+        JsonNode target = json("{\"a\":{\"b\":1}}");
+        JsonNode patch = json("{\"a\":{\"b\":null,\"c\":2}}");
+
+        JsonMergePatch.apply(target, patch);
+
+        assertThat(target).isEqualTo(json("{\"a\":{\"b\":1}}"));
+        assertThat(patch).isEqualTo(json("{\"a\":{\"b\":null,\"c\":2}}"));
+    }
+
+    @Test
+    void shouldReplaceTargetWhenPatchIsNotAnObject() throws Exception {
+        assertThat(JsonMergePatch.apply(json("{\"a\":1}"), json("[1,2]"))).isEqualTo(json("[1,2]"));
+        assertThat(JsonMergePatch.apply(json("[1]"), json("{\"a\":1}"))).isEqualTo(json("{\"a\":1}"));
+    }
+
+    private JsonNode json(final String value) throws Exception {
+        return objectMapper.readTree(value);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ficticia.ficticia_client_service.application.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+
+/**
+ * Unit tests for {@link PersonSummaryField}.
+ */
+class PersonSummaryFieldTest {
+
+    @Test
+    void shouldAlwaysSelectIdentifier() {
+        assertThat(PersonSummaryField.parse("fullName, age"))
+                .containsExactly(PersonSummaryField.ID, PersonSummaryField.FULL_NAME, PersonSummaryField.AGE);
+    }
+
+    @Test
+    void shouldSelectEveryFieldWhenBlank() {
+        assertThat(PersonSummaryField.parse(" ")).containsExactlyInAnyOrder(PersonSummaryField.values());
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        assertThatThrownBy(() -> PersonSummaryField.parse("fullName,otherDisease"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("otherDisease");
+    }
+}
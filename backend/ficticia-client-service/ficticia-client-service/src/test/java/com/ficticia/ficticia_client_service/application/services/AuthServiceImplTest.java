@@ -10,7 +10,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,9 +26,13 @@ import com.ficticia.ficticia_client_service.api.dtos.RegisterResponse;
 import com.ficticia.ficticia_client_service.api.dtos.ResetPasswordRequest;
 import com.ficticia.ficticia_client_service.api.exception.BusinessException;
 import com.ficticia.ficticia_client_service.application.services.impl.AuthServiceImpl;
+import com.ficticia.ficticia_client_service.infrastructure.configs.CustomUserDetailsService;
 import com.ficticia.ficticia_client_service.infrastructure.configs.JwtTokenProvider;
+import com.ficticia.ficticia_client_service.infrastructure.configs.TokenRevocationService;
+import com.ficticia.ficticia_client_service.infrastructure.entities.MailOutboxEntity;
 import com.ficticia.ficticia_client_service.infrastructure.entities.RoleEntity;
 import com.ficticia.ficticia_client_service.infrastructure.entities.UserEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.MailOutboxRepository;
 import com.ficticia.ficticia_client_service.infrastructure.repositories.RoleRepository;
 import com.ficticia.ficticia_client_service.infrastructure.repositories.UserRepository;
 
@@ -35,8 +43,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -62,7 +68,13 @@ class AuthServiceImplTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private JavaMailSender mailSender;
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -233,10 +245,11 @@ class AuthServiceImplTest {
         assertThat(response.getRoles()).containsExactly("ROLE_USER");
         assertThat(response.isEnabled()).isTrue();
         verify(passwordEncoder).encode(STRONG_PASSWORD);
+        verify(userDetailsService).evictUser("john.doe");
     }
 
     @Test
-    void requestPasswordResetShouldSendEmailWhenUserExists() {
+    void requestPasswordResetShouldQueueEmailWhenUserExists() {
         ForgotPasswordRequest request = ForgotPasswordRequest.builder()
                 .email("user01@mail.com")
                 .build();
@@ -246,9 +259,15 @@ class AuthServiceImplTest {
 
         authService.requestPasswordReset(request);
 
-        assertThat(user.getPasswordResetToken()).isNotBlank();
+        assertThat(user.getPasswordResetTokenHash()).hasSize(64);
         assertThat(user.getPasswordResetTokenExpiresAt()).isNotNull();
-        verify(mailSender, times(1)).send(any(SimpleMailMessage.class));
+        ArgumentCaptor<MailOutboxEntity> captor = ArgumentCaptor.forClass(MailOutboxEntity.class);
+        verify(mailOutboxRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getRecipient()).isEqualTo("user01@mail.com");
+        String body = captor.getValue().getBody();
+        String token = body.substring(body.indexOf("token=") + "token=".length()).split("\\s")[0];
+        assertThat(sha256(token)).isEqualTo(user.getPasswordResetTokenHash());
+        assertThat(body).doesNotContain(user.getPasswordResetTokenHash());
     }
 
     @Test
@@ -260,7 +279,7 @@ class AuthServiceImplTest {
 
         authService.requestPasswordReset(request);
 
-        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+        verify(mailOutboxRepository, never()).save(any(MailOutboxEntity.class));
     }
 
     @Test
@@ -270,7 +289,7 @@ class AuthServiceImplTest {
                 .password(STRONG_PASSWORD)
                 .confirmPassword(STRONG_PASSWORD)
                 .build();
-        when(userRepository.findByPasswordResetToken("invalid-token")).thenReturn(Optional.empty());
+        when(userRepository.findByPasswordResetTokenHash(sha256("invalid-token"))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authService.resetPassword(request))
                 .isInstanceOf(BusinessException.class)
@@ -285,17 +304,19 @@ class AuthServiceImplTest {
                 .confirmPassword(STRONG_PASSWORD)
                 .build();
         UserEntity user = userEntity(true, "old");
-        user.setPasswordResetToken("valid-token");
+        user.setPasswordResetTokenHash(sha256("valid-token"));
         user.setPasswordResetTokenExpiresAt(Instant.now().plusSeconds(600));
-        when(userRepository.findByPasswordResetToken("valid-token")).thenReturn(Optional.of(user));
+        when(userRepository.findByPasswordResetTokenHash(sha256("valid-token"))).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(STRONG_PASSWORD)).thenReturn("encoded-new");
         when(userRepository.save(user)).thenReturn(user);
 
         authService.resetPassword(request);
 
         assertThat(user.getPassword()).isEqualTo("encoded-new");
-        assertThat(user.getPasswordResetToken()).isNull();
+        assertThat(user.getPasswordResetTokenHash()).isNull();
         assertThat(user.getPasswordResetTokenExpiresAt()).isNull();
+        verify(tokenRevocationService).revokeTokens("User01");
+        verify(userDetailsService).evictUser("User01");
     }
 
     private UserEntity userEntity(final boolean enabled, final String password) {
@@ -307,4 +328,13 @@ class AuthServiceImplTest {
                 .enabled(enabled)
                 .build();
     }
+
+    private static String sha256(final String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.ficticia.ficticia_client_service.api.dtos.AdditionalAttributeDto;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportReader;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportReaders;
+import com.ficticia.ficticia_client_service.application.imports.PersonImportRow;
+import com.ficticia.ficticia_client_service.application.services.impl.PersonExportServiceImpl;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Verifies the person export streams every person with its attributes from a single query.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({PersonExportServiceImpl.class, JacksonAutoConfiguration.class})
+class PersonExportServiceImplTest {
+
+    @Autowired
+    private PersonExportService personExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        testEntityManager.persist(buildPerson("Ana, \"la\" Actuaria", "ID-1", 2));
+        testEntityManager.persist(buildPerson("Bruno", "ID-2", 0));
+        testEntityManager.persist(buildPerson("Carla", "ID-3", 3));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldStreamOneJsonLinePerPersonWithAttributes() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        personExportService.exportPersons(PersonExportFormat.NDJSON, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("identification").asText()).isEqualTo("ID-1");
+        assertThat(first.get("version").asLong()).isZero();
+        assertThat(first.get("updatedAt").isNull()).isFalse();
+        assertThat(first.get("additionalAttributes")).hasSize(2);
+        assertThat(first.get("additionalAttributes").get(1).get("key").asText()).isEqualTo("key-1");
+        assertThat(objectMapper.readTree(lines.get(1)).get("additionalAttributes")).isEmpty();
+        assertThat(objectMapper.readTree(lines.get(2)).get("additionalAttributes")).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStreamCsvWithHeaderAndEscapedValues() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        personExportService.exportPersons(PersonExportFormat.CSV, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).startsWith("id,full_name,identification");
+        assertThat(lines.get(1)).contains("\"Ana, \"\"la\"\" Actuaria\",ID-1")
+                .endsWith(",key-0=value-0;key-1=value-1");
+        assertThat(lines.get(2)).contains(",Bruno,ID-2,").endsWith(",");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadBackCsvAttributesExactlyAsExported() throws Exception {
+        PersonEntity person = buildPerson("Diego", "ID-4", 0);
+        addAttribute(person, "path", "C:\\data\\");
+        addAttribute(person, "query", "a=1;b=2");
+        addAttribute(person, "k=ey;", " padded ");
+        addAttribute(person, "empty", "");
+        addAttribute(person, "missing", null);
+        testEntityManager.persistAndFlush(person);
+        testEntityManager.clear();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        personExportService.exportPersons(PersonExportFormat.CSV, output);
+
+        List<AdditionalAttributeDto> attributes = null;
+        try (PersonImportReader reader = PersonImportReaders.open(PersonExportFormat.CSV,
+                new ByteArrayInputStream(output.toByteArray()), objectMapper)) {
+            PersonImportRow row;
+            while ((row = reader.next()) != null) {
+                if ("ID-4".equals(row.getIdentification())) {
+                    attributes = row.getRequest().getAdditionalAttributes();
+                }
+            }
+        }
+        assertThat(attributes).extracting(AdditionalAttributeDto::getKey, AdditionalAttributeDto::getValue)
+                .containsExactly(
+                        tuple("path", "C:\\data\\"),
+                        tuple("query", "a=1;b=2"),
+                        tuple("k=ey;", " padded "),
+                        tuple("empty", ""),
+                        tuple("missing", null));
+    }
+
+    private void addAttribute(final PersonEntity person, final String key, final String value) {
+        person.getAdditionalAttributes().add(PersonAdditionalAttributeEntity.builder()
+                .person(person)
+                .attrKey(key)
+                .attrValue(value)
+                .build());
+    }
+
+    private PersonEntity buildPerson(final String fullName, final String identification, final int attributes) {
+        PersonEntity person = PersonEntity.builder()
+                .fullName(fullName)
+                .identification(identification)
+                .age(30)
+                .gender("FEMALE")
+                .active(Boolean.TRUE)
+                .drives(Boolean.FALSE)
+                .wearsGlasses(Boolean.FALSE)
+                .diabetic(Boolean.FALSE)
+                .build();
+        for (int attribute = 0; attribute < attributes; attribute++) {
+            person.getAdditionalAttributes().add(PersonAdditionalAttributeEntity.builder()
+                    .person(person)
+                    .attrKey("key-" + attribute)
+                    .attrValue("value-" + attribute)
+                    .build());
+        }
+        return person;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportReport;
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.imports.PersonChunkProcessor;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.application.services.impl.PersonImportServiceImpl;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonAdditionalAttributeRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.ficticia.ficticia_client_service.support.ConcurrentWriterPersonValidator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that a constraint violation raised when a chunk is flushed rejects only the offending row instead of
+ * aborting the import. Runs without the test transaction so every chunk and the concurrent write really commit.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "app.persons.import.chunk-size=2"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PersonImportServiceImpl.class, PersonChunkProcessor.class, PersonResponseCache.class, PersonMapper.class,
+        ConcurrentWriterPersonValidator.class, JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class PersonImportServiceImplConstraintTest {
+
+    @Autowired
+    private PersonImportService personImportService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonAdditionalAttributeRepository attributeRepository;
+
+    @AfterEach
+    void cleanUp() {
+        attributeRepository.deleteAll();
+        personRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRejectOnlyRowWhoseFlushViolatesUniqueIdentification() throws Exception {
+        String body = String.join("\n",
+                jsonPerson("FIRST-1"),
+                jsonPerson("FIRST-2"),
+                jsonPerson("OK-1"),
+                jsonPerson(ConcurrentWriterPersonValidator.RACING_PREFIX + "1"),
+                jsonPerson("LAST-1"));
+
+        PersonImportReport report = personImportService.importPersons(PersonExportFormat.NDJSON, input(body));
+
+        assertThat(report.getReceived()).isEqualTo(5);
+        assertThat(report.getImported()).isEqualTo(4);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(PersonImportError::getLine).containsExactly(4L);
+        assertThat(report.getErrors()).extracting(PersonImportError::getMessage)
+                .containsExactly("Identification must be unique");
+        assertThat(personRepository.findAll()).extracting(PersonEntity::getIdentification)
+                .containsExactlyInAnyOrder("FIRST-1", "FIRST-2", "OK-1", "RACE-1", "LAST-1");
+        assertThat(personRepository.findByIdentification("RACE-1").orElseThrow().getFullName())
+                .isEqualTo("Concurrent Writer");
+    }
+
+    private String jsonPerson(final String identification) {
+        return "{\"fullName\":\"Person " + identification + "\",\"identification\":\"" + identification
+                + "\",\"age\":30,\"gender\":\"FEMALE\",\"active\":true,\"drives\":false,"
+                + "\"wearsGlasses\":false,\"diabetic\":false,"
+                + "\"additionalAttributes\":[{\"key\":\"plan\",\"value\":\"gold\"}]}";
+    }
+
+    private ByteArrayInputStream input(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportError;
+import com.ficticia.ficticia_client_service.api.dtos.PersonImportReport;
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.imports.PersonChunkProcessor;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.application.services.impl.PersonImportServiceImpl;
+import com.ficticia.ficticia_client_service.application.validators.DefaultPersonValidator;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonAdditionalAttributeRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Verifies bulk imports validate rows individually and insert the valid ones with batched statements.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.persons.import.chunk-size=100"
+})
+@Import({PersonImportServiceImpl.class, PersonChunkProcessor.class, PersonResponseCache.class, PersonMapper.class, DefaultPersonValidator.class,
+        JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class PersonImportServiceImplTest {
+
+    @Autowired
+    private PersonImportService personImportService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonAdditionalAttributeRepository attributeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        testEntityManager.persist(PersonEntity.builder()
+                .fullName("Existing Person")
+                .identification("EXISTING")
+                .age(40)
+                .gender("MALE")
+                .active(Boolean.TRUE)
+                .drives(Boolean.FALSE)
+                .wearsGlasses(Boolean.FALSE)
+                .diabetic(Boolean.FALSE)
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldInsertChunkWithBatchedStatements() throws Exception {
+        String body = IntStream.range(0, 60)
+                .mapToObj(index -> jsonPerson("BULK-" + index, 30))
+                .collect(Collectors.joining("\n"));
+
+        PersonImportReport report = personImportService.importPersons(PersonExportFormat.NDJSON, input(body));
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(report.getReceived()).isEqualTo(60);
+        assertThat(report.getImported()).isEqualTo(60);
+        assertThat(report.getFailed()).isZero();
+        assertThat(report.getRowsPerSecond()).isPositive();
+        assertThat(personRepository.count()).isEqualTo(61);
+        assertThat(attributeRepository.count()).isEqualTo(120);
+        // 180 rows: one uniqueness query, a few pooled id allocations and the insert batches
+        assertThat(statements).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void shouldReportRejectedRowsAndImportTheRest() throws Exception {
+        String body = String.join("\n",
+                jsonPerson("NEW-1", 30),
+                "{not json",
+                jsonPerson("NEW-2", 12),
+                "",
+                jsonPerson("new-1", 30),
+                jsonPerson("EXISTING", 30),
+                jsonPerson("NEW-3", 45));
+
+        PersonImportReport report = personImportService.importPersons(PersonExportFormat.NDJSON, input(body));
+
+        assertThat(report.getReceived()).isEqualTo(6);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(PersonImportError::getLine).containsExactly(2L, 3L, 5L, 6L);
+        assertThat(report.getErrors()).extracting(PersonImportError::getMessage)
+                .anySatisfy(message -> assertThat(message).startsWith("Malformed JSON"))
+                .contains("age must be greater than or equal to 18",
+                        "Identification is repeated in the import",
+                        "Identification must be unique");
+        assertThat(personRepository.existsByIdentification("NEW-3")).isTrue();
+    }
+
+    @Test
+    void shouldImportCsvWithQuotedMultilineValues() throws Exception {
+        String body = "id,full_name,identification,age,gender,active,drives,wears_glasses,diabetic,"
+                + "other_disease,additional_attributes\r\n"
+                + ",\"Doe, \"\"Jane\"\"\",CSV-1,33,FEMALE,true,false,1,true,\"Line one\nline two\",plan=gold;zone=AR\r\n"
+                + ",Broken Row,CSV-2,thirty,MALE,true,false,false,false,,\r\n";
+
+        PersonImportReport report = personImportService.importPersons(PersonExportFormat.CSV, input(body));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(4);
+            assertThat(error.getIdentification()).isEqualTo("CSV-2");
+            assertThat(error.getMessage()).isEqualTo("Invalid number for 'age'");
+        });
+        PersonEntity imported = personRepository.findByIdentification("CSV-1").orElseThrow();
+        assertThat(imported.getFullName()).isEqualTo("Doe, \"Jane\"");
+        assertThat(imported.getOtherDisease()).isEqualTo("Line one\nline two");
+        assertThat(imported.getWearsGlasses()).isTrue();
+        assertThat(attributeRepository.findByPersonIdInOrderByIdAsc(List.of(imported.getId())))
+                .extracting("attrKey").containsExactly("plan", "zone");
+    }
+
+    private String jsonPerson(final String identification, final int age) {
+        return "{\"fullName\":\"Person " + identification + "\",\"identification\":\"" + identification
+                + "\",\"age\":" + age + ",\"gender\":\"FEMALE\",\"active\":true,\"drives\":false,"
+                + "\"wearsGlasses\":false,\"diabetic\":false,"
+                + "\"additionalAttributes\":[{\"key\":\"plan\",\"value\":\"gold\"},{\"key\":\"zone\",\"value\":\"AR\"}]}";
+    }
+
+    private ByteArrayInputStream input(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonJobResponse;
+import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+import com.ficticia.ficticia_client_service.api.exception.ServiceUnavailableException;
+import com.ficticia.ficticia_client_service.application.export.PersonExportFormat;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobDispatcher;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobStatus;
+import com.ficticia.ficticia_client_service.application.jobs.PersonJobType;
+import com.ficticia.ficticia_client_service.application.services.impl.PersonJobServiceImpl;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonJobEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobErrorRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonJobRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link PersonJobServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PersonJobServiceImplTest {
+
+    @Mock
+    private PersonJobRepository jobRepository;
+
+    @Mock
+    private PersonJobErrorRepository jobErrorRepository;
+
+    @Mock
+    private PersonJobDispatcher jobDispatcher;
+
+    @InjectMocks
+    private PersonJobServiceImpl personJobService;
+
+    @TempDir
+    private Path storageDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(personJobService, "storageDir", storageDir.toString());
+    }
+
+    @Test
+    void shouldSpoolInputAndDispatchSubmittedJob() throws Exception {
+        when(jobRepository.save(any(PersonJobEntity.class))).thenAnswer(invocation -> {
+            PersonJobEntity job = invocation.getArgument(0);
+            job.setId(7L);
+            return job;
+        });
+
+        PersonJobResponse response = personJobService.submitJob(
+                PersonJobType.IMPORT, PersonExportFormat.CSV, input("id,full_name\n"));
+
+        assertThat(response.getId()).isEqualTo(7L);
+        assertThat(response.getStatus()).isEqualTo(PersonJobStatus.QUEUED);
+        try (var files = Files.list(storageDir)) {
+            assertThat(files).singleElement().satisfies(file ->
+                    assertThat(Files.readString(file)).isEqualTo("id,full_name\n"));
+        }
+        verify(jobDispatcher).dispatch(7L);
+    }
+
+    @Test
+    void shouldRejectSubmissionWhenWorkerQueueIsFull() throws Exception {
+        when(jobRepository.save(any(PersonJobEntity.class))).thenAnswer(invocation -> {
+            PersonJobEntity job = invocation.getArgument(0);
+            job.setId(8L);
+            return job;
+        });
+        doThrow(new RejectedExecutionException()).when(jobDispatcher).dispatch(8L);
+
+        assertThatThrownBy(() -> personJobService.submitJob(
+                PersonJobType.IMPORT, PersonExportFormat.NDJSON, input("{}")))
+                .isInstanceOf(ServiceUnavailableException.class);
+        verify(jobRepository).delete(any(PersonJobEntity.class));
+        try (var files = Files.list(storageDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldDispatchOnlyTheExpiredJobsThisInstanceRequeued() {
+        when(jobRepository.findIdsWithExpiredLease(any(Instant.class))).thenReturn(List.of(4L, 5L));
+        when(jobRepository.requeueExpired(eq(4L), any(Instant.class))).thenReturn(1);
+        when(jobRepository.requeueExpired(eq(5L), any(Instant.class))).thenReturn(0);
+
+        personJobService.recoverExpiredJobs();
+
+        verify(jobDispatcher).dispatch(4L);
+        verify(jobDispatcher, never()).dispatch(5L);
+    }
+
+    @Test
+    void shouldReportProgressWithThroughputAndEta() {
+        PersonJobEntity job = PersonJobEntity.builder()
+                .id(3L)
+                .type(PersonJobType.UPDATE)
+                .status(PersonJobStatus.RUNNING)
+                .format(PersonExportFormat.NDJSON)
+                .sourcePath("unused")
+                .totalRows(3_000L)
+                .processedRows(1_000)
+                .activeMillis(2_000)
+                .build();
+        when(jobRepository.findById(3L)).thenReturn(Optional.of(job));
+
+        PersonJobResponse response = personJobService.getJob(3L);
+
+        assertThat(response.getRowsPerSecond()).isEqualTo(500d);
+        assertThat(response.getEtaSeconds()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldRejectCancellationOfFinishedJob() {
+        when(jobRepository.findById(4L)).thenReturn(Optional.of(PersonJobEntity.builder()
+                .id(4L)
+                .status(PersonJobStatus.COMPLETED)
+                .build()));
+
+        assertThatThrownBy(() -> personJobService.cancelJob(4L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Only queued or running jobs can be cancelled");
+        verify(jobRepository).requestCancel(eq(4L), any());
+    }
+
+    private ByteArrayInputStream input(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
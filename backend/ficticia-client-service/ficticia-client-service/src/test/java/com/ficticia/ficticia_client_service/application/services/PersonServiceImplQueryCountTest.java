@@ -0,0 +1,361 @@
+package com.ficticia.ficticia_client_service.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import com.ficticia.ficticia_client_service.api.dtos.AdditionalAttributeDto;
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonPageResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchRequest;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSummaryPageResponse;
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.cache.ResourceVersion;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSearchSort;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSortKey;
+import com.ficticia.ficticia_client_service.application.projection.PersonSummaryField;
+import com.ficticia.ficticia_client_service.application.services.impl.PersonServiceImpl;
+import com.ficticia.ficticia_client_service.application.validators.DefaultPersonValidator;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonAdditionalAttributeRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.ficticia.ficticia_client_service.support.RecordingStatementInspector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Guards the statement count of the person listing paths against N+1 regressions.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ficticia.ficticia_client_service.support.RecordingStatementInspector"
+})
+@Import({PersonServiceImpl.class, PersonResponseCache.class, PersonMapper.class, DefaultPersonValidator.class,
+        JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class PersonServiceImplQueryCountTest {
+
+    private static final int PERSONS = 12;
+    private static final int ATTRIBUTES_PER_PERSON = 3;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonAdditionalAttributeRepository attributeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Saved through the repository so tests running without the test transaction get committed rows
+        for (int index = 0; index < PERSONS; index++) {
+            personRepository.save(buildPerson(index));
+        }
+        if (TestTransaction.isActive()) {
+            testEntityManager.flush();
+            testEntityManager.clear();
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldListPersonsAndAttributesWithTwoStatements() {
+        List<PersonResponse> persons = personService.getAllPersons();
+
+        assertThat(persons).hasSize(PERSONS);
+        assertThat(persons).allSatisfy(person ->
+                assertThat(person.getAdditionalAttributes()).hasSize(ATTRIBUTES_PER_PERSON));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLoadEachPageWithTwoStatements() {
+        PersonPageResponse firstPage = personService.getPersonsPage(null, 5, PersonSortKey.ID);
+        long afterFirstPage = statistics.getPrepareStatementCount();
+        PersonPageResponse secondPage = personService.getPersonsPage(
+                firstPage.getNextCursor(), 5, PersonSortKey.ID);
+
+        assertThat(firstPage.getItems()).hasSize(5);
+        assertThat(secondPage.getItems()).hasSize(5);
+        assertThat(secondPage.getItems()).allSatisfy(person ->
+                assertThat(person.getAdditionalAttributes()).hasSize(ATTRIBUTES_PER_PERSON));
+        assertThat(afterFirstPage).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldLoadSummaryPageWithOneStatementAndNoEntities() {
+        PersonSummaryPageResponse firstPage = personService.getPersonSummariesPage(
+                null, 5, PersonSortKey.UPDATED_AT, PersonSummaryField.parse("fullName,active"));
+        PersonSummaryPageResponse secondPage = personService.getPersonSummariesPage(
+                firstPage.getNextCursor(), 5, PersonSortKey.UPDATED_AT, PersonSummaryField.parse("fullName,active"));
+
+        assertThat(firstPage.getItems()).hasSize(5);
+        assertThat(secondPage.getItems()).hasSize(5);
+        assertThat(firstPage.getItems()).allSatisfy(person -> {
+            assertThat(person.getFullName()).startsWith("Person ");
+            assertThat(person.getActive()).isTrue();
+            assertThat(person.getAge()).isNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldServeRepeatedSingleReadsFromCache() {
+        Long id = personService.getPersonsPage(null, 1, PersonSortKey.ID).getItems().get(0).getId();
+        statistics.clear();
+
+        PersonResponse first = personService.getPersonById(id);
+        long afterFirstRead = statistics.getPrepareStatementCount();
+        PersonResponse second = personService.getPersonById(id);
+
+        assertThat(first.getAdditionalAttributes()).hasSize(ATTRIBUTES_PER_PERSON);
+        assertThat(second).isSameAs(first);
+        assertThat(afterFirstRead).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFirstRead);
+    }
+
+    @Test
+    void shouldReadThroughCallerTransactionWithoutCaching() {
+        PersonEntity uncommitted = testEntityManager.persistFlushFind(buildPerson(PERSONS));
+        statistics.clear();
+
+        PersonResponse first = personService.getPersonById(uncommitted.getId());
+        PersonResponse second = personService.getPersonById(uncommitted.getId());
+
+        assertThat(first.getIdentification()).isEqualTo("ID-" + PERSONS);
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldServeCacheHitsWithoutTransactionOrConnection() {
+        Long id = personService.getPersonsPage(null, 1, PersonSortKey.ID).getItems().get(0).getId();
+        personService.getPersonById(id);
+        statistics.clear();
+
+        PersonResponse cached = personService.getPersonById(id);
+
+        assertThat(cached.getId()).isEqualTo(id);
+        assertThat(statistics.getSessionOpenCount()).isZero();
+        assertThat(statistics.getConnectCount()).isZero();
+        assertThat(statistics.getTransactionCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void shouldResolveBatchWithTwoStatements() {
+        List<Long> ids = personService.getPersonsPage(null, 3, PersonSortKey.ID).getItems().stream()
+                .map(PersonResponse::getId)
+                .toList();
+        statistics.clear();
+
+        PersonBatchGetResponse batch = personService.getPersonsByIds(List.of(ids.get(2), -1L, ids.get(0)));
+
+        assertThat(batch.getItems()).extracting(PersonResponse::getId).containsExactly(ids.get(2), ids.get(0));
+        assertThat(batch.getItems()).allSatisfy(person ->
+                assertThat(person.getAdditionalAttributes()).hasSize(ATTRIBUTES_PER_PERSON));
+        assertThat(batch.getMissingIds()).containsExactly(-1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldComputePageTagWithOneStatementMatchingLoadedPage() {
+        PersonPageResponse page = personService.getPersonsPage(null, 5, PersonSortKey.UPDATED_AT);
+        statistics.clear();
+
+        ResourceVersion version = personService.getPersonsPageVersion(null, 5, PersonSortKey.UPDATED_AT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(version.getETag()).isEqualTo(ResourceVersion.ofCollection(
+                page.getItems(), PersonResponse::getId, PersonResponse::getVersion, page.isHasMore()).getETag());
+    }
+
+    @Test
+    void shouldRewriteOnlyChangedAttributeWhenPatching() throws Exception {
+        Long id = personService.getPersonsPage(null, 1, PersonSortKey.ID).getItems().get(0).getId();
+        testEntityManager.clear();
+        statistics.clear();
+        JsonNode patch = new ObjectMapper().readTree("{\"age\":41,\"additionalAttributes\":["
+                + "{\"key\":\"key-0\",\"value\":\"value-0\"},"
+                + "{\"key\":\"key-1\",\"value\":\"changed\"},"
+                + "{\"key\":\"key-2\",\"value\":\"value-2\"}]}");
+
+        PersonResponse patched = personService.patchPerson(id, patch, 0L);
+
+        assertThat(patched.getAge()).isEqualTo(41);
+        assertThat(patched.getFullName()).isEqualTo("Person 0");
+        assertThat(patched.getVersion()).isEqualTo(1L);
+        assertThat(patched.getAdditionalAttributes()).extracting(AdditionalAttributeDto::getValue)
+                .containsExactly("value-0", "changed", "value-2");
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWriteOnlyChangedColumnsWhenUpdatingOneField() throws Exception {
+        Long id = personService.getPersonsPage(null, 1, PersonSortKey.ID).getItems().get(0).getId();
+        testEntityManager.clear();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+
+        personService.patchPerson(id, new ObjectMapper().readTree("{\"age\":41}"), 0L);
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(RecordingStatementInspector.updates()).singleElement()
+                .satisfies(sql -> assertThat(sql).contains("age").doesNotContain("full_name", "identification"));
+    }
+
+    @Test
+    void shouldNotWriteWhenUpdateChangesNothing() throws Exception {
+        Long id = personService.getPersonsPage(null, 1, PersonSortKey.ID).getItems().get(0).getId();
+        testEntityManager.clear();
+        statistics.clear();
+
+        PersonResponse unchanged = personService.patchPerson(id, new ObjectMapper().readTree("{\"age\":30}"), 0L);
+        testEntityManager.flush();
+
+        assertThat(unchanged.getVersion()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @Test
+    void shouldInsertAndDeleteOnlyChangedKeysWhenPatchingAttributes() throws Exception {
+        Long id = personService.getPersonsPage(null, 1, PersonSortKey.ID).getItems().get(0).getId();
+        testEntityManager.clear();
+        statistics.clear();
+        JsonNode patch = new ObjectMapper().readTree("{\"additionalAttributes\":["
+                + "{\"key\":\"KEY-0\",\"value\":\"value-0\"},"
+                + "{\"key\":\"key-1\",\"value\":\"value-1\"},"
+                + "{\"key\":\"key-3\",\"value\":\"value-3\"}]}");
+
+        PersonResponse patched = personService.patchPerson(id, patch, null);
+
+        assertThat(patched.getAdditionalAttributes()).extracting(AdditionalAttributeDto::getKey)
+                .containsExactly("KEY-0", "key-1", "key-3");
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWalkTimestampOrderedPagesWithoutGapsOrDuplicates() {
+        PersonPageResponse firstPage = personService.getPersonsPage(null, 7, PersonSortKey.UPDATED_AT);
+        PersonPageResponse secondPage = personService.getPersonsPage(
+                firstPage.getNextCursor(), 7, PersonSortKey.UPDATED_AT);
+
+        assertThat(firstPage.isHasMore()).isTrue();
+        assertThat(secondPage.isHasMore()).isFalse();
+        assertThat(firstPage.getItems().size() + secondPage.getItems().size()).isEqualTo(PERSONS);
+        assertThat(secondPage.getItems()).extracting(PersonResponse::getId)
+                .doesNotContainAnyElementsOf(firstPage.getItems().stream().map(PersonResponse::getId).toList());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldFilterSortAndPageSearchResultsWithoutCounting() {
+        PersonSearchRequest request = PersonSearchRequest.builder()
+                .fullName("Person 1")
+                .gender("FEMALE")
+                .minAge(20)
+                .maxAge(40)
+                .size(2)
+                .sort(PersonSearchSort.FULL_NAME)
+                .direction(Sort.Direction.DESC)
+                .build();
+
+        PersonSearchResponse firstPage = personService.searchPersons(request);
+        request.setPage(1);
+        PersonSearchResponse secondPage = personService.searchPersons(request);
+
+        assertThat(firstPage.getItems()).extracting(PersonResponse::getFullName)
+                .containsExactly("Person 11", "Person 10");
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getItems()).extracting(PersonResponse::getFullName)
+                .containsExactly("Person 1");
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldMatchFreeTextAgainstNameOrIdentificationPrefix() {
+        PersonSearchRequest byIdentification = PersonSearchRequest.builder().query("ID-1").build();
+        PersonSearchRequest byName = PersonSearchRequest.builder().query("son 3").build();
+        PersonSearchRequest withWildcards = PersonSearchRequest.builder().query("%").build();
+
+        assertThat(personService.searchPersons(byIdentification).getItems()).extracting(PersonResponse::getIdentification)
+                .containsExactly("ID-1", "ID-10", "ID-11");
+        assertThat(personService.searchPersons(byName).getItems()).extracting(PersonResponse::getFullName)
+                .containsExactly("Person 3");
+        assertThat(personService.searchPersons(withWildcards).getItems()).isEmpty();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Rows committed by tests running without the test transaction
+        if (!TestTransaction.isActive()) {
+            attributeRepository.deleteAll();
+            personRepository.deleteAll();
+        }
+    }
+
+    private PersonEntity buildPerson(final int index) {
+        PersonEntity person = PersonEntity.builder()
+                .fullName("Person " + index)
+                .identification("ID-" + index)
+                .age(30)
+                .gender("FEMALE")
+                .active(Boolean.TRUE)
+                .drives(Boolean.FALSE)
+                .wearsGlasses(Boolean.FALSE)
+                .diabetic(Boolean.FALSE)
+                .build();
+        for (int attribute = 0; attribute < ATTRIBUTES_PER_PERSON; attribute++) {
+            person.getAdditionalAttributes().add(PersonAdditionalAttributeEntity.builder()
+                    .person(person)
+                    .attrKey("key-" + attribute)
+                    .attrValue("value-" + attribute)
+                    .build());
+        }
+        return person;
+    }
+}
@@ -3,31 +3,57 @@ package com.ficticia.ficticia_client_service.application.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import com.ficticia.ficticia_client_service.api.dtos.PersonBatchGetResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonPageResponse;
 import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
 import com.ficticia.ficticia_client_service.api.dtos.PersonResponse;
+import com.ficticia.ficticia_client_service.api.dtos.PersonSearchRequest;
 import com.ficticia.ficticia_client_service.api.exception.BusinessException;
+import com.ficticia.ficticia_client_service.api.exception.PreconditionFailedException;
 import com.ficticia.ficticia_client_service.api.exception.ResourceNotFoundException;
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.cache.ResourceVersion;
 import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.application.pagination.PersonCursor;
+import com.ficticia.ficticia_client_service.application.pagination.PersonSortKey;
 import com.ficticia.ficticia_client_service.application.services.impl.PersonServiceImpl;
 import com.ficticia.ficticia_client_service.application.validators.PersonValidator;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
 import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonAdditionalAttributeRepository;
 import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonVersionRow;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Unit tests for {@link PersonServiceImpl}.
@@ -38,12 +64,27 @@ class PersonServiceImplTest {
     @Mock
     private PersonRepository personRepository;
 
+    @Mock
+    private PersonAdditionalAttributeRepository attributeRepository;
+
     @Mock
     private PersonValidator personValidator;
 
     @Mock
     private PersonMapper personMapper;
 
+    @Spy
+    private PersonResponseCache personCache = new PersonResponseCache(100, 60);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PersonServiceImpl personService;
 
@@ -54,6 +95,10 @@ class PersonServiceImplTest {
     void setUp() {
         request = buildRequest();
         entity = buildEntity(1L);
+        ReflectionTestUtils.setField(personService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(personService, "maxPageSize", 3);
+        ReflectionTestUtils.setField(personService, "maxListResults", 1000);
+        ReflectionTestUtils.setField(personService, "maxBatchSize", 3);
     }
 
     @Test
@@ -61,14 +106,134 @@ class PersonServiceImplTest {
         PersonEntity otherEntity = buildEntity(2L);
         PersonResponse firstResponse = buildResponse(1L);
         PersonResponse secondResponse = buildResponse(2L);
-        when(personRepository.findAll()).thenReturn(List.of(entity, otherEntity));
-        when(personMapper.toResponse(entity)).thenReturn(firstResponse);
-        when(personMapper.toResponse(otherEntity)).thenReturn(secondResponse);
+        PersonAdditionalAttributeEntity attribute = PersonAdditionalAttributeEntity.builder()
+                .id(9L)
+                .person(otherEntity)
+                .attrKey("smoker")
+                .attrValue("no")
+                .build();
+        when(personRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000)))
+                .thenReturn(List.of(entity, otherEntity));
+        when(attributeRepository.findByPersonIdInOrderByIdAsc(List.of(1L, 2L))).thenReturn(List.of(attribute));
+        when(personMapper.toResponse(entity, List.of())).thenReturn(firstResponse);
+        when(personMapper.toResponse(otherEntity, List.of(attribute))).thenReturn(secondResponse);
 
         List<PersonResponse> responses = personService.getAllPersons();
 
         assertThat(responses).containsExactly(firstResponse, secondResponse);
-        verify(personRepository).findAll();
+        verify(personRepository, never()).findAll();
+        verify(attributeRepository).findByPersonIdInOrderByIdAsc(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldSkipAttributeQueryWhenListingIsEmpty() {
+        when(personRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000))).thenReturn(List.of());
+
+        assertThat(personService.getAllPersons()).isEmpty();
+        verify(attributeRepository, never()).findByPersonIdInOrderByIdAsc(anyList());
+    }
+
+    @Test
+    void shouldReturnFirstPageWithCursorWhenMoreRowsExist() {
+        PersonEntity second = buildEntity(2L);
+        PersonEntity third = buildEntity(3L);
+        when(personRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(entity, second, third));
+        when(personMapper.toResponse(any(PersonEntity.class), anyList()))
+                .thenAnswer(invocation -> buildResponse(invocation.<PersonEntity>getArgument(0).getId()));
+
+        PersonPageResponse page = personService.getPersonsPage(null, null, PersonSortKey.ID);
+
+        assertThat(page.getItems()).extracting(PersonResponse::getId).containsExactly(1L, 2L);
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(PersonCursor.decode(page.getNextCursor(), PersonSortKey.ID).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldResumeAfterCursorAndCapPageSize() {
+        String cursor = PersonCursor.afterId(7L).encode();
+        PersonEntity eighth = buildEntity(8L);
+        when(personRepository.findByIdGreaterThanOrderByIdAsc(7L, Limit.of(4))).thenReturn(List.of(eighth));
+        when(personMapper.toResponse(eq(eighth), anyList())).thenReturn(buildResponse(8L));
+
+        PersonPageResponse page = personService.getPersonsPage(cursor, 50, PersonSortKey.ID);
+
+        assertThat(page.getSize()).isEqualTo(3);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldPageByModificationTimestamp() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:15:30.123456Z");
+        String cursor = PersonCursor.afterUpdatedAt(updatedAt, 4L).encode();
+        PersonEntity next = buildEntity(2L);
+        when(personRepository.findPageAfterUpdatedAt(updatedAt, 4L, Limit.of(3))).thenReturn(List.of(next));
+        when(personMapper.toResponse(eq(next), anyList())).thenReturn(buildResponse(2L));
+
+        PersonPageResponse page = personService.getPersonsPage(cursor, null, PersonSortKey.UPDATED_AT);
+
+        assertThat(page.getItems()).extracting(PersonResponse::getId).containsExactly(2L);
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForAnotherSort() {
+        String cursor = PersonCursor.afterId(7L).encode();
+
+        assertThatThrownBy(() -> personService.getPersonsPage(cursor, null, PersonSortKey.UPDATED_AT))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("cursor");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> personService.getPersonsPage("not*a*cursor", null, PersonSortKey.ID))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    void shouldRejectNonPositivePageSize() {
+        assertThatThrownBy(() -> personService.getPersonsPage(null, 0, PersonSortKey.ID))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Page size");
+    }
+
+    @Test
+    void shouldRejectInvertedAgeRangeOnSearch() {
+        PersonSearchRequest searchRequest = PersonSearchRequest.builder()
+                .minAge(60)
+                .maxAge(30)
+                .build();
+
+        assertThatThrownBy(() -> personService.searchPersons(searchRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("age");
+        verify(personRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void shouldReturnBatchInRequestOrderAndReportMissingIds() {
+        PersonEntity third = buildEntity(3L);
+        when(personRepository.findByIdIn(any())).thenReturn(List.of(entity, third));
+        when(attributeRepository.findByPersonIdInOrderByIdAsc(anyList())).thenReturn(List.of());
+        when(personMapper.toResponse(any(PersonEntity.class), anyList()))
+                .thenAnswer(invocation -> buildResponse(invocation.<PersonEntity>getArgument(0).getId()));
+
+        PersonBatchGetResponse response = personService.getPersonsByIds(List.of(3L, 7L, 1L, 3L));
+
+        assertThat(response.getItems()).extracting(PersonResponse::getId).containsExactly(3L, 1L);
+        assertThat(response.getMissingIds()).containsExactly(7L);
+        verify(personRepository).findByIdIn(Set.of(3L, 7L, 1L));
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanMaximum() {
+        assertThatThrownBy(() -> personService.getPersonsByIds(List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(BusinessException.class);
+        verify(personRepository, never()).findByIdIn(any());
     }
 
     @Test
@@ -83,6 +248,38 @@ class PersonServiceImplTest {
         verify(personRepository).findById(1L);
     }
 
+    @Test
+    void shouldServeRepeatedReadsFromCacheUntilPersonIsUpdated() {
+        when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(personMapper.updateEntity(entity, request)).thenReturn(true);
+        when(personMapper.toResponse(entity)).thenReturn(buildResponse(1L));
+
+        personService.getPersonById(1L);
+        personService.getPersonById(1L);
+        verify(personRepository).findById(1L);
+
+        personService.updatePerson(1L, request, null);
+        personService.getPersonById(1L);
+
+        verify(personCache).evict(1L);
+        verify(personRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void shouldReadPersonVersionWithoutLoadingPerson() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:15:30Z");
+        PersonVersionRow row = mock(PersonVersionRow.class);
+        when(row.getVersion()).thenReturn(4L);
+        when(row.getUpdatedAt()).thenReturn(updatedAt);
+        when(personRepository.findVersionById(1L)).thenReturn(Optional.of(row));
+
+        ResourceVersion version = personService.getPersonVersion(1L);
+
+        assertThat(version.getETag()).isEqualTo("\"4\"");
+        assertThat(version.getLastModified()).isEqualTo(updatedAt);
+        verify(personRepository, never()).findById(anyLong());
+    }
+
     @Test
     void shouldThrowWhenPersonNotFound() {
         when(personRepository.findById(anyLong())).thenReturn(Optional.empty());
@@ -125,15 +322,82 @@ class PersonServiceImplTest {
         PersonResponse response = buildResponse(1L);
         when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
         when(personRepository.existsByIdentificationAndIdNot(request.getIdentification(), 1L)).thenReturn(false);
-        when(personRepository.save(entity)).thenReturn(entity);
+        when(personMapper.updateEntity(entity, request)).thenReturn(true);
         when(personMapper.toResponse(entity)).thenReturn(response);
 
-        PersonResponse result = personService.updatePerson(1L, request);
+        PersonResponse result = personService.updatePerson(1L, request, null);
 
         assertThat(result).isEqualTo(response);
         verify(personValidator).validateForUpdate(1L, request);
         verify(personMapper).updateEntity(entity, request);
         verify(personRepository).existsByIdentificationAndIdNot(request.getIdentification(), 1L);
+        verify(personRepository).flush();
+        verify(personRepository, never()).save(any(PersonEntity.class));
+    }
+
+    @Test
+    void shouldSkipFlushAndEvictionWhenUpdateChangesNothing() {
+        PersonResponse response = buildResponse(1L);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(personMapper.updateEntity(entity, request)).thenReturn(false);
+        when(personMapper.toResponse(entity)).thenReturn(response);
+
+        PersonResponse result = personService.updatePerson(1L, request, 2L);
+
+        assertThat(result).isEqualTo(response);
+        verify(personRepository, never()).flush();
+        verify(personCache, never()).evict(1L);
+    }
+
+    @Test
+    void shouldUpdatePersonWhenExpectedVersionMatches() {
+        when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(personMapper.updateEntity(entity, request)).thenReturn(true);
+        when(personMapper.toResponse(entity)).thenReturn(buildResponse(1L));
+
+        personService.updatePerson(1L, request, 2L);
+
+        verify(personMapper).updateEntity(entity, request);
+    }
+
+    @Test
+    void shouldRejectUpdateWhenPersonChangedSinceExpectedVersion() {
+        when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
+
+        assertThatThrownBy(() -> personService.updatePerson(1L, request, 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(personMapper, never()).updateEntity(any(PersonEntity.class), any(PersonRequest.class));
+        verify(personRepository, never()).flush();
+        verify(personCache, never()).evict(1L);
+    }
+
+    @Test
+    void shouldKeepUnpatchedFieldsWhenPatchingPerson() throws Exception {
+        when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(personMapper.toRequest(entity)).thenReturn(request);
+        when(personMapper.updateEntity(eq(entity), any(PersonRequest.class))).thenReturn(true);
+        when(personMapper.toResponse(entity)).thenReturn(buildResponse(1L));
+
+        personService.patchPerson(1L, objectMapper.readTree("{\"age\":40,\"otherDisease\":\"asthma\"}"), 2L);
+
+        ArgumentCaptor<PersonRequest> patched = ArgumentCaptor.forClass(PersonRequest.class);
+        verify(personMapper).updateEntity(eq(entity), patched.capture());
+        assertThat(patched.getValue().getAge()).isEqualTo(40);
+        assertThat(patched.getValue().getOtherDisease()).isEqualTo("asthma");
+        assertThat(patched.getValue().getFullName()).isEqualTo("Jane Doe");
+        assertThat(patched.getValue().getIdentification()).isEqualTo("ID-999");
+        verify(personCache).evict(1L);
+    }
+
+    @Test
+    void shouldRejectPatchThatDoesNotDescribeAPerson() throws Exception {
+        when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(personMapper.toRequest(entity)).thenReturn(request);
+
+        assertThatThrownBy(() -> personService.patchPerson(
+                1L, objectMapper.readTree("{\"age\":\"forty\"}"), null))
+                .isInstanceOf(BusinessException.class);
+        verify(personRepository, never()).flush();
     }
 
     @Test
@@ -141,10 +405,10 @@ class PersonServiceImplTest {
         when(personRepository.findById(1L)).thenReturn(Optional.of(entity));
         when(personRepository.existsByIdentificationAndIdNot(request.getIdentification(), 1L)).thenReturn(true);
 
-        assertThatThrownBy(() -> personService.updatePerson(1L, request))
+        assertThatThrownBy(() -> personService.updatePerson(1L, request, null))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Identification");
-        verify(personRepository, never()).save(any(PersonEntity.class));
+        verify(personRepository, never()).flush();
     }
 
     @Test
@@ -155,6 +419,7 @@ class PersonServiceImplTest {
         personService.deletePerson(1L);
 
         verify(personRepository).delete(entity);
+        verify(personCache).evict(1L);
     }
 
     @Test
@@ -191,6 +456,7 @@ class PersonServiceImplTest {
                 .drives(Boolean.TRUE)
                 .wearsGlasses(Boolean.FALSE)
                 .diabetic(Boolean.FALSE)
+                .version(2L)
                 .build();
     }
 
@@ -0,0 +1,95 @@
+package com.ficticia.ficticia_client_service.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.ficticia.ficticia_client_service.api.exception.ServiceUnavailableException;
+import com.ficticia.ficticia_client_service.infrastructure.configs.OffloadedPasswordEncoder;
+
+/**
+ * Measures the latency of the login password check as concurrency grows, with BCrypt on the calling threads
+ * versus on the bounded hashing pool. Run with {@code mvn test -Pbenchmark}; results are printed and written
+ * to {@code target/benchmarks/login-hashing.csv}.
+ */
+@Tag("benchmark")
+class LoginHashingBenchmark {
+
+    private static final int STRENGTH = 10;
+    private static final int REQUESTS_PER_CALLER = 4;
+    private static final int[] CONCURRENCY = {1, 4, 16, 64};
+
+    @Test
+    void compareLoginLatencyByConcurrency() throws Exception {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(STRENGTH);
+        String hash = bcrypt.encode("Strong12!");
+        List<String> lines = new ArrayList<>();
+        lines.add("mode,concurrency,requests,rejected,p50_ms,p99_ms");
+        for (int concurrency : CONCURRENCY) {
+            lines.add(run("request-threads", bcrypt, hash, concurrency));
+            try (OffloadedPasswordEncoder offloaded = new OffloadedPasswordEncoder(bcrypt, 2, 32, 2_000)) {
+                lines.add(run("hashing-pool", offloaded, hash, concurrency));
+            }
+        }
+        lines.forEach(System.out::println);
+        Path report = Path.of("target", "benchmarks", "login-hashing.csv");
+        Files.createDirectories(report.getParent());
+        Files.write(report, lines);
+    }
+
+    private String run(final String mode, final PasswordEncoder encoder, final String hash, final int concurrency)
+            throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int caller = 0; caller < concurrency; caller++) {
+                tasks.add(() -> {
+                    for (int request = 0; request < REQUESTS_PER_CALLER; request++) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            encoder.matches("Strong12!", hash);
+                            latencies.add(System.nanoTime() - startedAt);
+                        } catch (ServiceUnavailableException ex) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : callers.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.1f", mode, concurrency,
+                concurrency * REQUESTS_PER_CALLER, rejected.get(), percentile(sorted, 50), percentile(sorted, 99));
+    }
+
+    private double percentile(final List<Long> sortedNanos, final int percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100d * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, index)) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,184 @@
+package com.ficticia.ficticia_client_service.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ficticia.ficticia_client_service.api.dtos.AdditionalAttributeDto;
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.ficticia.ficticia_client_service.application.cache.PersonResponseCache;
+import com.ficticia.ficticia_client_service.application.mappers.PersonMapper;
+import com.ficticia.ficticia_client_service.application.services.PersonService;
+import com.ficticia.ficticia_client_service.application.services.impl.PersonServiceImpl;
+import com.ficticia.ficticia_client_service.application.validators.DefaultPersonValidator;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.ficticia.ficticia_client_service.support.RecordingStatementInspector;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compares statements per update, columns written and update throughput of the person write path against the
+ * previous sequence, which called {@code saveAndFlush} on the managed entity and flushed unconditionally. Run
+ * with {@code mvn test -Pbenchmark}; results are printed and written to
+ * {@code target/benchmarks/person-update.csv}. Running it on the commit before dynamic updates gives the
+ * column counts of full-row updates.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ficticia.ficticia_client_service.support.RecordingStatementInspector"
+})
+@Import({PersonServiceImpl.class, PersonResponseCache.class, PersonMapper.class, DefaultPersonValidator.class,
+        JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PersonUpdateBenchmark {
+
+    private static final int WARMUP_UPDATES = 200;
+    private static final int MEASURED_UPDATES = 2_000;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareUpdatePaths() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long id = transaction.execute(status -> personRepository.save(buildPerson()).getId());
+        PersonRequest stored = transaction.execute(status ->
+                personMapper.toRequest(personRepository.findById(id).orElseThrow()));
+        List<String> lines = new ArrayList<>();
+        lines.add("mode,scenario,updates,statements_per_update,person_columns_per_update,updates_per_second");
+        for (String scenario : List.of("unchanged", "one-field", "attribute-value")) {
+            IntFunction<PersonRequest> requests = iteration -> variant(stored, scenario, iteration);
+            lines.add(run("save-and-flush", scenario, requests,
+                    request -> transaction.executeWithoutResult(status -> legacyUpdate(id, request))));
+            lines.add(run("dirty-checking", scenario, requests,
+                    request -> personService.updatePerson(id, request, null)));
+        }
+        lines.forEach(System.out::println);
+        Path report = Path.of("target", "benchmarks", "person-update.csv");
+        Files.createDirectories(report.getParent());
+        Files.write(report, lines);
+    }
+
+    private String run(final String mode, final String scenario, final IntFunction<PersonRequest> requests,
+                       final Consumer<PersonRequest> update) {
+        for (int iteration = 0; iteration < WARMUP_UPDATES; iteration++) {
+            update.accept(requests.apply(iteration));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+        long startedAt = System.nanoTime();
+        for (int iteration = 0; iteration < MEASURED_UPDATES; iteration++) {
+            update.accept(requests.apply(WARMUP_UPDATES + iteration));
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000d;
+        long personColumns = RecordingStatementInspector.updates().stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update persons "))
+                .mapToLong(this::setColumns)
+                .sum();
+        return String.format(Locale.ROOT, "%s,%s,%d,%.2f,%.2f,%.0f", mode, scenario, MEASURED_UPDATES,
+                statistics.getPrepareStatementCount() / (double) MEASURED_UPDATES,
+                personColumns / (double) MEASURED_UPDATES, MEASURED_UPDATES / seconds);
+    }
+
+    // Mirrors the write path before dirty checking was relied on: merge through save and always flush
+    private void legacyUpdate(final Long id, final PersonRequest request) {
+        PersonEntity entity = personRepository.findById(id).orElseThrow();
+        personRepository.existsByIdentificationAndIdNot(request.getIdentification(), id);
+        personMapper.updateEntity(entity, request);
+        personMapper.toResponse(personRepository.saveAndFlush(entity));
+    }
+
+    private PersonRequest variant(final PersonRequest stored, final String scenario, final int iteration) {
+        PersonRequest request = new PersonRequest();
+        request.setFullName(stored.getFullName());
+        request.setIdentification(stored.getIdentification());
+        request.setAge(stored.getAge());
+        request.setGender(stored.getGender());
+        request.setActive(stored.getActive());
+        request.setDrives(stored.getDrives());
+        request.setWearsGlasses(stored.getWearsGlasses());
+        request.setDiabetic(stored.getDiabetic());
+        request.setOtherDisease(stored.getOtherDisease());
+        List<AdditionalAttributeDto> attributes = new ArrayList<>();
+        for (AdditionalAttributeDto attribute : stored.getAdditionalAttributes()) {
+            AdditionalAttributeDto copy = new AdditionalAttributeDto();
+            copy.setKey(attribute.getKey());
+            copy.setValue(attribute.getValue());
+            attributes.add(copy);
+        }
+        request.setAdditionalAttributes(attributes);
+        // Alternating values make every iteration a real change
+        if ("one-field".equals(scenario)) {
+            request.setAge(31 + iteration % 2);
+        } else if ("attribute-value".equals(scenario)) {
+            attributes.get(0).setValue("changed-" + iteration % 2);
+        }
+        return request;
+    }
+
+    private long setColumns(final String updateSql) {
+        String sql = updateSql.toLowerCase(Locale.ROOT);
+        int set = sql.indexOf(" set ");
+        int where = sql.indexOf(" where ");
+        return sql.substring(set + 5, where).split(",").length;
+    }
+
+    private PersonEntity buildPerson() {
+        PersonEntity person = PersonEntity.builder()
+                .fullName("Benchmark Person")
+                .identification("BENCH-1")
+                .age(30)
+                .gender("FEMALE")
+                .active(Boolean.TRUE)
+                .drives(Boolean.FALSE)
+                .wearsGlasses(Boolean.FALSE)
+                .diabetic(Boolean.FALSE)
+                .build();
+        for (int attribute = 0; attribute < 3; attribute++) {
+            person.getAdditionalAttributes().add(PersonAdditionalAttributeEntity.builder()
+                    .person(person)
+                    .attrKey("key-" + attribute)
+                    .attrValue("value-" + attribute)
+                    .build());
+        }
+        return person;
+    }
+}
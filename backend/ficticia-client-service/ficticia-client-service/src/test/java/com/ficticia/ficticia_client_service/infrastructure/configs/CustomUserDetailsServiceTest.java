@@ -0,0 +1,85 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.UserEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link CustomUserDetailsService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new CustomUserDetailsService(userRepository, 10, 60);
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        when(userRepository.findByUsernameIgnoreCase("Admin")).thenReturn(Optional.of(user()));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        userDetailsService.bindTo(registry);
+
+        userDetailsService.loadUserByUsername("Admin");
+        userDetailsService.loadUserByUsername("ADMIN");
+
+        verify(userRepository).findByUsernameIgnoreCase("Admin");
+        assertThat(registry.get("cache.gets").tag("cache", "users").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadUserAfterEviction() {
+        when(userRepository.findByUsernameIgnoreCase("admin")).thenReturn(Optional.of(user()));
+
+        userDetailsService.loadUserByUsername("admin");
+        userDetailsService.evictUser("ADMIN");
+        userDetailsService.loadUserByUsername("admin");
+
+        verify(userRepository, times(2)).findByUsernameIgnoreCase("admin");
+    }
+
+    @Test
+    void shouldNotCacheUnknownUsers() {
+        when(userRepository.findByUsernameIgnoreCase("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        verify(userRepository, times(2)).findByUsernameIgnoreCase("ghost");
+    }
+
+    private UserEntity user() {
+        return UserEntity.builder()
+                .id(1L)
+                .username("admin")
+                .email("admin@mail.com")
+                .password("encoded")
+                .enabled(true)
+                .build();
+    }
+}
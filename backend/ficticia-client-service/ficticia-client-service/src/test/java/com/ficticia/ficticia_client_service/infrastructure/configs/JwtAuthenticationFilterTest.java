@@ -0,0 +1,117 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link JwtAuthenticationFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "Y2hhbmdlLXRoaXMtdG8tYS12ZXJ5LXN0cm9uZy1zZWNyZXQta2V5LXdpdGgtNTQtYnl0ZXM=";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationService tokenRevocationService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 100);
+        tokenRevocationService = new TokenRevocationService(60_000, 100);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenRevocationService);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldLoadUserFromDatabaseByDefault() throws Exception {
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(User.withUsername("admin")
+                .password("secret")
+                .authorities("ROLE_ADMIN")
+                .build());
+
+        Authentication authentication = authenticate(token("admin", "ROLE_ADMIN"));
+
+        assertThat(authentication.getName()).isEqualTo("admin");
+    }
+
+    @Test
+    void shouldBuildPrincipalFromClaimsInStatelessMode() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuth", true);
+
+        Authentication authentication = authenticate(token("admin", "ROLE_ADMIN", "ROLE_USER"));
+
+        assertThat(authentication.getName()).isEqualTo("admin");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void shouldRejectRevokedTokenInStatelessMode() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuth", true);
+        String token = token("admin", "ROLE_ADMIN");
+        tokenRevocationService.revokeTokens("ADMIN");
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    void shouldRejectRevokedTokenByDefault() throws Exception {
+        String token = token("admin", "ROLE_ADMIN");
+        tokenRevocationService.revokeTokens("ADMIN");
+
+        assertThat(authenticate(token)).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void shouldIgnoreInvalidToken() throws Exception {
+        assertThat(authenticate("not-a-jwt")).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private String token(final String username, final String... roles) {
+        return jwtTokenProvider.generateToken(username,
+                List.of(roles).stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    private Authentication authenticate(final String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
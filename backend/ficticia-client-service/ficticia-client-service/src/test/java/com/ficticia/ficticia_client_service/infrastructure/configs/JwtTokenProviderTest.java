@@ -0,0 +1,76 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Unit tests for {@link JwtTokenProvider}.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "Y2hhbmdlLXRoaXMtdG8tYS12ZXJ5LXN0cm9uZy1zZWNyZXQta2V5LXdpdGgtNTQtYnl0ZXM=";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 100);
+    }
+
+    @Test
+    void shouldReturnClaimsOfValidToken() {
+        String token = jwtTokenProvider.generateToken("admin", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        Claims claims = jwtTokenProvider.parseToken(token).orElseThrow();
+
+        assertThat(claims.getSubject()).isEqualTo("admin");
+        assertThat(claims.get("roles", List.class)).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void shouldReuseVerifiedClaimsForRepeatedToken() {
+        String token = jwtTokenProvider.generateToken("admin", List.of());
+
+        Claims first = jwtTokenProvider.parseToken(token).orElseThrow();
+        Claims second = jwtTokenProvider.parseToken(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        String token = jwtTokenProvider.generateToken("admin", List.of());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(jwtTokenProvider.parseToken(tampered)).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+        assertThatThrownBy(() -> jwtTokenProvider.getUsernameFromToken(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1_000, 100);
+        String token = expiredProvider.generateToken("admin", List.of());
+
+        assertThat(expiredProvider.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                "YW5vdGhlci1zZWNyZXQta2V5LXRoYXQtaXMtbG9uZy1lbm91Z2gtZm9yLWhzMjU2LXNpZ25pbmc=", 60_000, 100);
+        String token = otherProvider.generateToken("admin", List.of());
+
+        assertThat(jwtTokenProvider.parseToken(token)).isEmpty();
+    }
+}
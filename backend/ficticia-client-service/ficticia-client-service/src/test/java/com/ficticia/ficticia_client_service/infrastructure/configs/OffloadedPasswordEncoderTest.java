@@ -0,0 +1,89 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.ficticia.ficticia_client_service.api.exception.ServiceUnavailableException;
+
+/**
+ * Unit tests for {@link OffloadedPasswordEncoder}.
+ */
+class OffloadedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private OffloadedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void shouldHashAndMatchOnWorkerPool() {
+        encoder = new OffloadedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, 5_000);
+
+        String hash = encoder.encode("Strong12!");
+
+        assertThat(encoder.matches("Strong12!", hash)).isTrue();
+        assertThat(encoder.matches("Wrong12!", hash)).isFalse();
+    }
+
+    @Test
+    void shouldRejectImmediatelyWhenPoolAndQueueAreFull() throws Exception {
+        encoder = new OffloadedPasswordEncoder(blockingEncoder(), 1, 1, 5_000);
+        Thread first = new Thread(() -> encoder.encode("first"));
+        Thread second = new Thread(() -> encoder.encode("second"));
+        first.start();
+        second.start();
+        waitUntilQueued(1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1_000);
+    }
+
+    @Test
+    void shouldGiveUpWhenHashTakesLongerThanTimeout() {
+        encoder = new OffloadedPasswordEncoder(blockingEncoder(), 1, 1, 50);
+
+        assertThatThrownBy(() -> encoder.encode("slow"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private void waitUntilQueued(final int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getQueueSize() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(encoder.getQueueSize()).isEqualTo(expected);
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(final CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+}
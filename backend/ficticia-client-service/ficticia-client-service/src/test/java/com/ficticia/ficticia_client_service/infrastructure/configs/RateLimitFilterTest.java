@@ -0,0 +1,134 @@
+package com.ficticia.ficticia_client_service.infrastructure.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ficticia.ficticia_client_service.infrastructure.ratelimit.InMemoryRateLimiterBackend;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+/**
+ * Unit tests for {@link RateLimitFilter}.
+ */
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(new InMemoryRateLimiterBackend(100, 3600),
+                new ObjectMapper().registerModule(new JavaTimeModule()), 3, 2, 60, 2, 1, 900);
+    }
+
+    @Test
+    void shouldRejectLoginsForSameUsernameBeyondLimit() throws Exception {
+        assertThat(post("/api/auth/login", "10.0.0.1", "{\"username\":\"Admin\"}").getStatus()).isEqualTo(200);
+        assertThat(post("/api/auth/login", "10.0.0.2", "{\"username\":\"admin\"}").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = post("/api/auth/login", "10.0.0.3", "{\"username\":\"ADMIN\"}");
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isPositive();
+        assertThat(rejected.getContentAsString()).contains("Too many attempts");
+    }
+
+    @Test
+    void shouldRejectLoginsFromSameIpBeyondLimit() throws Exception {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            post("/api/auth/login", "10.0.0.1", "{\"username\":\"user" + attempt + "\"}");
+        }
+
+        assertThat(post("/api/auth/login", "10.0.0.1", "{\"username\":\"other\"}").getStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void shouldLimitForgotPasswordPerEmail() throws Exception {
+        assertThat(post("/api/auth/password/forgot", "10.0.0.1", "{\"email\":\"a@mail.com\"}").getStatus())
+                .isEqualTo(200);
+
+        assertThat(post("/api/auth/password/forgot", "10.0.0.2", "{\"email\":\"a@mail.com\"}").getStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void shouldReplayBodyToNextFilter() throws Exception {
+        MockHttpServletRequest request = request("/api/auth/login", "10.0.0.1", "{\"username\":\"admin\"}");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        byte[] body = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{\"username\":\"admin\"}");
+    }
+
+    @Test
+    void shouldReplayBodyToAsynchronousReader() throws Exception {
+        MockHttpServletRequest request = request("/api/auth/login", "10.0.0.1", "{\"username\":\"admin\"}");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        ServletInputStream input = chain.getRequest().getInputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[4];
+                int count;
+                while (input.isReady() && (count = input.read(buffer)) != -1) {
+                    body.write(buffer, 0, count);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+        });
+
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("{\"username\":\"admin\"}");
+        assertThat(allDataRead).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreOtherEndpoints() throws Exception {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThat(post("/api/auth/register", "10.0.0.1", "{}").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse post(final String path, final String ip, final String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(path, ip, body), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(final String path, final String ip, final String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
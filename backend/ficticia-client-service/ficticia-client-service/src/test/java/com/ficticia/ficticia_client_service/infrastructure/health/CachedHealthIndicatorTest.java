@@ -0,0 +1,99 @@
+package com.ficticia.ficticia_client_service.infrastructure.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Unit tests for {@link CachedHealthIndicator}.
+ */
+class CachedHealthIndicatorTest {
+
+    @Test
+    void shouldReuseResultWithinTtl() {
+        CountingIndicator indicator = new CountingIndicator(60_000);
+
+        indicator.health();
+        indicator.health();
+
+        assertThat(indicator.checks.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCheckAgainOnceTtlExpires() throws InterruptedException {
+        CountingIndicator indicator = new CountingIndicator(20);
+
+        indicator.health();
+        Thread.sleep(40);
+        indicator.health();
+
+        assertThat(indicator.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportDownWhenCheckThrows() {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(60_000) {
+            @Override
+            protected Health check() {
+                throw new IllegalStateException("boom");
+            }
+        };
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+    }
+
+    @Test
+    void shouldServeStaleResultWhileAnotherCallerRefreshes() throws Exception {
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger checks = new AtomicInteger();
+        CachedHealthIndicator indicator = new CachedHealthIndicator(0) {
+            @Override
+            protected Health check() throws InterruptedException {
+                if (checks.incrementAndGet() == 2) {
+                    refreshing.countDown();
+                    release.await();
+                }
+                return Health.up().build();
+            }
+        };
+        indicator.health();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Health> slowRefresh = executor.submit(indicator::health);
+            assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+            assertThat(checks.get()).isEqualTo(2);
+
+            release.countDown();
+            assertThat(slowRefresh.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.UP);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class CountingIndicator extends CachedHealthIndicator {
+
+        private final AtomicInteger checks = new AtomicInteger();
+
+        private CountingIndicator(final long ttlMillis) {
+            super(ttlMillis);
+        }
+
+        @Override
+        protected Health check() {
+            checks.incrementAndGet();
+            return Health.up().build();
+        }
+    }
+}
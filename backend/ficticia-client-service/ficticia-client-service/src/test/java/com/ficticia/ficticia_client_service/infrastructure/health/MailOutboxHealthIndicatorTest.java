@@ -0,0 +1,37 @@
+package com.ficticia.ficticia_client_service.infrastructure.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.ficticia.ficticia_client_service.application.mail.MailOutboxDispatcher;
+
+/**
+ * Unit tests for {@link MailOutboxHealthIndicator}.
+ */
+class MailOutboxHealthIndicatorTest {
+
+    private final MailOutboxDispatcher dispatcher = mock(MailOutboxDispatcher.class);
+    private final MailOutboxHealthIndicator indicator = new MailOutboxHealthIndicator(dispatcher, 100, 0);
+
+    @Test
+    void shouldReportUpWhileBacklogIsWithinLimit() {
+        when(dispatcher.getPendingEmails()).thenReturn(100L);
+
+        Health health = indicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("pending", 100L);
+    }
+
+    @Test
+    void shouldReportDegradedWhenBacklogExceedsLimit() {
+        when(dispatcher.getPendingEmails()).thenReturn(101L);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(MailOutboxHealthIndicator.DEGRADED);
+    }
+}
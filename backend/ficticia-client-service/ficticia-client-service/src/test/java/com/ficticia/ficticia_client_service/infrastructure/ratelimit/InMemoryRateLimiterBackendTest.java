@@ -0,0 +1,73 @@
+package com.ficticia.ficticia_client_service.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InMemoryRateLimiterBackend}.
+ */
+class InMemoryRateLimiterBackendTest {
+
+    private final InMemoryRateLimiterBackend backend = new InMemoryRateLimiterBackend(100, 3600);
+
+    @Test
+    void shouldAllowBurstUpToCapacityThenReject() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 3, Duration.ofMinutes(1));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(backend.tryConsume(policy, "10.0.0.1").allowed()).isTrue();
+        }
+        RateLimitDecision rejected = backend.tryConsume(policy, "10.0.0.1");
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerKeyAndPolicy() {
+        RateLimitPolicy login = new RateLimitPolicy("login", 1, Duration.ofMinutes(1));
+        RateLimitPolicy forgot = new RateLimitPolicy("forgot", 1, Duration.ofMinutes(1));
+
+        assertThat(backend.tryConsume(login, "10.0.0.1").allowed()).isTrue();
+        assertThat(backend.tryConsume(login, "10.0.0.2").allowed()).isTrue();
+        assertThat(backend.tryConsume(forgot, "10.0.0.1").allowed()).isTrue();
+        assertThat(backend.tryConsume(login, "10.0.0.1").allowed()).isFalse();
+    }
+
+    @Test
+    void shouldRefillOverTime() throws InterruptedException {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 1, Duration.ofMillis(50));
+
+        assertThat(backend.tryConsume(policy, "10.0.0.1").allowed()).isTrue();
+        assertThat(backend.tryConsume(policy, "10.0.0.1").allowed()).isFalse();
+        Thread.sleep(80);
+
+        assertThat(backend.tryConsume(policy, "10.0.0.1").allowed()).isTrue();
+    }
+
+    @Test
+    void shouldNeverHandOutMoreTokensThanCapacityUnderContention() throws InterruptedException {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 50, Duration.ofHours(1));
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int attempt = 0; attempt < 400; attempt++) {
+            executor.execute(() -> {
+                if (backend.tryConsume(policy, "shared").allowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+}
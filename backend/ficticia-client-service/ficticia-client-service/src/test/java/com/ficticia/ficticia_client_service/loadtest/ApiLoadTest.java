@@ -0,0 +1,385 @@
+package com.ficticia.ficticia_client_service.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonAdditionalAttributeEntity;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+import com.ficticia.ficticia_client_service.support.SmtpStub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives a mixed workload of list, get, create, update and login requests over HTTP against the whole
+ * application, running on H2 in MySQL mode with a local SMTP stub, so it needs no external service.
+ *
+ * <p>Run with {@code mvn test -Ploadtest}. The workload is sized with system properties:
+ * {@code loadtest.persons} (seeded persons), {@code loadtest.attributes} (attributes per person),
+ * {@code loadtest.concurrency} (client threads), {@code loadtest.warmup-seconds} and
+ * {@code loadtest.duration-seconds}. Throughput and p50/p95/p99 latency per operation are printed and written
+ * to {@code target/loadtest/summary-<mode>.csv} and {@code .json}, where the mode is {@code platform} or
+ * {@code virtual}. To compare both request execution modes, run it again on Java 21 with
+ * {@code mvn test -Ploadtest,java21 -Dspring.profiles.active=dev,virtual-threads}.</p>
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "management.server.port=-1",
+        // The workload logs in far more often than any real client, from a single address
+        "app.security.rate-limit.login.per-ip=100000000",
+        "app.security.rate-limit.login.per-username=100000000"
+})
+class ApiLoadTest {
+
+    private static final String ADMIN_USERNAME = "SUPERADMIN";
+    private static final String ADMIN_PASSWORD = "Prueba123#";
+    private static final int PAGE_SIZE = 50;
+    private static final int SEED_CHUNK = 500;
+    private static final SmtpStub SMTP = new SmtpStub();
+
+    private final int persons = Integer.getInteger("loadtest.persons", 2_000);
+    private final int attributes = Integer.getInteger("loadtest.attributes", 5);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong createdPersons = new AtomicLong();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long[] seededIds;
+    private String token;
+
+    @DynamicPropertySource
+    static void mailProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", SMTP::getPort);
+    }
+
+    @AfterAll
+    static void stopSmtp() throws IOException {
+        SMTP.close();
+    }
+
+    @Test
+    void runMixedWorkload() throws Exception {
+        seed();
+        token = login().path("token").asText();
+        assertThat(token).isNotBlank();
+
+        drive(Duration.ofSeconds(warmupSeconds));
+        Map<Operation, List<Sample>> samples = drive(Duration.ofSeconds(durationSeconds));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<Sample> all = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            List<Sample> operationSamples = samples.getOrDefault(operation, List.of());
+            all.addAll(operationSamples);
+            rows.add(summarize(operation.name().toLowerCase(Locale.ROOT), operationSamples));
+        }
+        rows.add(summarize("all", all));
+        writeReports(rows);
+        assertThat(all).isNotEmpty();
+    }
+
+    private void seed() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Long> ids = new ArrayList<>(persons);
+        for (int start = 0; start < persons; start += SEED_CHUNK) {
+            int end = Math.min(persons, start + SEED_CHUNK);
+            int first = start;
+            ids.addAll(transaction.execute(status -> {
+                List<PersonEntity> chunk = new ArrayList<>(end - first);
+                for (int index = first; index < end; index++) {
+                    chunk.add(seedPerson(index));
+                }
+                return personRepository.saveAll(chunk).stream().map(PersonEntity::getId).toList();
+            }));
+        }
+        seededIds = ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private PersonEntity seedPerson(final int index) {
+        PersonEntity person = PersonEntity.builder()
+                .fullName("Load Person " + index)
+                .identification("LOAD-" + index)
+                .age(18 + index % 80)
+                .gender(index % 2 == 0 ? "FEMALE" : "MALE")
+                .active(Boolean.TRUE)
+                .drives(index % 3 == 0)
+                .wearsGlasses(index % 5 == 0)
+                .diabetic(Boolean.FALSE)
+                .build();
+        for (int attribute = 0; attribute < attributes; attribute++) {
+            person.getAdditionalAttributes().add(PersonAdditionalAttributeEntity.builder()
+                    .person(person)
+                    .attrKey("key-" + attribute)
+                    .attrValue("value-" + attribute)
+                    .build());
+        }
+        return person;
+    }
+
+    private Map<Operation, List<Sample>> drive(final Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Callable<Map<Operation, List<Sample>>>> tasks = new ArrayList<>();
+            for (int worker = 0; worker < concurrency; worker++) {
+                tasks.add(() -> runWorker(deadline));
+            }
+            Map<Operation, List<Sample>> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, List<Sample>>> future : workers.invokeAll(tasks)) {
+                future.get().forEach((operation, samples) ->
+                        merged.computeIfAbsent(operation, key -> new ArrayList<>()).addAll(samples));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Operation, List<Sample>> runWorker(final long deadline) {
+        Map<Operation, List<Sample>> samples = new EnumMap<>(Operation.class);
+        String cursor = null;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Operation operation = Operation.pick(random.nextInt(100));
+            long startedAt = System.nanoTime();
+            int status;
+            try {
+                status = switch (operation) {
+                    case LIST -> {
+                        String query = cursor == null
+                                ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+                        HttpResponse<String> response = send(get("/api/persons/page?size=" + PAGE_SIZE + query));
+                        JsonNode page = objectMapper.readTree(response.body());
+                        cursor = page.path("hasMore").asBoolean() ? page.path("nextCursor").asText() : null;
+                        yield response.statusCode();
+                    }
+                    case GET -> send(get("/api/persons/" + randomSeededId(random))).statusCode();
+                    case CREATE -> send(authorized("/api/persons")
+                            .POST(json(personJson("LOAD-NEW-" + createdPersons.incrementAndGet(),
+                                    random.nextInt(18, 99))))
+                            .build()).statusCode();
+                    case UPDATE -> {
+                        int index = random.nextInt(seededIds.length);
+                        yield send(authorized("/api/persons/" + seededIds[index])
+                                .header(HttpHeaders.IF_MATCH, "*")
+                                .PUT(json(personJson("LOAD-" + index, random.nextInt(18, 99))))
+                                .build()).statusCode();
+                    }
+                    case LOGIN -> send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                            .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                            .POST(json(loginJson()))
+                            .build()).statusCode();
+                };
+            } catch (IOException ex) {
+                status = -1;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            samples.computeIfAbsent(operation, key -> new ArrayList<>())
+                    .add(new Sample(System.nanoTime() - startedAt, status >= 200 && status < 300));
+        }
+        return samples;
+    }
+
+    private JsonNode login() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(json(loginJson()))
+                .build());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private long randomSeededId(final ThreadLocalRandom random) {
+        return seededIds[random.nextInt(seededIds.length)];
+    }
+
+    private HttpRequest get(final String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest.Builder authorized(final String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(30))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json");
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private HttpResponse<String> send(final HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.BodyPublisher json(final Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private Map<String, Object> personJson(final String identification, final int age) {
+        Map<String, Object> person = new LinkedHashMap<>();
+        person.put("fullName", "Load Person " + identification);
+        person.put("identification", identification);
+        person.put("age", age);
+        person.put("gender", "FEMALE");
+        person.put("active", Boolean.TRUE);
+        person.put("drives", Boolean.FALSE);
+        person.put("wearsGlasses", Boolean.FALSE);
+        person.put("diabetic", Boolean.FALSE);
+        List<Map<String, String>> additionalAttributes = new ArrayList<>();
+        for (int attribute = 0; attribute < attributes; attribute++) {
+            additionalAttributes.add(Map.of("key", "key-" + attribute, "value", "value-" + attribute));
+        }
+        person.put("additionalAttributes", additionalAttributes);
+        return person;
+    }
+
+    private Map<String, String> loginJson() {
+        return Map.of("username", ADMIN_USERNAME, "password", ADMIN_PASSWORD);
+    }
+
+    private Map<String, Object> summarize(final String operation, final List<Sample> samples) {
+        long[] latencies = samples.stream().mapToLong(Sample::nanos).sorted().toArray();
+        long errors = samples.stream().filter(sample -> !sample.ok()).count();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("operation", operation);
+        row.put("requests", latencies.length);
+        row.put("errors", errors);
+        row.put("throughput_per_second", round(latencies.length / (double) durationSeconds));
+        row.put("p50_ms", percentileMillis(latencies, 0.50));
+        row.put("p95_ms", percentileMillis(latencies, 0.95));
+        row.put("p99_ms", percentileMillis(latencies, 0.99));
+        row.put("max_ms", latencies.length == 0 ? 0 : round(latencies[latencies.length - 1] / 1_000_000d));
+        return row;
+    }
+
+    private double percentileMillis(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return round(sorted[Math.max(0, index)] / 1_000_000d);
+    }
+
+    private double round(final double value) {
+        return Math.round(value * 100) / 100d;
+    }
+
+    private void writeReports(final List<Map<String, Object>> rows) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.join(",", rows.get(0).keySet()));
+        for (Map<String, Object> row : rows) {
+            lines.add(String.join(",", row.values().stream().map(String::valueOf).toList()));
+        }
+        lines.forEach(System.out::println);
+        String mode = virtualThreads ? "virtual" : "platform";
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", mode);
+        report.put("persons", persons);
+        report.put("attributesPerPerson", attributes);
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", durationSeconds);
+        report.put("operations", rows);
+        Path directory = Path.of("target", "loadtest");
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("summary-" + mode + ".csv"), lines);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(directory.resolve("summary-" + mode + ".json").toFile(), report);
+    }
+
+    /**
+     * Operations of the mix, with the share of requests each one takes.
+     */
+    private enum Operation {
+        LIST(30),
+        GET(40),
+        CREATE(10),
+        UPDATE(15),
+        LOGIN(5);
+
+        private final int share;
+
+        Operation(final int share) {
+            this.share = share;
+        }
+
+        static Operation pick(final int roll) {
+            int threshold = 0;
+            for (Operation operation : values()) {
+                threshold += operation.share;
+                if (roll < threshold) {
+                    return operation;
+                }
+            }
+            return LOGIN;
+        }
+    }
+
+    private record Sample(long nanos, boolean ok) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.ficticia.ficticia_client_service.support;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ficticia.ficticia_client_service.api.dtos.PersonRequest;
+import com.ficticia.ficticia_client_service.application.validators.DefaultPersonValidator;
+import com.ficticia.ficticia_client_service.application.validators.PersonValidator;
+import com.ficticia.ficticia_client_service.infrastructure.entities.PersonEntity;
+import com.ficticia.ficticia_client_service.infrastructure.repositories.PersonRepository;
+
+/**
+ * Person validator that, for identifications starting with {@link #RACING_PREFIX}, commits a person with the
+ * same identification from a separate transaction. Validation runs after the uniqueness lookup and before the
+ * flush, so this reproduces a concurrent writer taking the identification in between.
+ */
+public class ConcurrentWriterPersonValidator implements PersonValidator {
+
+    /** Prefix of the identifications that another writer takes during validation. */
+    public static final String RACING_PREFIX = "RACE-";
+
+    private final PersonValidator delegate = new DefaultPersonValidator();
+    private final PersonRepository personRepository;
+    private final TransactionTemplate concurrentWriter;
+
+    /**
+     * Creates a new {@link ConcurrentWriterPersonValidator}.
+     *
+     * @param personRepository   repository used by the concurrent writer
+     * @param transactionManager manager used to commit the concurrent write independently
+     */
+    public ConcurrentWriterPersonValidator(final PersonRepository personRepository,
+                                           final PlatformTransactionManager transactionManager) {
+        this.personRepository = personRepository;
+        this.concurrentWriter = new TransactionTemplate(transactionManager);
+        this.concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void validateForCreate(final PersonRequest request) {
+        delegate.validateForCreate(request);
+        if (request.getIdentification().startsWith(RACING_PREFIX)) {
+            concurrentWriter.executeWithoutResult(status -> personRepository.save(PersonEntity.builder()
+                    .fullName("Concurrent Writer")
+                    .identification(request.getIdentification())
+                    .age(40)
+                    .gender("MALE")
+                    .active(Boolean.TRUE)
+                    .drives(Boolean.FALSE)
+                    .wearsGlasses(Boolean.FALSE)
+                    .diabetic(Boolean.FALSE)
+                    .build()));
+        }
+    }
+
+    @Override
+    public void validateForUpdate(final Long id, final PersonRequest request) {
+        delegate.validateForUpdate(id, request);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ficticia.ficticia_client_service.support;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that records the SQL it sees, so tests can assert on the statements a write
+ * produced. Register it with {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(final String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Forgets the statements recorded so far.
+     */
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Returns the recorded UPDATE statements.
+     *
+     * @return update statements in execution order
+     */
+    public static List<String> updates() {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("update"))
+                .toList();
+    }
+}
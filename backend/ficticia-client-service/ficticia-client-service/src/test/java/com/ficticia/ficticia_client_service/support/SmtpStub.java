@@ -0,0 +1,142 @@
+package com.ficticia.ficticia_client_service.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Minimal local SMTP server for tests. It accepts every message, except recipients registered through
+ * {@link #rejectRecipient(String)}, and keeps what it received in memory.
+ */
+public final class SmtpStub implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final List<ReceivedMail> received = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts the server on a free local port.
+     */
+    public SmtpStub() {
+        try {
+            this.serverSocket = new ServerSocket(0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        Thread acceptor = new Thread(this::acceptConnections, "smtp-stub");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Retrieves the port the server listens on.
+     *
+     * @return local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Makes the server answer {@code 550} for the provided recipient.
+     *
+     * @param recipient address to reject
+     */
+    public void rejectRecipient(final String recipient) {
+        rejectedRecipients.add(recipient.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Retrieves the messages accepted so far.
+     *
+     * @return accepted messages in arrival order
+     */
+    public List<ReceivedMail> getReceived() {
+        return List.copyOf(received);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread session = new Thread(() -> handle(socket), "smtp-stub-session");
+                session.setDaemon(true);
+                session.start();
+            } catch (IOException ex) {
+                return;
+            }
+        }
+    }
+
+    private void handle(final Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            OutputStream output = socket.getOutputStream();
+            reply(output, "220 localhost SMTP stub");
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.toUpperCase(Locale.ROOT);
+                if (command.startsWith("RCPT TO:")) {
+                    String recipient = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                    if (rejectedRecipients.contains(recipient.toLowerCase(Locale.ROOT))) {
+                        reply(output, "550 Mailbox unavailable");
+                    } else {
+                        recipients.add(recipient);
+                        reply(output, "250 OK");
+                    }
+                } else if (command.equals("DATA")) {
+                    reply(output, "354 End data with <CR><LF>.<CR><LF>");
+                    StringBuilder data = new StringBuilder();
+                    while ((line = reader.readLine()) != null && !line.equals(".")) {
+                        data.append(line).append('\n');
+                    }
+                    received.add(new ReceivedMail(List.copyOf(recipients), data.toString()));
+                    recipients.clear();
+                    reply(output, "250 OK");
+                } else if (command.equals("RSET")) {
+                    recipients.clear();
+                    reply(output, "250 OK");
+                } else if (command.equals("QUIT")) {
+                    reply(output, "221 Bye");
+                    return;
+                } else {
+                    reply(output, "250 OK");
+                }
+            }
+        } catch (IOException ex) {
+            // Client went away
+        }
+    }
+
+    private void reply(final OutputStream output, final String line) throws IOException {
+        output.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+    }
+
+    /**
+     * Message accepted by the stub.
+     *
+     * @param recipients envelope recipients
+     * @param data       raw message, headers included
+     */
+    public record ReceivedMail(List<String> recipients, String data) {
+    }
+}
@@ -1,7 +1,12 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { PersonPayload, PersonResponse } from '../../shared/models/person.model';
+import {
+  PersonPayload,
+  PersonResponse,
+  PersonSearchFilters,
+  PersonSearchResponse
+} from '../../shared/models/person.model';
 import { environment } from '../../../environments/environment';
 
 @Injectable({
@@ -20,10 +25,25 @@ export class PersonService {
   }
 
   /**
-   * Updates an existing person.
+   * Searches persons on the server, which applies filters, sorting and pagination.
    */
-  updatePerson(id: number, payload: PersonPayload): Observable<PersonResponse> {
-    return this.http.put<PersonResponse>(`${this.resourceUrl}/${id}`, payload);
+  searchPersons(filters: PersonSearchFilters): Observable<PersonSearchResponse> {
+    let params = new HttpParams();
+    Object.entries(filters).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== '') {
+        params = params.set(key, String(value));
+      }
+    });
+    return this.http.get<PersonSearchResponse>(`${this.resourceUrl}/search`, { params });
+  }
+
+  /**
+   * Updates an existing person. The version read by the client is sent as If-Match, so the backend
+   * answers 412 instead of overwriting changes made by someone else in the meantime.
+   */
+  updatePerson(id: number, payload: PersonPayload, version: number): Observable<PersonResponse> {
+    const headers = new HttpHeaders({ 'If-Match': `"${version}"` });
+    return this.http.put<PersonResponse>(`${this.resourceUrl}/${id}`, payload, { headers });
   }
 
   /**
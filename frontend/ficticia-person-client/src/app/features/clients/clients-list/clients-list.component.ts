@@ -3,9 +3,19 @@ import { Component, EventEmitter, HostListener, Input, Output } from '@angular/c
 import { FormsModule } from '@angular/forms';
 import { PersonResponse } from '../../../shared/models/person.model';
 
+/**
+ * Filters selected in the list toolbar; the page container turns them into a server-side search.
+ */
+export interface ClientListFilters {
+  searchTerm: string;
+  statusFilter: 'ALL' | 'ACTIVE' | 'INACTIVE';
+  sortDirection: 'asc' | 'desc';
+}
+
 /**
  * Renders the searchable and filterable list of clients.
  * Handles the table, filters and "new client" action placeholder.
+ * Filtering and sorting happen on the server; this component only reports the selected filters.
  */
 @Component({
   standalone: true,
@@ -15,14 +25,22 @@ import { PersonResponse } from '../../../shared/models/person.model';
   styleUrls: ['./clients-list.component.css']
 })
 export class ClientsListComponent {
-  /** Incoming client dataset supplied by the page container. */
+  /** Incoming page of clients already filtered and sorted by the server. */
   @Input() clients: PersonResponse[] = [];
+  /** Whether the server reported more results after the loaded ones. */
+  @Input() hasMore = false;
+  /** Whether a search request is in flight. */
+  @Input() searching = false;
   /** Notifies parent components that the New Client CTA was selected. */
   @Output() newClient = new EventEmitter<void>();
   /** Notifies parent components to edit an existing client. */
   @Output() editClient = new EventEmitter<PersonResponse>();
   /** Notifies parent components to delete an existing client. */
   @Output() deleteClient = new EventEmitter<PersonResponse>();
+  /** Notifies parent components that the filters changed and a new search is required. */
+  @Output() filtersChange = new EventEmitter<ClientListFilters>();
+  /** Notifies parent components that the next page of results was requested. */
+  @Output() loadMore = new EventEmitter<void>();
 
   /** Free text filter applied to name or identification. */
   searchTerm = '';
@@ -35,33 +53,21 @@ export class ClientsListComponent {
   openActionsForId: number | null = null;
 
   /**
-   * Returns the dataset filtered by the search term and the status selector.
+   * Emits the current filters so the parent can query the server.
    */
-  get filteredClients(): PersonResponse[] {
-    const normalizedTerm = this.normalizeText(this.searchTerm);
-
-    const filtered = this.clients.filter((client) => {
-      const normalizedFullName = this.normalizeText(client.fullName);
-      const normalizedIdentification = this.normalizeText(client.identification);
-
-      const matchesSearch =
-        normalizedTerm.length === 0 ||
-        normalizedFullName.includes(normalizedTerm) ||
-        normalizedIdentification.includes(normalizedTerm);
-
-      const matchesStatus =
-        this.statusFilter === 'ALL' ||
-        (this.statusFilter === 'ACTIVE' && client.active) ||
-        (this.statusFilter === 'INACTIVE' && !client.active);
-
-      return matchesSearch && matchesStatus;
+  onFiltersChange(): void {
+    this.filtersChange.emit({
+      searchTerm: this.searchTerm.trim(),
+      statusFilter: this.statusFilter,
+      sortDirection: this.sortDirection
     });
+  }
 
-    return filtered.slice().sort((a, b) => {
-      const aId = Number(a.id) || 0;
-      const bId = Number(b.id) || 0;
-      return this.sortDirection === 'desc' ? bId - aId : aId - bId;
-    });
+  /**
+   * Requests the next page of results.
+   */
+  onLoadMore(): void {
+    this.loadMore.emit();
   }
 
   /**
@@ -81,16 +87,7 @@ export class ClientsListComponent {
 
   toggleSortDirection(): void {
     this.sortDirection = this.sortDirection === 'desc' ? 'asc' : 'desc';
-  }
-
-  /**
-   * Normalizes diacritics and casing so text comparisons are accent/case insensitive.
-   */
-  private normalizeText(value?: string | null): string {
-    return (value ?? '')
-      .normalize('NFD')
-      .replace(/[\u0300-\u036f]/g, '')
-      .toLowerCase();
+    this.onFiltersChange();
   }
 
   onDeleteClient(client: PersonResponse): void {
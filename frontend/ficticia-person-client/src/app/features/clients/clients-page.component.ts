@@ -1,20 +1,28 @@
 import { CommonModule, DOCUMENT } from '@angular/common';
 import { Component, DestroyRef, OnDestroy, OnInit, inject, signal } from '@angular/core';
 import { SidebarComponent, SidebarLink } from '../../shared/components/sidebar/sidebar.component';
-import { ClientsListComponent } from './clients-list/clients-list.component';
+import { ClientListFilters, ClientsListComponent } from './clients-list/clients-list.component';
 import { ModalComponent } from '../../shared/components/modal/modal.component';
 import { NewClientFormComponent } from './new-client-form/new-client-form.component';
 import { CompanyBranding, DEFAULT_COMPANY_BRANDING } from '../../shared/models/branding.model';
-import { PersonPayload, PersonResponse } from '../../shared/models/person.model';
+import {
+  PersonPayload,
+  PersonResponse,
+  PersonSearchFilters,
+  PersonSearchResponse
+} from '../../shared/models/person.model';
 import { PersonService } from '../../core/services/person.service';
 import { takeUntilDestroyed } from '@angular/core/rxjs-interop';
 import { FeedbackPanelComponent } from '../../shared/components/feedback-panel/feedback-panel.component';
 import { HttpErrorResponse } from '@angular/common/http';
-import { finalize } from 'rxjs';
+import { Subject, catchError, debounceTime, finalize, map, of, switchMap, tap } from 'rxjs';
+
+/** Number of clients requested per search page. */
+const CLIENTS_PAGE_SIZE = 50;
 
 /**
  * Page-level container that wires navbar, sidebar and the clients list view.
- * Fetches the real client dataset before rendering the list.
+ * Translates the list filters into server-side searches and pages through the results.
  */
 @Component({
   standalone: true,
@@ -62,6 +70,8 @@ export class ClientsPageComponent implements OnInit, OnDestroy {
   /** Clients fetched from the backend. */
   readonly clients = signal<PersonResponse[]>([]);
   readonly isLoading = signal<boolean>(false);
+  readonly searching = signal<boolean>(false);
+  readonly hasMore = signal<boolean>(false);
   readonly loadError = signal<string>('');
   readonly saving = signal<boolean>(false);
   readonly feedbackState = signal<{
@@ -77,12 +87,20 @@ export class ClientsPageComponent implements OnInit, OnDestroy {
   pendingDelete: PersonResponse | null = null;
   deleting = signal<boolean>(false);
 
+  /** Keeps the list visible once the user filtered, even when the search has no matches. */
+  filtersApplied = false;
+
   private readonly personService = inject(PersonService);
   private readonly destroyRef = inject(DestroyRef);
   private readonly document = inject(DOCUMENT);
+  private readonly filterChanges = new Subject<ClientListFilters>();
+  private readonly searchRequests = new Subject<number>();
+  private filters: ClientListFilters = { searchTerm: '', statusFilter: 'ALL', sortDirection: 'desc' };
+  private currentPage = 0;
 
   ngOnInit(): void {
     this.enableBodyScroll();
+    this.listenToSearches();
     this.loadClients();
   }
 
@@ -92,25 +110,74 @@ export class ClientsPageComponent implements OnInit, OnDestroy {
 
   private loadClients(): void {
     this.isLoading.set(true);
-    this.loadError.set('');
+    this.searchRequests.next(0);
+  }
 
-    this.personService
-      .getPersons()
-      .pipe(takeUntilDestroyed(this.destroyRef))
-      .subscribe({
-        next: (clients) => {
-          this.clients.set(Array.isArray(clients) ? clients : []);
-          this.isLoading.set(false);
-        },
-        error: (error) => {
-          console.error('Failed to load clients', error);
-          this.clients.set([]);
-          this.isLoading.set(false);
+  /**
+   * Debounces filter changes and runs searches, cancelling stale requests so only the latest result renders.
+   */
+  private listenToSearches(): void {
+    this.filterChanges
+      .pipe(debounceTime(300), takeUntilDestroyed(this.destroyRef))
+      .subscribe((filters) => {
+        this.filters = filters;
+        this.filtersApplied = true;
+        this.searchRequests.next(0);
+      });
+
+    this.searchRequests
+      .pipe(
+        tap(() => {
+          this.searching.set(true);
+          this.loadError.set('');
+        }),
+        switchMap((page) =>
+          this.personService.searchPersons(this.toSearchFilters(page)).pipe(
+            map((result): { page: number; result: PersonSearchResponse | null } => ({ page, result })),
+            catchError((error) => {
+              console.error('Failed to load clients', error);
+              return of({ page, result: null });
+            })
+          )
+        ),
+        takeUntilDestroyed(this.destroyRef)
+      )
+      .subscribe(({ page, result }) => {
+        this.searching.set(false);
+        this.isLoading.set(false);
+        if (!result) {
+          if (page === 0) {
+            this.clients.set([]);
+          }
+          this.hasMore.set(false);
           this.loadError.set('No pudimos obtener la lista de clientes. Intenta nuevamente.');
+          return;
         }
+        this.currentPage = page;
+        this.clients.update((list) => (page === 0 ? result.items : [...list, ...result.items]));
+        this.hasMore.set(result.hasNext);
       });
   }
 
+  private toSearchFilters(page: number): PersonSearchFilters {
+    return {
+      query: this.filters.searchTerm || undefined,
+      active: this.filters.statusFilter === 'ALL' ? undefined : this.filters.statusFilter === 'ACTIVE',
+      page,
+      size: CLIENTS_PAGE_SIZE,
+      sort: 'ID',
+      direction: this.filters.sortDirection === 'desc' ? 'DESC' : 'ASC'
+    };
+  }
+
+  onFiltersChange(filters: ClientListFilters): void {
+    this.filterChanges.next(filters);
+  }
+
+  onLoadMore(): void {
+    this.searchRequests.next(this.currentPage + 1);
+  }
+
   private enableBodyScroll(): void {
     const htmlElement = this.document.documentElement;
     htmlElement.style.overflow = 'auto';
@@ -150,7 +217,7 @@ export class ClientsPageComponent implements OnInit, OnDestroy {
 
     if (this.modalMode === 'edit' && this.selectedClient) {
       this.personService
-        .updatePerson(this.selectedClient.id, payload)
+        .updatePerson(this.selectedClient.id, payload, this.selectedClient.version)
         .pipe(
           takeUntilDestroyed(this.destroyRef),
           finalize(() => {
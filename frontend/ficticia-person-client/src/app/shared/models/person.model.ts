@@ -25,6 +25,8 @@ export interface PersonResponse {
   diabetic: boolean;
   otherDisease: string | null;
   additionalAttributes: AdditionalAttribute[];
+  version: number;
+  updatedAt: string;
 }
 
 export interface PersonPayload {
@@ -39,3 +41,25 @@ export interface PersonPayload {
   otherDisease: string | null;
   additionalAttributes?: AdditionalAttribute[];
 }
+
+/**
+ * Filters accepted by the server-side person search (`GET /api/persons/search`).
+ */
+export interface PersonSearchFilters {
+  query?: string;
+  active?: boolean;
+  page?: number;
+  size?: number;
+  sort?: 'ID' | 'FULL_NAME' | 'AGE' | 'UPDATED_AT';
+  direction?: 'ASC' | 'DESC';
+}
+
+/**
+ * Page of results returned by the server-side person search.
+ */
+export interface PersonSearchResponse {
+  items: PersonResponse[];
+  page: number;
+  size: number;
+  hasNext: boolean;
+}